@@ -0,0 +1,98 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.exclusions.NoViolationExclusions;
+import com.getyourguide.openapi.validation.api.log.LogLevel;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.metrics.NullMetricTagProvider;
+import com.getyourguide.openapi.validation.api.metrics.client.NoOpMetricsClient;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
+import com.getyourguide.openapi.validation.api.model.ValidatorConfiguration;
+import com.getyourguide.openapi.validation.api.model.ValidatorConfigurationBuilder;
+import com.getyourguide.openapi.validation.core.OpenApiInteractionValidatorFactory;
+import com.getyourguide.openapi.validation.core.OpenApiRequestValidationConfiguration;
+import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
+import com.getyourguide.openapi.validation.core.exclusions.InternalViolationExclusions;
+import com.getyourguide.openapi.validation.core.mapper.ValidationReportToOpenApiViolationsMapper;
+import com.getyourguide.openapi.validation.core.metrics.DefaultMetricsReporter;
+import com.getyourguide.openapi.validation.core.validator.OpenApiInteractionValidatorWrapper;
+
+/**
+ * Specs used by the benchmarks.
+ */
+public enum BenchmarkSpec {
+    /**
+     * Spec used by the integration tests in test/openapi-web (loaded from resources).
+     */
+    TEST("openapi.yaml"),
+    /**
+     * Synthetic spec with hundreds of paths and deep allOf/oneOf schemas.
+     */
+    LARGE(null);
+
+    public static final int LARGE_SPEC_RESOURCE_COUNT = 250;
+    public static final int LARGE_SPEC_DEPTH = 6;
+
+    private final String resourcePath;
+
+    BenchmarkSpec(String resourcePath) {
+        this.resourcePath = resourcePath;
+    }
+
+    public String getSpecificationFilePath() {
+        if (resourcePath != null) {
+            return resourcePath;
+        }
+        return SyntheticSpecGenerator.writeToTempFile(LARGE_SPEC_RESOURCE_COUNT, LARGE_SPEC_DEPTH).toString();
+    }
+
+    public OpenApiInteractionValidatorWrapper buildValidatorWrapper() {
+        return buildValidatorWrapper(SchemaValidationEngine.DEFAULT);
+    }
+
+    public OpenApiInteractionValidatorWrapper buildValidatorWrapper(SchemaValidationEngine engine) {
+        var wrapper = new OpenApiInteractionValidatorFactory(buildMetricsReporter())
+            .build(getSpecificationFilePath(), buildValidatorConfiguration(engine));
+        if (wrapper == null) {
+            throw new IllegalStateException("Could not build validator for spec " + name());
+        }
+        return wrapper;
+    }
+
+    public OpenApiRequestValidator buildRequestValidator() {
+        return buildRequestValidator(SchemaValidationEngine.DEFAULT);
+    }
+
+    public OpenApiRequestValidator buildRequestValidator(SchemaValidationEngine engine) {
+        var configuration = OpenApiRequestValidationConfiguration.builder()
+            .sampleRate(1.0)
+            .validationReportThrottleWaitSeconds(0)
+            .build();
+        return new OpenApiRequestValidator(
+            Runnable::run,
+            buildMetricsReporter(),
+            buildValidatorWrapper(engine),
+            new ValidationReportToOpenApiViolationsMapper(),
+            new InternalViolationExclusions(new NoViolationExclusions()),
+            configuration
+        );
+    }
+
+    private static MetricsReporter buildMetricsReporter() {
+        return new DefaultMetricsReporter(
+            new NoOpMetricsClient(),
+            new NullMetricTagProvider(),
+            DefaultMetricsReporter.Configuration.builder().metricName("openapi.validation").build()
+        );
+    }
+
+    /**
+     * Same configuration as the default one of the spring boot starter.
+     */
+    private static ValidatorConfiguration buildValidatorConfiguration(SchemaValidationEngine engine) {
+        return new ValidatorConfigurationBuilder()
+            .levelResolverLevel("validation.request.parameter.query.unexpected", LogLevel.IGNORE)
+            .levelResolverDefaultLevel(LogLevel.INFO)
+            .schemaValidationEngine(engine)
+            .build();
+    }
+}
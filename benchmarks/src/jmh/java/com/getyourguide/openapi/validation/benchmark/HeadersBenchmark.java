@@ -0,0 +1,82 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.model.Headers;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares building and looking up {@link Headers} with the case-insensitive {@link TreeMap} it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HeadersBenchmark {
+
+    @Param({"5", "25"})
+    public int headerCount;
+
+    private String[] names;
+    private String[] values;
+    private Map<String, String> treeMap;
+    private Headers headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        names = new String[headerCount];
+        values = new String[headerCount];
+        names[0] = "Content-Type";
+        values[0] = "application/json";
+        for (int i = 1; i < headerCount; i++) {
+            names[i] = "X-Custom-Header-" + i;
+            values[i] = "value-" + i;
+        }
+        treeMap = buildTreeMap();
+        headers = buildHeaders();
+    }
+
+    @Benchmark
+    public Map<String, String> buildTreeMap() {
+        var map = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        for (int i = 0; i < names.length; i++) {
+            map.put(names[i], values[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Headers buildHeaders() {
+        var builder = Headers.builder();
+        for (int i = 0; i < names.length; i++) {
+            builder.add(names[i], values[i]);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public void lookupTreeMap(Blackhole blackhole) {
+        lookup(treeMap, blackhole);
+    }
+
+    @Benchmark
+    public void lookupHeaders(Blackhole blackhole) {
+        lookup(headers, blackhole);
+    }
+
+    // The lookups done per request: content type, user agent and an excluded header check
+    private static void lookup(Map<String, String> map, Blackhole blackhole) {
+        blackhole.consume(map.get("content-type"));
+        blackhole.consume(map.get("User-Agent"));
+        blackhole.consume(map.get("x-is-bot"));
+    }
+}
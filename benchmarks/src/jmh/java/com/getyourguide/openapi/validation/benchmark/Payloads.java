@@ -0,0 +1,61 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.model.Headers;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Request/response payloads used by the benchmarks.
+ */
+public final class Payloads {
+    public static final String LARGE_SPEC_LAST_RESOURCE = "/resources-" + (BenchmarkSpec.LARGE_SPEC_RESOURCE_COUNT - 1);
+
+    public static final String TEST_BODY_VALID = "{\"value\":\"value\",\"responseStatusCode\":200}";
+    public static final String TEST_BODY_INVALID = "{\"value\":1,\"responseStatusCode\":\"200\"}";
+    public static final String TEST_RESPONSE_BODY_VALID = "{\"value\":\"value\"}";
+    public static final String TEST_RESPONSE_BODY_INVALID = "{\"value\":\"value123\"}";
+
+    public static final String LARGE_BODY_VALID = "{\"id\":42,"
+        + levelFields()
+        + ",\"tags\":[\"first\",\"second\",\"third\"],\"payload\":{\"kind\":\"a\",\"name\":\"Some name\"}}";
+    public static final String LARGE_BODY_INVALID = "{\"id\":\"42\",\"field0\":1,"
+        + "\"tags\":[1,2,3],\"payload\":{\"kind\":\"c\",\"amount\":-1}}";
+
+    private Payloads() {
+    }
+
+    public static RequestMetaData request(String method, String pathAndQuery) {
+        return new RequestMetaData(
+            method,
+            URI.create("https://api.example.com" + pathAndQuery),
+            headers(Map.of(
+                "Content-Type", "application/json",
+                "Accept", "application/json",
+                "User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko)",
+                "X-Request-Id", "5b0d9e4c-3a4f-4a8e-9b3a-0d3c1f1f2a77"
+            ))
+        );
+    }
+
+    public static ResponseMetaData response(int statusCode) {
+        return new ResponseMetaData(
+            statusCode,
+            "application/json",
+            headers(Map.of("Content-Type", "application/json"))
+        );
+    }
+
+    private static Map<String, String> headers(Map<String, String> headers) {
+        return Headers.copyOf(headers);
+    }
+
+    private static String levelFields() {
+        return IntStream.range(0, BenchmarkSpec.LARGE_SPEC_DEPTH)
+            .mapToObj(level -> "\"field" + level + "\":\"value" + level + "\"")
+            .collect(Collectors.joining(","));
+    }
+}
@@ -0,0 +1,78 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
+import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link OpenApiRequestValidator#validateRequestObject(RequestMetaData, String)} and its byte
+ * oriented variant {@link OpenApiRequestValidator#validateRequestObject(RequestMetaData, ResponseMetaData, byte[], Charset)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestValidationBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    @Param
+    public SchemaValidationEngine engine;
+
+    private OpenApiRequestValidator validator;
+    private RequestMetaData request;
+    private byte[] bodyBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        validator = scenario.spec.buildRequestValidator(engine);
+        request = Payloads.request(scenario.method, scenario.pathAndQuery);
+        bodyBytes = scenario.body != null ? scenario.body.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Benchmark
+    public List<OpenApiViolation> validateRequestObject() {
+        return validator.validateRequestObject(request, scenario.body);
+    }
+
+    @Benchmark
+    public List<OpenApiViolation> validateRequestObjectBytes() {
+        return validator.validateRequestObject(request, null, bodyBytes, StandardCharsets.UTF_8);
+    }
+
+    public enum Scenario {
+        TEST_GET_VALID(BenchmarkSpec.TEST, "GET", "/test?date=2023-11-20&value=abc", null),
+        TEST_POST_VALID(BenchmarkSpec.TEST, "POST", "/test", Payloads.TEST_BODY_VALID),
+        TEST_POST_INVALID(BenchmarkSpec.TEST, "POST", "/test", Payloads.TEST_BODY_INVALID),
+        LARGE_GET_VALID(BenchmarkSpec.LARGE, "GET", Payloads.LARGE_SPEC_LAST_RESOURCE + "/42?fields=id,tags&limit=10", null),
+        LARGE_POST_VALID(BenchmarkSpec.LARGE, "POST", Payloads.LARGE_SPEC_LAST_RESOURCE, Payloads.LARGE_BODY_VALID),
+        LARGE_POST_INVALID(BenchmarkSpec.LARGE, "POST", Payloads.LARGE_SPEC_LAST_RESOURCE, Payloads.LARGE_BODY_INVALID);
+
+        private final BenchmarkSpec spec;
+        private final String method;
+        private final String pathAndQuery;
+        private final String body;
+
+        Scenario(BenchmarkSpec spec, String method, String pathAndQuery, String body) {
+            this.spec = spec;
+            this.method = method;
+            this.pathAndQuery = pathAndQuery;
+            this.body = body;
+        }
+    }
+}
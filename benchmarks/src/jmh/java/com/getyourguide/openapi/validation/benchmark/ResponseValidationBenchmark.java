@@ -0,0 +1,71 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
+import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link OpenApiRequestValidator#validateResponseObject(RequestMetaData, ResponseMetaData, String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ResponseValidationBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    @Param
+    public SchemaValidationEngine engine;
+
+    private OpenApiRequestValidator validator;
+    private RequestMetaData request;
+    private ResponseMetaData response;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        validator = scenario.spec.buildRequestValidator(engine);
+        request = Payloads.request(scenario.method, scenario.path);
+        response = Payloads.response(scenario.statusCode);
+    }
+
+    @Benchmark
+    public List<OpenApiViolation> validateResponseObject() {
+        return validator.validateResponseObject(request, response, scenario.body);
+    }
+
+    public enum Scenario {
+        TEST_GET_VALID(BenchmarkSpec.TEST, "GET", "/test", 200, Payloads.TEST_RESPONSE_BODY_VALID),
+        TEST_GET_INVALID(BenchmarkSpec.TEST, "GET", "/test", 200, Payloads.TEST_RESPONSE_BODY_INVALID),
+        LARGE_GET_VALID(BenchmarkSpec.LARGE, "GET", Payloads.LARGE_SPEC_LAST_RESOURCE + "/42", 200, Payloads.LARGE_BODY_VALID),
+        LARGE_GET_INVALID(BenchmarkSpec.LARGE, "GET", Payloads.LARGE_SPEC_LAST_RESOURCE + "/42", 200, Payloads.LARGE_BODY_INVALID),
+        LARGE_POST_VALID(BenchmarkSpec.LARGE, "POST", Payloads.LARGE_SPEC_LAST_RESOURCE, 201, Payloads.LARGE_BODY_VALID);
+
+        private final BenchmarkSpec spec;
+        private final String method;
+        private final String path;
+        private final int statusCode;
+        private final String body;
+
+        Scenario(BenchmarkSpec spec, String method, String path, int statusCode, String body) {
+            this.spec = spec;
+            this.method = method;
+            this.path = path;
+            this.statusCode = statusCode;
+            this.body = body;
+        }
+    }
+}
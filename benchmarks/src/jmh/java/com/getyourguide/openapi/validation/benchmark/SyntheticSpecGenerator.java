@@ -0,0 +1,182 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generates a large OpenAPI spec with many paths and deeply nested allOf/oneOf schemas.
+ *
+ * <p>Every resource {@code i} gets {@code /resources-i/{id}} (GET) and {@code /resources-i} (POST). Each resource
+ * schema is an allOf chain of {@code depth} levels that ends in a oneOf between two variants.
+ */
+public final class SyntheticSpecGenerator {
+    private SyntheticSpecGenerator() {
+    }
+
+    public static Path writeToTempFile(int resourceCount, int depth) {
+        try {
+            var file = Files.createTempFile("openapi-benchmark-", ".yaml");
+            file.toFile().deleteOnExit();
+            Files.writeString(file, generate(resourceCount, depth), StandardCharsets.UTF_8);
+            return file;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not write synthetic spec", e);
+        }
+    }
+
+    public static String generate(int resourceCount, int depth) {
+        var spec = new StringBuilder(resourceCount * 2048);
+        spec.append("""
+            openapi: 3.0.3
+            info:
+              title: Synthetic benchmark spec
+              version: 1.0.0
+            paths:
+            """);
+        for (int i = 0; i < resourceCount; i++) {
+            appendPaths(spec, i);
+        }
+
+        spec.append("""
+            components:
+              schemas:
+            """);
+        appendLevels(spec, depth);
+        appendVariants(spec);
+        for (int i = 0; i < resourceCount; i++) {
+            appendResourceSchema(spec, i);
+        }
+        return spec.toString();
+    }
+
+    private static void appendPaths(StringBuilder spec, int index) {
+        spec.append("""
+              "/resources-%1$d/{id}":
+                get:
+                  operationId: getResource%1$d
+                  parameters:
+                    - in: path
+                      name: id
+                      required: true
+                      schema:
+                        type: integer
+                        format: int64
+                    - in: query
+                      name: fields
+                      schema:
+                        type: string
+                        pattern: ^[a-z,]*$
+                    - in: query
+                      name: limit
+                      schema:
+                        type: integer
+                        minimum: 1
+                        maximum: 100
+                  responses:
+                    '200':
+                      description: Resource
+                      content:
+                        application/json:
+                          schema:
+                            "$ref": "#/components/schemas/Resource%1$d"
+                    '404':
+                      description: Not found
+              "/resources-%1$d":
+                post:
+                  operationId: createResource%1$d
+                  requestBody:
+                    required: true
+                    content:
+                      application/json:
+                        schema:
+                          "$ref": "#/components/schemas/Resource%1$d"
+                  responses:
+                    '201':
+                      description: Created
+                      content:
+                        application/json:
+                          schema:
+                            "$ref": "#/components/schemas/Resource%1$d"
+            """.formatted(index));
+    }
+
+    private static void appendLevels(StringBuilder spec, int depth) {
+        for (int level = 0; level < depth; level++) {
+            spec.append("""
+                    Level%1$d:
+                      allOf:
+                """.formatted(level));
+            if (level + 1 < depth) {
+                spec.append("""
+                            - "$ref": "#/components/schemas/Level%1$d"
+                    """.formatted(level + 1));
+            }
+            spec.append("""
+                        - type: object
+                          required:
+                            - field%1$d
+                          properties:
+                            field%1$d:
+                              type: string
+                              maxLength: 64
+                """.formatted(level));
+        }
+    }
+
+    private static void appendVariants(StringBuilder spec) {
+        spec.append("""
+                VariantA:
+                  type: object
+                  required:
+                    - kind
+                    - name
+                  properties:
+                    kind:
+                      type: string
+                      enum:
+                        - a
+                    name:
+                      type: string
+                      pattern: ^[a-zA-Z ]+$
+                VariantB:
+                  type: object
+                  required:
+                    - kind
+                    - amount
+                  properties:
+                    kind:
+                      type: string
+                      enum:
+                        - b
+                    amount:
+                      type: number
+                      minimum: 0
+            """);
+    }
+
+    private static void appendResourceSchema(StringBuilder spec, int index) {
+        spec.append("""
+                Resource%1$d:
+                  allOf:
+                    - "$ref": "#/components/schemas/Level0"
+                    - type: object
+                      required:
+                        - id
+                        - payload
+                      properties:
+                        id:
+                          type: integer
+                          format: int64
+                        tags:
+                          type: array
+                          items:
+                            type: string
+                        payload:
+                          oneOf:
+                            - "$ref": "#/components/schemas/VariantA"
+                            - "$ref": "#/components/schemas/VariantB"
+            """.formatted(index));
+    }
+}
@@ -0,0 +1,66 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeader;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.selector.DefaultTrafficSelector;
+import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link DefaultTrafficSelector#shouldRequestBeValidated(RequestMetaData)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TrafficSelectorBenchmark {
+
+    @Param({"1.0", "0.01"})
+    public double sampleRate;
+
+    @Param
+    public Scenario scenario;
+
+    @Param({"0", "100"})
+    public int additionalExclusions;
+
+    private TrafficSelector trafficSelector;
+    private RequestMetaData request;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        var excludedPaths = new HashSet<>(Set.of("/_readiness", "/_liveness", "/_metrics"));
+        var excludedHeaders = new ArrayList<>(List.of(
+            new ExcludedHeader("User-Agent", Pattern.compile(".*(bingbot|googlebot).*", Pattern.CASE_INSENSITIVE)),
+            new ExcludedHeader("x-is-bot", Pattern.compile("true", Pattern.CASE_INSENSITIVE))
+        ));
+        for (int i = 0; i < additionalExclusions; i++) {
+            excludedPaths.add("/internal" + i + "/**");
+            excludedHeaders.add(new ExcludedHeader("User-Agent", Pattern.compile(".*crawler" + i + ".*")));
+        }
+        trafficSelector = new DefaultTrafficSelector(sampleRate, excludedPaths, excludedHeaders, null, null);
+        request = scenario == Scenario.EXCLUDED_PATH
+            ? Payloads.request("GET", "/_readiness")
+            : Payloads.request("GET", "/test?date=2023-11-20");
+    }
+
+    @Benchmark
+    public boolean shouldRequestBeValidated() {
+        return trafficSelector.shouldRequestBeValidated(request);
+    }
+
+    public enum Scenario { SELECTED, EXCLUDED_PATH }
+}
@@ -0,0 +1,90 @@
+package com.getyourguide.openapi.validation.benchmark;
+
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.getyourguide.openapi.validation.api.exclusions.NoViolationExclusions;
+import com.getyourguide.openapi.validation.api.model.Direction;
+import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import com.getyourguide.openapi.validation.core.exclusions.InternalViolationExclusions;
+import com.getyourguide.openapi.validation.core.mapper.ValidationReportToOpenApiViolationsMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks {@link ValidationReportToOpenApiViolationsMapper#map} and {@link InternalViolationExclusions#isExcluded}
+ * on validation reports produced by the real validator for an invalid request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ViolationMappingBenchmark {
+
+    @Param
+    public Scenario scenario;
+
+    private final ValidationReportToOpenApiViolationsMapper mapper = new ValidationReportToOpenApiViolationsMapper();
+    private final InternalViolationExclusions exclusions = new InternalViolationExclusions(new NoViolationExclusions());
+
+    private ValidationReport validationReport;
+    private RequestMetaData request;
+    private ResponseMetaData response;
+    private List<OpenApiViolation> violations;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        request = Payloads.request("POST", scenario.path);
+        response = Payloads.response(200);
+        validationReport = scenario.spec.buildValidatorWrapper().validateRequest(
+            new SimpleRequest.Builder("POST", scenario.path)
+                .withContentType("application/json")
+                .withBody(scenario.body)
+                .build()
+        );
+        if (validationReport.getMessages().isEmpty()) {
+            throw new IllegalStateException("Scenario " + scenario + " is expected to produce violations");
+        }
+        violations = mapper.map(validationReport, request, response, Direction.REQUEST, scenario.body);
+    }
+
+    @Benchmark
+    public List<OpenApiViolation> map() {
+        return mapper.map(validationReport, request, response, Direction.REQUEST, scenario.body);
+    }
+
+    @Benchmark
+    public int isExcluded() {
+        var excludedCount = 0;
+        for (var violation : violations) {
+            if (exclusions.isExcluded(violation)) {
+                excludedCount++;
+            }
+        }
+        return excludedCount;
+    }
+
+    public enum Scenario {
+        TEST_POST_INVALID(BenchmarkSpec.TEST, "/test", Payloads.TEST_BODY_INVALID),
+        LARGE_POST_INVALID(BenchmarkSpec.LARGE, Payloads.LARGE_SPEC_LAST_RESOURCE, Payloads.LARGE_BODY_INVALID);
+
+        private final BenchmarkSpec spec;
+        private final String path;
+        private final String body;
+
+        Scenario(BenchmarkSpec spec, String path, String body) {
+            this.spec = spec;
+            this.path = path;
+            this.body = body;
+        }
+    }
+}
@@ -16,6 +16,21 @@ public class StatsDClientMetricsClient implements MetricsClient {
         statsDClient.increment(aspect, mapTags(tags));
     }
 
+    @Override
+    public void count(String aspect, long delta, MetricTag... tags) {
+        statsDClient.count(aspect, delta, mapTags(tags));
+    }
+
+    @Override
+    public void gauge(String aspect, double value, MetricTag... tags) {
+        statsDClient.gauge(aspect, value, mapTags(tags));
+    }
+
+    @Override
+    public void recordExecutionTime(String aspect, long timeInMs, MetricTag... tags) {
+        statsDClient.recordExecutionTime(aspect, timeInMs, mapTags(tags));
+    }
+
     private static String[] mapTags(MetricTag[] tags) {
         return Optional.of(tags)
             .map(nonNullTags ->
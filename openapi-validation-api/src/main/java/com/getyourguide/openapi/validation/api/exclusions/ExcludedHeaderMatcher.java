@@ -0,0 +1,122 @@
+package com.getyourguide.openapi.validation.api.exclusions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Matches request headers against {@link ExcludedHeader}s with a single precompiled pattern per header name.
+ *
+ * <p>All value patterns of the same header name (compared case-insensitively) are combined into one alternation, so a
+ * request costs one header lookup and one regex match per distinct header name, however many rules are configured.
+ * Flags of the individual patterns are kept as embedded flags. Patterns that can't be embedded in an alternation
+ * (literal, comments or canonical equivalence flags, back references, named groups) are matched on their own.</p>
+ */
+public class ExcludedHeaderMatcher {
+    // Back references and named groups refer to groups by number or name, which clash within an alternation
+    private static final Pattern GROUP_REFERENCE = Pattern.compile("\\\\(\\d|k<)|\\(\\?<\\p{Alpha}");
+    private static final Map<Integer, Character> EMBEDDED_FLAGS = Map.of(
+        Pattern.CASE_INSENSITIVE, 'i',
+        Pattern.UNIX_LINES, 'd',
+        Pattern.MULTILINE, 'm',
+        Pattern.DOTALL, 's',
+        Pattern.UNICODE_CASE, 'u',
+        Pattern.UNICODE_CHARACTER_CLASS, 'U'
+    );
+    private static final int EMBEDDABLE_FLAGS = EMBEDDED_FLAGS.keySet().stream().reduce(0, (a, b) -> a | b);
+
+    private final List<HeaderRule> rules;
+
+    public ExcludedHeaderMatcher(List<ExcludedHeader> excludedHeaders) {
+        var patternsByName = new LinkedHashMap<String, HeaderPatterns>();
+        for (var excludedHeader : excludedHeaders) {
+            patternsByName
+                .computeIfAbsent(excludedHeader.headerName().toLowerCase(Locale.ROOT),
+                    key -> new HeaderPatterns(excludedHeader.headerName()))
+                .add(excludedHeader.headerValuePattern());
+        }
+
+        this.rules = patternsByName.values().stream().map(HeaderPatterns::compile).toList();
+    }
+
+    public boolean isEmpty() {
+        return rules.isEmpty();
+    }
+
+    /**
+     * Returns whether any excluded header matches.
+     *
+     * @param headerValueLookup returns the value of a header by name or null if it is missing
+     */
+    public boolean matches(Function<String, String> headerValueLookup) {
+        for (var rule : rules) {
+            var headerValue = headerValueLookup.apply(rule.headerName());
+            if (headerValue != null && rule.matches(headerValue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record HeaderRule(String headerName, List<Pattern> patterns) {
+        public boolean matches(String headerValue) {
+            for (var pattern : patterns) {
+                if (pattern.matcher(headerValue).matches()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static class HeaderPatterns {
+        private final String headerName;
+        private final List<Pattern> combinable = new ArrayList<>();
+        private final List<Pattern> separate = new ArrayList<>();
+
+        public HeaderPatterns(String headerName) {
+            this.headerName = headerName;
+        }
+
+        public void add(Pattern pattern) {
+            if ((pattern.flags() & ~EMBEDDABLE_FLAGS) != 0 || GROUP_REFERENCE.matcher(pattern.pattern()).find()) {
+                separate.add(pattern);
+            } else {
+                combinable.add(pattern);
+            }
+        }
+
+        public HeaderRule compile() {
+            var patterns = new ArrayList<Pattern>();
+            if (combinable.size() == 1) {
+                patterns.add(combinable.get(0));
+            } else if (!combinable.isEmpty()) {
+                var alternation = new StringBuilder();
+                for (var pattern : combinable) {
+                    if (!alternation.isEmpty()) {
+                        alternation.append('|');
+                    }
+                    alternation.append("(?").append(embeddedFlags(pattern.flags())).append(':')
+                        .append(pattern.pattern()).append(')');
+                }
+                patterns.add(Pattern.compile(alternation.toString()));
+            }
+            patterns.addAll(separate);
+            return new HeaderRule(headerName, List.copyOf(patterns));
+        }
+
+        private static String embeddedFlags(int flags) {
+            var embedded = new StringBuilder();
+            for (var flag : EMBEDDED_FLAGS.entrySet()) {
+                if ((flags & flag.getKey()) != 0) {
+                    embedded.append(flag.getValue());
+                }
+            }
+            return embedded.toString();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.getyourguide.openapi.validation.api.exclusions;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Matches request paths against excluded path patterns compiled into a trie of path segments.
+ *
+ * <p>Besides exact paths, patterns may contain {@code *} or {@code {param}} to match any single non-empty segment
+ * and {@code **} to match any number of segments, e.g. {@code /internal/**} or {@code /health/{check}}. A lookup walks
+ * the path once and only backtracks over wildcards, so its cost does not grow with the number of patterns.</p>
+ */
+public class ExcludedPathMatcher {
+    private final Node root = new Node();
+
+    public ExcludedPathMatcher(Collection<String> patterns) {
+        for (var pattern : patterns) {
+            var node = root;
+            for (var segment : split(pattern)) {
+                if ("**".equals(segment)) {
+                    node = node.anySegmentsChild();
+                } else if ("*".equals(segment) || isParameter(segment)) {
+                    node = node.singleSegmentChild();
+                } else {
+                    node = node.literalChild(segment);
+                }
+            }
+            node.terminal = true;
+        }
+    }
+
+    public boolean matches(String path) {
+        return path != null && matches(root, path, path.startsWith("/") ? 1 : 0);
+    }
+
+    private static boolean matches(Node node, String path, int start) {
+        if (node.anySegments != null && matchesAnySegments(node.anySegments, path, start)) {
+            return true;
+        }
+        if (start > path.length()) {
+            return node.terminal;
+        }
+
+        var end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        if (node.literals != null) {
+            var literal = node.literals.get(path.substring(start, end));
+            if (literal != null && matches(literal, path, end + 1)) {
+                return true;
+            }
+        }
+        return node.singleSegment != null && end > start && matches(node.singleSegment, path, end + 1);
+    }
+
+    // Lets "**" consume zero or more segments before matching the rest of the pattern
+    private static boolean matchesAnySegments(Node node, String path, int start) {
+        var next = start;
+        while (true) {
+            if (matches(node, path, next)) {
+                return true;
+            }
+            if (next > path.length()) {
+                return false;
+            }
+            var end = path.indexOf('/', next);
+            next = end < 0 ? path.length() + 1 : end + 1;
+        }
+    }
+
+    private static String[] split(String pattern) {
+        var trimmed = pattern.startsWith("/") ? pattern.substring(1) : pattern;
+        return trimmed.split("/", -1);
+    }
+
+    private static boolean isParameter(String segment) {
+        return segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static class Node {
+        private Map<String, Node> literals;
+        private Node singleSegment;
+        private Node anySegments;
+        private boolean terminal;
+
+        public Node literalChild(String segment) {
+            if (literals == null) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        public Node singleSegmentChild() {
+            if (singleSegment == null) {
+                singleSegment = new Node();
+            }
+            return singleSegment;
+        }
+
+        public Node anySegmentsChild() {
+            if (anySegments == null) {
+                anySegments = new Node();
+            }
+            return anySegments;
+        }
+    }
+}
@@ -1,9 +1,68 @@
 package com.getyourguide.openapi.validation.api.metrics;
 
+import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import java.util.function.IntSupplier;
 
 public interface MetricsReporter {
     void reportViolation(OpenApiViolation violation);
 
     void reportStartup(boolean isValidationEnabled, double sampleRate, int validationReportThrottleWaitSeconds);
+
+    default void reportStartup(
+        boolean isValidationEnabled,
+        double sampleRate,
+        int validationReportThrottleWaitSeconds,
+        int pathSampleRateCount
+    ) {
+        reportStartup(isValidationEnabled, sampleRate, validationReportThrottleWaitSeconds);
+    }
+
+    default void reportSpecLoaded(String specificationFilePath, long loadTimeMs) {
+        // no-op by default
+    }
+
+    default void reportSpecReloaded(String specificationFilePath, boolean success, long reloadTimeMs) {
+        // no-op by default
+    }
+
+    /**
+     * Registers the state of the executor used for async validation, so that it can be sampled periodically instead of
+     * on every submitted task.
+     */
+    default void registerExecutor(IntSupplier queueSizeSupplier, IntSupplier activeCountSupplier) {
+        // no-op by default
+    }
+
+    default void reportValidationTaskSubmitted() {
+        // no-op by default
+    }
+
+    default void reportValidationTaskDropped() {
+        // no-op by default
+    }
+
+    default void reportValidationTaskExecuted(long queueTimeMs, long executionTimeMs) {
+        // no-op by default
+    }
+
+    default void reportOperationCacheHit() {
+        // no-op by default
+    }
+
+    default void reportOperationCacheMiss() {
+        // no-op by default
+    }
+
+    default void reportBodyTooLarge(Direction direction) {
+        // no-op by default
+    }
+
+    default void reportRateLimitAdmitted() {
+        // no-op by default
+    }
+
+    default void reportRateLimitDenied() {
+        // no-op by default
+    }
 }
@@ -4,4 +4,17 @@ import com.getyourguide.openapi.validation.api.metrics.MetricTag;
 
 public interface MetricsClient {
     void increment(String aspect, MetricTag... tags);
+
+    /**
+     * Adds a delta to a counter in a single call, used to flush counts that were aggregated in memory.
+     */
+    void count(String aspect, long delta, MetricTag... tags);
+
+    default void gauge(String aspect, double value, MetricTag... tags) {
+        // not supported by default
+    }
+
+    default void recordExecutionTime(String aspect, long timeInMs, MetricTag... tags) {
+        // not supported by default
+    }
 }
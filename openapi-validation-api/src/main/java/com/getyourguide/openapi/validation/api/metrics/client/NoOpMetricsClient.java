@@ -7,4 +7,9 @@ public class NoOpMetricsClient implements MetricsClient {
     public void increment(String aspect, MetricTag... tags) {
         // no-op
     }
+
+    @Override
+    public void count(String aspect, long delta, MetricTag... tags) {
+        // no-op
+    }
 }
@@ -0,0 +1,277 @@
+package com.getyourguide.openapi.validation.api.model;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable, case-insensitive header map backed by flat arrays.
+ *
+ * <p>Headers are indexed by a case-insensitive hash in an open-addressing table, so a lookup probes one or a few slots
+ * and only compares the names whose hash matches. It neither folds the case of the names like a {@code TreeMap} with
+ * {@link String#CASE_INSENSITIVE_ORDER} nor allocates. The builder keeps the same kind of table, so adding a header
+ * finds an existing one with the same name in constant time.
+ * As a {@link Map} it exposes the first value of each header; all values are available through {@link #getAll}.</p>
+ */
+public final class Headers extends AbstractMap<String, String> {
+    private static final Headers EMPTY = new Headers(new String[0], new int[0], new String[0][], new int[1]);
+
+    private final String[] names;
+    private final int[] hashes;
+    private final String[][] values;
+    /**
+     * Open-addressing table of header indexes plus one, {@code 0} marks a free slot.
+     */
+    private final int[] table;
+
+    private Headers(String[] names, int[] hashes, String[][] values, int[] table) {
+        this.names = names;
+        this.hashes = hashes;
+        this.values = values;
+        this.table = table;
+    }
+
+    public static Headers empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static Headers copyOf(Map<String, String> headers) {
+        if (headers instanceof Headers copy) {
+            return copy;
+        }
+
+        var builder = builder();
+        headers.forEach(builder::add);
+        return builder.build();
+    }
+
+    @Override
+    public String get(Object name) {
+        var index = name instanceof String headerName ? indexOf(headerName) : -1;
+        return index >= 0 ? values[index][0] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object name) {
+        return name instanceof String headerName && indexOf(headerName) >= 0;
+    }
+
+    /**
+     * Returns all values of a header in the order they were added, or an empty list if the header is not present.
+     */
+    public List<String> getAll(String name) {
+        var index = indexOf(name);
+        return index >= 0 ? List.of(values[index]) : List.of();
+    }
+
+    /**
+     * Calls the action once per header with all its values.
+     */
+    public void forEachHeader(BiConsumer<String, List<String>> action) {
+        for (int i = 0; i < names.length; i++) {
+            action.accept(names[i], List.of(values[i]));
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super String> action) {
+        for (int i = 0; i < names.length; i++) {
+            action.accept(names[i], values[i][0]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new Iterator<>() {
+                    private int index;
+
+                    @Override
+                    public boolean hasNext() {
+                        return index < names.length;
+                    }
+
+                    @Override
+                    public Entry<String, String> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        var entry = new SimpleImmutableEntry<>(names[index], values[index][0]);
+                        index++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return names.length;
+            }
+        };
+    }
+
+    private int indexOf(String name) {
+        var hash = caseInsensitiveHash(name);
+        var mask = table.length - 1;
+        for (int slot = hash & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+            var index = table[slot] - 1;
+            if (hashes[index] == hash && names[index].equalsIgnoreCase(name)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static int caseInsensitiveHash(String name) {
+        var hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Returns a power of two table length that keeps the load factor at or below one half.
+     */
+    private static int tableLength(int size) {
+        return Math.max(Integer.highestOneBit(Math.max(size, 1)) << 2, 4);
+    }
+
+    public static final class Builder {
+        private final List<String> names = new ArrayList<>();
+        /**
+         * Values per added header, {@code null} for headers removed by {@link #set}.
+         */
+        private final List<List<String>> values = new ArrayList<>();
+        private int[] hashes = new int[8];
+        private int[] table = new int[tableLength(0)];
+        private int distinctNames;
+        private int removedHeaders;
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a value to a header, keeping the values added before. {@code null} values are ignored.
+         */
+        public Builder add(String name, String value) {
+            if (value == null) {
+                return this;
+            }
+
+            var hash = caseInsensitiveHash(name);
+            var slot = findSlot(name, hash);
+            if (table[slot] != 0 && values.get(table[slot] - 1) != null) {
+                values.get(table[slot] - 1).add(value);
+                return this;
+            }
+
+            if (table[slot] == 0) {
+                distinctNames++;
+            }
+            var index = names.size();
+            names.add(name);
+            values.add(new ArrayList<>(List.of(value)));
+            if (index == hashes.length) {
+                hashes = Arrays.copyOf(hashes, index * 2);
+            }
+            hashes[index] = hash;
+            table[slot] = index + 1;
+            if (distinctNames * 2 > table.length) {
+                rehash();
+            }
+            return this;
+        }
+
+        /**
+         * Replaces all values of a header. A {@code null} value removes the header.
+         */
+        public Builder set(String name, String value) {
+            var slot = findSlot(name, caseInsensitiveHash(name));
+            if (table[slot] != 0 && values.get(table[slot] - 1) != null) {
+                values.set(table[slot] - 1, null);
+                removedHeaders++;
+            }
+            return add(name, value);
+        }
+
+        public Headers build() {
+            var size = names.size() - removedHeaders;
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            var builtNames = new String[size];
+            var builtHashes = new int[size];
+            var builtValues = new String[size][];
+            var builtTable = new int[tableLength(size)];
+            var mask = builtTable.length - 1;
+            var index = 0;
+            for (int i = 0; i < names.size(); i++) {
+                if (values.get(i) == null) {
+                    continue;
+                }
+                builtNames[index] = names.get(i);
+                builtHashes[index] = hashes[i];
+                builtValues[index] = values.get(i).toArray(new String[0]);
+                var slot = hashes[i] & mask;
+                while (builtTable[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                builtTable[slot] = ++index;
+            }
+            return new Headers(builtNames, builtHashes, builtValues, builtTable);
+        }
+
+        /**
+         * Returns the slot of the header with the given name, or the free slot where it would be inserted. Removed
+         * headers keep their slot, so a header added again after its removal reuses it.
+         */
+        private int findSlot(String name, int hash) {
+            var mask = table.length - 1;
+            var slot = hash & mask;
+            while (table[slot] != 0) {
+                var index = table[slot] - 1;
+                if (hashes[index] == hash && names.get(index).equalsIgnoreCase(name)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            var oldTable = table;
+            table = new int[oldTable.length * 2];
+            var mask = table.length - 1;
+            for (var entry : oldTable) {
+                if (entry == 0) {
+                    continue;
+                }
+                var slot = hashes[entry - 1] & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = entry;
+            }
+        }
+    }
+}
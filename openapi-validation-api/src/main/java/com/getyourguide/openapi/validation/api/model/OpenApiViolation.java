@@ -2,10 +2,12 @@ package com.getyourguide.openapi.validation.api.model;
 
 import com.getyourguide.openapi.validation.api.log.LogLevel;
 import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 public class OpenApiViolation {
     private final LogLevel level;
@@ -20,7 +22,12 @@ public class OpenApiViolation {
     private final String schema;
     private final Integer responseStatus;
     private final String message;
-    private final String logMessage;
+    @Getter(AccessLevel.NONE)
+    private final Supplier<String> lazyLogMessage;
+    /**
+     * Number of identical violations that were throttled since this violation was last reported.
+     */
+    private final int suppressedViolations;
 
     public Optional<String> getOperationId() {
         return Optional.ofNullable(operationId);
@@ -45,4 +52,53 @@ public class OpenApiViolation {
     public Optional<Integer> getResponseStatus() {
         return Optional.ofNullable(responseStatus);
     }
+
+    /**
+     * Returns the message to log. It is built on first access only, so violations that are excluded or throttled
+     * never pay for the formatting.
+     */
+    public String getLogMessage() {
+        return lazyLogMessage != null ? lazyLogMessage.get() : null;
+    }
+
+    public static class OpenApiViolationBuilder {
+        public OpenApiViolationBuilder logMessage(String logMessage) {
+            this.lazyLogMessage = logMessage != null ? () -> logMessage : null;
+            return this;
+        }
+
+        /**
+         * Sets a supplier that builds the log message. It is called at most once, on first access.
+         */
+        public OpenApiViolationBuilder lazyLogMessage(Supplier<String> logMessageSupplier) {
+            this.lazyLogMessage = logMessageSupplier == null || logMessageSupplier instanceof MemoizingSupplier
+                ? logMessageSupplier
+                : new MemoizingSupplier(logMessageSupplier);
+            return this;
+        }
+    }
+
+    private static final class MemoizingSupplier implements Supplier<String> {
+        private final Supplier<String> delegate;
+        private volatile String value;
+
+        private MemoizingSupplier(Supplier<String> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String get() {
+            var result = value;
+            if (result == null) {
+                synchronized (this) {
+                    result = value;
+                    if (result == null) {
+                        result = delegate.get();
+                        value = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
 }
@@ -15,6 +15,14 @@ public class RequestMetaData {
     private final Map<String, String> headers;
 
     public String getContentType() {
-        return headers.get(HEADER_CONTENT_TYPE);
+        return getHeaders().get(HEADER_CONTENT_TYPE);
+    }
+
+    /**
+     * Returns the path of the request URI. Implementations backed by a live request can read it without building the
+     * full URI.
+     */
+    public String getPath() {
+        return getUri().getPath();
     }
 }
@@ -0,0 +1,20 @@
+package com.getyourguide.openapi.validation.api.model;
+
+/**
+ * Engine that validates request and response bodies against their schemas.
+ */
+public enum SchemaValidationEngine {
+    /**
+     * Generic JSON schema engine of the underlying validator.
+     */
+    DEFAULT,
+    /**
+     * Body schemas compiled into validators at startup, falling back to {@link #DEFAULT} for schemas using keywords it
+     * does not support.
+     */
+    COMPILED,
+    /**
+     * Like {@link #COMPILED}, but JSON bodies are validated while reading their tokens instead of a parsed tree.
+     */
+    STREAMING
+}
@@ -15,6 +15,13 @@ public class ValidatorConfiguration {
 
     private final List<PathPatternSpec> specificationPaths;
 
+    private final SchemaValidationEngine schemaValidationEngine;
+
+    /**
+     * Maximum number of specs from {@link #specificationPaths} that are loaded in parallel on startup.
+     */
+    private final int specLoadingParallelism;
+
     public record PathPatternSpec(Pattern pathPattern, String specificationFilePath) {
     }
 }
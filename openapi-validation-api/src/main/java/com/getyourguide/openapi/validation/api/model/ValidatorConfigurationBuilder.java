@@ -11,6 +11,8 @@ public class ValidatorConfigurationBuilder {
     private LogLevel levelResolverDefaultLevel;
     private Map<String, LogLevel> levelResolverLevels;
     private List<ValidatorConfiguration.PathPatternSpec> specificationPaths;
+    private SchemaValidationEngine schemaValidationEngine = SchemaValidationEngine.DEFAULT;
+    private int specLoadingParallelism = Runtime.getRuntime().availableProcessors();
 
     public ValidatorConfigurationBuilder levelResolverDefaultLevel(LogLevel levelResolverDefaultLevel) {
         this.levelResolverDefaultLevel = levelResolverDefaultLevel;
@@ -33,18 +35,35 @@ public class ValidatorConfigurationBuilder {
         return this;
     }
 
+    public ValidatorConfigurationBuilder schemaValidationEngine(SchemaValidationEngine schemaValidationEngine) {
+        this.schemaValidationEngine = schemaValidationEngine;
+        return this;
+    }
+
+    public ValidatorConfigurationBuilder specLoadingParallelism(int specLoadingParallelism) {
+        if (specLoadingParallelism < 1) {
+            throw new IllegalArgumentException("specLoadingParallelism must be at least 1");
+        }
+        this.specLoadingParallelism = specLoadingParallelism;
+        return this;
+    }
+
     public ValidatorConfiguration build() {
         return new ValidatorConfiguration(
             levelResolverDefaultLevel,
             levelResolverLevels,
-            specificationPaths
+            specificationPaths,
+            schemaValidationEngine,
+            specLoadingParallelism
         );
     }
 
     public String toString() {
         return "ValidatorConfigurationBuilder("
             + "levelResolverDefaultLevel=" + this.levelResolverDefaultLevel + ", "
-            + "levelResolverLevels=" + this.levelResolverLevels
+            + "levelResolverLevels=" + this.levelResolverLevels + ", "
+            + "schemaValidationEngine=" + this.schemaValidationEngine + ", "
+            + "specLoadingParallelism=" + this.specLoadingParallelism
             + ")";
     }
 }
@@ -0,0 +1,100 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps a sample rate per operation that is raised by violations and decays while the operation stays clean.
+ *
+ * <p>Rates are derived from a base rate, usually the configured sample rate. An operation starts at the base rate when
+ * it is first seen, and every violation raises it to 1, so violating operations are validated on every request. Without
+ * violations the rate halves towards its floor, the base rate times the minimum rate, every half-life: a violating
+ * operation passes the base rate again after a few half-lives and clean operations end up below it. Each operation
+ * (see {@link OperationKey}) hashes to a slot of fixed-size tables holding the time it was first seen and of its last
+ * violation, so memory is bounded and both reads and updates are lock-free. Operations that share a slot share their
+ * rate, which at worst validates a clean operation more often.</p>
+ */
+public class AdaptiveSampleRates {
+    public static final int DEFAULT_MAX_OPERATIONS = 1024;
+    private static final long UNSEEN = 0;
+
+    private final double minSampleRate;
+    private final double decayPerNano;
+    private final LongSupplier nanoClock;
+    private final AtomicLongArray firstSeen;
+    private final AtomicLongArray lastViolations;
+    private final int mask;
+
+    public AdaptiveSampleRates(double minSampleRate, int halfLifeSeconds) {
+        this(minSampleRate, TimeUnit.SECONDS.toNanos(halfLifeSeconds), DEFAULT_MAX_OPERATIONS, System::nanoTime);
+    }
+
+    /**
+     * Creates sample rates with a custom table size and clock.
+     *
+     * @param halfLifeNanos time without violations after which the rate is halfway down to the minimum rate
+     * @param maxOperations number of operations with their own rate, rounded up to the next power of two
+     * @param nanoClock     monotonic clock in nanoseconds
+     */
+    public AdaptiveSampleRates(double minSampleRate, long halfLifeNanos, int maxOperations, LongSupplier nanoClock) {
+        this.minSampleRate = Math.min(Math.max(minSampleRate, 0), 1);
+        this.decayPerNano = Math.log(2) / Math.max(halfLifeNanos, 1);
+        this.nanoClock = nanoClock;
+        var size = Integer.highestOneBit(Math.max(maxOperations - 1, 1)) << 1;
+        this.firstSeen = new AtomicLongArray(size);
+        this.lastViolations = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the current sample rate of the operation of a request for a base rate of 1, from the minimum rate to 1.
+     */
+    public double getSampleRate(RequestMetaData request) {
+        return getSampleRate(request, 1);
+    }
+
+    /**
+     * Returns the current sample rate of the operation of a request, from the base rate times the minimum rate to 1.
+     */
+    public double getSampleRate(RequestMetaData request, double baseSampleRate) {
+        var index = indexOf(request);
+        var now = nanoClock.getAsLong();
+        var base = Math.min(Math.max(baseSampleRate, 0), 1);
+        var floor = base * minSampleRate;
+
+        var seenAt = firstSeen.get(index);
+        if (seenAt == UNSEEN) {
+            firstSeen.compareAndSet(index, UNSEEN, stamp(now));
+            seenAt = now;
+        }
+        var sampleRate = decay(base, floor, now - seenAt);
+
+        var violatedAt = lastViolations.get(index);
+        if (violatedAt != UNSEEN) {
+            sampleRate = Math.max(sampleRate, decay(1, floor, now - violatedAt));
+        }
+        return sampleRate;
+    }
+
+    /**
+     * Raises the sample rate of the operation of a request to 1.
+     */
+    public void recordViolation(RequestMetaData request) {
+        lastViolations.set(indexOf(request), stamp(nanoClock.getAsLong()));
+    }
+
+    private double decay(double from, double floor, long elapsed) {
+        return floor + (from - floor) * Math.exp(-decayPerNano * Math.max(elapsed, 0));
+    }
+
+    private int indexOf(RequestMetaData request) {
+        var uri = request.getUri();
+        return OperationKey.hash(request.getMethod(), uri != null ? uri.getRawPath() : null) & mask;
+    }
+
+    private static long stamp(long now) {
+        return now == UNSEEN ? UNSEEN + 1 : now;
+    }
+}
@@ -0,0 +1,56 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+
+/**
+ * Samples requests at the {@link AdaptiveSampleRates} of their operation, derived from the delegate's sample rate.
+ *
+ * <p>Operations that recently had violations are validated more often than the delegate's rate, up to every request,
+ * while operations that have been clean for a while are validated less and less often down to the minimum rate. The
+ * delegate still applies its exclusions. Requests selected by delegates that don't sample are sampled again at the
+ * adaptive rate, which can only lower their rate (see
+ * {@link TrafficSelector#shouldRequestBeValidated(RequestMetaData, java.util.function.DoubleUnaryOperator)}).</p>
+ */
+public class AdaptiveSamplingTrafficSelector implements TrafficSelector {
+    private final TrafficSelector delegate;
+    private final AdaptiveSampleRates sampleRates;
+
+    public AdaptiveSamplingTrafficSelector(TrafficSelector delegate, AdaptiveSampleRates sampleRates) {
+        this.delegate = delegate;
+        this.sampleRates = sampleRates;
+    }
+
+    @Override
+    public boolean shouldRequestBeValidated(RequestMetaData request) {
+        return delegate.shouldRequestBeValidated(
+            request,
+            baseSampleRate -> sampleRates.getSampleRate(request, baseSampleRate)
+        );
+    }
+
+    @Override
+    public void onRequestDeclined(RequestMetaData request) {
+        delegate.onRequestDeclined(request);
+    }
+
+    @Override
+    public boolean canRequestBeValidated(RequestMetaData request) {
+        return delegate.canRequestBeValidated(request);
+    }
+
+    @Override
+    public boolean canResponseBeValidated(RequestMetaData request, ResponseMetaData response) {
+        return delegate.canResponseBeValidated(request, response);
+    }
+
+    @Override
+    public boolean shouldFailOnRequestViolation(RequestMetaData request) {
+        return delegate.shouldFailOnRequestViolation(request);
+    }
+
+    @Override
+    public boolean shouldFailOnResponseViolation(RequestMetaData request) {
+        return delegate.shouldFailOnResponseViolation(request);
+    }
+}
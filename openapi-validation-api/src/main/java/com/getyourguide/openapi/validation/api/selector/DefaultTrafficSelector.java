@@ -1,19 +1,24 @@
 package com.getyourguide.openapi.validation.api.selector;
 
 import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeader;
+import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeaderMatcher;
+import com.getyourguide.openapi.validation.api.exclusions.ExcludedPathMatcher;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleUnaryOperator;
 
 public class DefaultTrafficSelector implements TrafficSelector {
+    private static final List<String> DEFAULT_EXCLUDED_PATHS = List.of("/graphql", "/graphiql");
 
     private final double sampleRate;
-    private final Set<String> excludedPaths;
-    private final Set<String> defaultExcludedPaths;
-    private final List<ExcludedHeader> excludedHeaders;
+    private final PathSampleRateTable pathSampleRates;
+    private final ExcludedPathMatcher excludedPaths;
+    private final ExcludedHeaderMatcher excludedHeaders;
+    private final MediaTypeClassifier mediaTypeClassifier;
     private final Boolean shouldFailOnRequestViolation;
     private final Boolean shouldFailOnResponseViolation;
 
@@ -27,11 +32,46 @@ public class DefaultTrafficSelector implements TrafficSelector {
         List<ExcludedHeader> excludedHeaders,
         Boolean shouldFailOnRequestViolation,
         Boolean shouldFailOnResponseViolation
+    ) {
+        this(sampleRate, excludedPaths, excludedHeaders, shouldFailOnRequestViolation, shouldFailOnResponseViolation,
+            null);
+    }
+
+    public DefaultTrafficSelector(
+        double sampleRate,
+        Set<String> excludedPaths,
+        List<ExcludedHeader> excludedHeaders,
+        Boolean shouldFailOnRequestViolation,
+        Boolean shouldFailOnResponseViolation,
+        List<PathSampleRate> pathSampleRates
+    ) {
+        this(sampleRate, excludedPaths, excludedHeaders, shouldFailOnRequestViolation, shouldFailOnResponseViolation,
+            pathSampleRates, null);
+    }
+
+    /**
+     * Creates a traffic selector.
+     *
+     * @param validatableMediaTypes media types with bodies to validate, see {@link MediaTypeClassifier}
+     */
+    public DefaultTrafficSelector(
+        double sampleRate,
+        Set<String> excludedPaths,
+        List<ExcludedHeader> excludedHeaders,
+        Boolean shouldFailOnRequestViolation,
+        Boolean shouldFailOnResponseViolation,
+        List<PathSampleRate> pathSampleRates,
+        List<String> validatableMediaTypes
     ) {
         this.sampleRate = sampleRate;
-        this.defaultExcludedPaths = Set.of("/graphql", "/graphiql");
-        this.excludedPaths = excludedPaths != null ? excludedPaths : Set.of();
-        this.excludedHeaders = excludedHeaders != null ? excludedHeaders : Collections.emptyList();
+        this.pathSampleRates = new PathSampleRateTable(pathSampleRates != null ? pathSampleRates : List.of());
+        var allExcludedPaths = new ArrayList<>(DEFAULT_EXCLUDED_PATHS);
+        if (excludedPaths != null) {
+            allExcludedPaths.addAll(excludedPaths);
+        }
+        this.excludedPaths = new ExcludedPathMatcher(allExcludedPaths);
+        this.excludedHeaders = new ExcludedHeaderMatcher(excludedHeaders != null ? excludedHeaders : List.of());
+        this.mediaTypeClassifier = new MediaTypeClassifier(validatableMediaTypes);
         this.shouldFailOnRequestViolation = shouldFailOnRequestViolation != null ? shouldFailOnRequestViolation : false;
         this.shouldFailOnResponseViolation =
             shouldFailOnResponseViolation != null ? shouldFailOnResponseViolation : false;
@@ -39,11 +79,28 @@ public class DefaultTrafficSelector implements TrafficSelector {
 
     @Override
     public boolean shouldRequestBeValidated(RequestMetaData request) {
-        return isRandomlySelectedBySampleRate()
+        return isRandomlySelectedBySampleRate(getSampleRate(request))
             && !isExcludedRequest(request);
     }
 
-    private boolean isRandomlySelectedBySampleRate() {
+    @Override
+    public boolean shouldRequestBeValidated(RequestMetaData request, DoubleUnaryOperator sampleRateAdjustment) {
+        var adjustedSampleRate = sampleRateAdjustment.applyAsDouble(getSampleRate(request));
+        return (adjustedSampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < adjustedSampleRate)
+            && !isExcludedRequest(request);
+    }
+
+    private double getSampleRate(RequestMetaData request) {
+        // Without path sample rates the URI is not needed, which keeps unsampled requests cheap
+        if (pathSampleRates.isEmpty()) {
+            return sampleRate;
+        }
+
+        var pathSampleRate = pathSampleRates.findSampleRate(request.getMethod(), request.getPath());
+        return pathSampleRate != null ? pathSampleRate : sampleRate;
+    }
+
+    private static boolean isRandomlySelectedBySampleRate(double sampleRate) {
         return sampleRate > 0
             && (sampleRate >= 1 || ThreadLocalRandom.current().nextInt((int) (1 / sampleRate)) == 0);
     }
@@ -52,14 +109,14 @@ public class DefaultTrafficSelector implements TrafficSelector {
     public boolean canRequestBeValidated(RequestMetaData request) {
         return !methodEquals(request.getMethod(), "OPTIONS")
             && !methodEquals(request.getMethod(), "HEAD")
-            && isContentTypeSupported(request.getContentType());
+            && mediaTypeClassifier.isValidatable(request.getContentType());
     }
 
     @Override
     public boolean canResponseBeValidated(RequestMetaData request, ResponseMetaData response) {
         return !methodEquals(request.getMethod(), "OPTIONS")
             && !methodEquals(request.getMethod(), "HEAD")
-            && isContentTypeSupported(response.getContentType());
+            && mediaTypeClassifier.isValidatable(response.getContentType());
     }
 
     @Override
@@ -77,31 +134,14 @@ public class DefaultTrafficSelector implements TrafficSelector {
     }
 
     private boolean isRequestExcludedByHeader(RequestMetaData request) {
-        return excludedHeaders.stream().anyMatch(excludedHeader -> {
-            var headerValue = request.getHeaders().get(excludedHeader.headerName());
-            return headerValue != null && excludedHeader.headerValuePattern().matcher(headerValue).matches();
-        });
+        return !excludedHeaders.isEmpty() && excludedHeaders.matches(request.getHeaders()::get);
     }
 
     private boolean isRequestExcludedByPath(RequestMetaData request) {
-        var path = request.getUri().getPath();
-        return defaultExcludedPaths.contains(path) || excludedPaths.contains(path);
+        return excludedPaths.matches(request.getPath());
     }
 
     private static boolean methodEquals(String method, String expectedMethod) {
         return method.equalsIgnoreCase(expectedMethod);
     }
-
-    private boolean isContentTypeSupported(String contentType) {
-        if (contentType == null) {
-            return true;
-        }
-
-        var contentTypeLowerCase = contentType.toLowerCase();
-        return contentTypeLowerCase.contains("application/json")
-            || contentTypeLowerCase.contains("application/xml")
-            || contentTypeLowerCase.contains("application/xhtml+xml")
-            || contentTypeLowerCase.contains("text/html")
-            || contentTypeLowerCase.contains("text/xml");
-    }
 }
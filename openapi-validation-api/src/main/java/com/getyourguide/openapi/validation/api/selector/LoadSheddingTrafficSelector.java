@@ -0,0 +1,75 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Selects fewer requests for validation while the validation executor is saturated, on top of a delegate selector.
+ *
+ * <p>Requests that are validated get their bodies cached before the validation is handed to the executor. If the
+ * executor rejects it then, that work was wasted. Above the threshold the probability of selecting a request decreases
+ * linearly down to 0 at full saturation, so overload degrades to passing requests through without caching. Saturation
+ * is read for every decision, so sampling recovers as soon as the executor catches up.</p>
+ */
+public class LoadSheddingTrafficSelector implements TrafficSelector {
+    private final TrafficSelector delegate;
+    private final DoubleSupplier saturation;
+    private final double threshold;
+
+    /**
+     * Creates a load shedding selector.
+     *
+     * @param saturation supplies the executor saturation from 0 (idle) to 1 (saturated), called for every request
+     * @param threshold  saturation above which fewer requests are selected
+     */
+    public LoadSheddingTrafficSelector(TrafficSelector delegate, DoubleSupplier saturation, double threshold) {
+        this.delegate = delegate;
+        this.saturation = saturation;
+        this.threshold = Math.min(Math.max(threshold, 0), 1);
+    }
+
+    @Override
+    public boolean shouldRequestBeValidated(RequestMetaData request) {
+        return isSelectedUnderCurrentLoad() && delegate.shouldRequestBeValidated(request);
+    }
+
+    private boolean isSelectedUnderCurrentLoad() {
+        var currentSaturation = saturation.getAsDouble();
+        if (currentSaturation <= threshold) {
+            return true;
+        }
+        if (currentSaturation >= 1) {
+            return false;
+        }
+
+        var probability = (1 - currentSaturation) / (1 - threshold);
+        return ThreadLocalRandom.current().nextDouble() < probability;
+    }
+
+    @Override
+    public void onRequestDeclined(RequestMetaData request) {
+        delegate.onRequestDeclined(request);
+    }
+
+    @Override
+    public boolean canRequestBeValidated(RequestMetaData request) {
+        return delegate.canRequestBeValidated(request);
+    }
+
+    @Override
+    public boolean canResponseBeValidated(RequestMetaData request, ResponseMetaData response) {
+        return delegate.canResponseBeValidated(request, response);
+    }
+
+    @Override
+    public boolean shouldFailOnRequestViolation(RequestMetaData request) {
+        return delegate.shouldFailOnRequestViolation(request);
+    }
+
+    @Override
+    public boolean shouldFailOnResponseViolation(RequestMetaData request) {
+        return delegate.shouldFailOnResponseViolation(request);
+    }
+}
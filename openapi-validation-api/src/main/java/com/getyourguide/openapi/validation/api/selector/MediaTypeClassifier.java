@@ -0,0 +1,143 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether bodies of a content type can be validated.
+ *
+ * <p>Without configured media types, a content type is validatable if it contains one of the
+ * {@link #DEFAULT_VALIDATABLE_MEDIA_TYPES}, ignoring case. This is how content types have always been matched, so
+ * for example {@code application/vnd.api+json} is not validatable by default.</p>
+ *
+ * <p>Configured media types may be exact ({@code application/json}), a whole type ({@code text/*}) or a structured
+ * syntax suffix ({@code application/*+json}, {@code *}{@code /*+json}) and are compared with the canonical media type
+ * of a content type (lowercase, without parameters).</p>
+ *
+ * <p>Either way, results are cached per canonical media type, so parameters that differ per request, like multipart
+ * boundaries, share one entry. The cache is bounded and stops growing once full.</p>
+ */
+public class MediaTypeClassifier {
+    public static final List<String> DEFAULT_VALIDATABLE_MEDIA_TYPES = List.of(
+        "application/json",
+        "application/xml",
+        "application/xhtml+xml",
+        "text/html",
+        "text/xml"
+    );
+    private static final int MAX_CACHED_MEDIA_TYPES = 256;
+
+    private final Set<String> mediaTypes = new HashSet<>();
+    private final Set<String> types = new HashSet<>();
+    private final Set<String> suffixesByType = new HashSet<>();
+    private final Set<String> suffixesOfAnyType = new HashSet<>();
+    private final boolean matchDefaults;
+    private final ConcurrentHashMap<String, Boolean> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a classifier.
+     *
+     * @param validatableMediaTypes media types with bodies to validate, content types containing one of the
+     *                              {@link #DEFAULT_VALIDATABLE_MEDIA_TYPES} if null or empty
+     */
+    public MediaTypeClassifier(List<String> validatableMediaTypes) {
+        this.matchDefaults = validatableMediaTypes == null || validatableMediaTypes.isEmpty();
+        if (!matchDefaults) {
+            for (var mediaType : validatableMediaTypes) {
+                add(canonicalize(mediaType));
+            }
+        }
+    }
+
+    private void add(String mediaType) {
+        var slash = mediaType.indexOf('/');
+        if (slash < 0) {
+            return;
+        }
+
+        var type = mediaType.substring(0, slash);
+        var subtype = mediaType.substring(slash + 1);
+        if (subtype.startsWith("*+")) {
+            if ("*".equals(type)) {
+                suffixesOfAnyType.add(subtype.substring(1));
+            } else {
+                suffixesByType.add(type + "/" + subtype.substring(1));
+            }
+        } else if ("*".equals(subtype)) {
+            types.add(type);
+        } else {
+            mediaTypes.add(mediaType);
+        }
+    }
+
+    /**
+     * Returns whether bodies of a content type can be validated. Without content type there is no body to worry about,
+     * so null is validatable.
+     */
+    public boolean isValidatable(String contentType) {
+        if (contentType == null) {
+            return true;
+        }
+
+        var mediaType = canonicalize(contentType);
+        var cached = cache.get(mediaType);
+        if (cached == null) {
+            cached = matchDefaults ? containsDefaultMediaType(mediaType) : classify(mediaType);
+            if (cache.size() < MAX_CACHED_MEDIA_TYPES) {
+                cache.put(mediaType, cached);
+            }
+        }
+
+        // The default media types contain no ';', so a match is either within the media type or within its parameters
+        if (cached || !matchDefaults) {
+            return cached;
+        }
+        var parameters = contentType.indexOf(';');
+        return parameters >= 0 && containsDefaultMediaType(contentType.substring(parameters).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the number of media types with a cached result.
+     */
+    public int getCachedMediaTypeCount() {
+        return cache.size();
+    }
+
+    private static boolean containsDefaultMediaType(String value) {
+        for (var mediaType : DEFAULT_VALIDATABLE_MEDIA_TYPES) {
+            if (value.contains(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean classify(String mediaType) {
+        if (mediaTypes.contains(mediaType)) {
+            return true;
+        }
+
+        var slash = mediaType.indexOf('/');
+        if (slash < 0) {
+            return false;
+        }
+        if (types.contains(mediaType.substring(0, slash))) {
+            return true;
+        }
+
+        var plus = mediaType.lastIndexOf('+');
+        if (plus < slash) {
+            return false;
+        }
+        var suffix = mediaType.substring(plus);
+        return suffixesOfAnyType.contains(suffix) || suffixesByType.contains(mediaType.substring(0, slash + 1) + suffix);
+    }
+
+    private static String canonicalize(String contentType) {
+        var end = contentType.indexOf(';');
+        return (end >= 0 ? contentType.substring(0, end) : contentType).trim().toLowerCase(Locale.ROOT);
+    }
+}
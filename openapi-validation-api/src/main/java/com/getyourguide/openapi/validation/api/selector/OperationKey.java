@@ -0,0 +1,36 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+/**
+ * Identifies the operation of a request by method and path before the specification has been consulted.
+ *
+ * <p>Path segments containing a digit (ids, UUIDs, dates) are treated as the same parameter, so requests to
+ * {@code /users/1} and {@code /users/2} belong to the same operation. Hashing does not allocate.</p>
+ */
+public final class OperationKey {
+
+    private OperationKey() {
+    }
+
+    /**
+     * Returns a well-spread hash of method and path, meant to be masked into a power-of-two table.
+     */
+    public static int hash(String method, String path) {
+        var hash = method != null ? method.hashCode() : 0;
+        if (path != null) {
+            var segmentHash = 0;
+            var isParameter = false;
+            for (int i = 0; i <= path.length(); i++) {
+                var c = i < path.length() ? path.charAt(i) : '/';
+                if (c == '/') {
+                    hash = 31 * hash + (isParameter ? '*' : segmentHash);
+                    segmentHash = 0;
+                    isParameter = false;
+                } else {
+                    segmentHash = 31 * segmentHash + c;
+                    isParameter |= c >= '0' && c <= '9';
+                }
+            }
+        }
+        return hash ^ (hash >>> 16);
+    }
+}
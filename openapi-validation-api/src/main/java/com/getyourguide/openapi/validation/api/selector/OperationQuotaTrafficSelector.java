@@ -0,0 +1,137 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Validates at most a fixed number of requests per operation and time window, on top of a delegate selector.
+ *
+ * <p>Uniform sampling spends most of its budget on the busiest endpoints and rarely hits rarely called ones. With a
+ * quota per operation every endpoint gets validated regularly while the total number of validations stays bounded.
+ * </p>
+ *
+ * <p>Operations are identified with {@link OperationKey}. Each operation hashes to a slot of a fixed-size table
+ * holding the current window and the number of validations in it packed into one {@code long}, which is updated
+ * lock-free with compare-and-set. Operations that share a slot share their quota. A request declined by a selector
+ * wrapping this one, like {@link RateLimitingTrafficSelector}, gets its validation back.</p>
+ */
+public class OperationQuotaTrafficSelector implements TrafficSelector {
+    public static final int DEFAULT_MAX_OPERATIONS = 1024;
+
+    private final TrafficSelector delegate;
+    private final int validationsPerWindow;
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    public OperationQuotaTrafficSelector(TrafficSelector delegate, int validationsPerWindow, int windowSeconds) {
+        this(delegate, validationsPerWindow, TimeUnit.SECONDS.toNanos(windowSeconds), DEFAULT_MAX_OPERATIONS,
+            System::nanoTime);
+    }
+
+    /**
+     * Creates a selector with a custom table size and clock.
+     *
+     * @param maxOperations number of operations with their own quota, rounded up to the next power of two
+     * @param nanoClock     monotonic clock in nanoseconds
+     */
+    public OperationQuotaTrafficSelector(
+        TrafficSelector delegate,
+        int validationsPerWindow,
+        long windowNanos,
+        int maxOperations,
+        LongSupplier nanoClock
+    ) {
+        this.delegate = delegate;
+        this.validationsPerWindow = validationsPerWindow;
+        this.windowNanos = Math.max(windowNanos, 1);
+        this.nanoClock = nanoClock;
+        var size = Integer.highestOneBit(Math.max(maxOperations - 1, 1)) << 1;
+        this.slots = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    @Override
+    public boolean shouldRequestBeValidated(RequestMetaData request) {
+        // Only requests the delegate selects consume quota, so excluded requests don't use up the budget
+        return delegate.shouldRequestBeValidated(request) && tryAcquire(request);
+    }
+
+    private boolean tryAcquire(RequestMetaData request) {
+        var index = slotIndex(request);
+        var window = currentWindow();
+        while (true) {
+            var current = slots.get(index);
+            var currentWindow = (int) (current >>> 32);
+            var count = (int) current;
+            long next;
+            if (currentWindow != window) {
+                next = pack(window, 1);
+            } else if (count < validationsPerWindow) {
+                next = pack(window, count + 1);
+            } else {
+                return false;
+            }
+
+            if (slots.compareAndSet(index, current, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back the validation the request consumed, if its window is still current.
+     */
+    @Override
+    public void onRequestDeclined(RequestMetaData request) {
+        var index = slotIndex(request);
+        var window = currentWindow();
+        while (true) {
+            var current = slots.get(index);
+            var count = (int) current;
+            if ((int) (current >>> 32) != window || count <= 0) {
+                break;
+            }
+            if (slots.compareAndSet(index, current, pack(window, count - 1))) {
+                break;
+            }
+        }
+        delegate.onRequestDeclined(request);
+    }
+
+    private int slotIndex(RequestMetaData request) {
+        return OperationKey.hash(request.getMethod(), request.getUri().getRawPath()) & mask;
+    }
+
+    private int currentWindow() {
+        return (int) (nanoClock.getAsLong() / windowNanos);
+    }
+
+    private static long pack(int window, int count) {
+        return ((long) window << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean canRequestBeValidated(RequestMetaData request) {
+        return delegate.canRequestBeValidated(request);
+    }
+
+    @Override
+    public boolean canResponseBeValidated(RequestMetaData request, ResponseMetaData response) {
+        return delegate.canResponseBeValidated(request, response);
+    }
+
+    @Override
+    public boolean shouldFailOnRequestViolation(RequestMetaData request) {
+        return delegate.shouldFailOnRequestViolation(request);
+    }
+
+    @Override
+    public boolean shouldFailOnResponseViolation(RequestMetaData request) {
+        return delegate.shouldFailOnResponseViolation(request);
+    }
+}
@@ -0,0 +1,7 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+/**
+ * Sample rate for requests to a path template such as {@code /users/{id}}. A {@code null} method applies to all
+ * methods.
+ */
+public record PathSampleRate(String method, String pathTemplate, double sampleRate) { }
@@ -0,0 +1,125 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Looks up the sample rate of a request path among {@link PathSampleRate}s.
+ *
+ * <p>The path templates are compiled into a trie of path segments, where a {@code {param}} segment matches any single
+ * segment. A lookup walks the path once, preferring literal segments over parameters, so its cost depends on the path
+ * length and not on the number of configured templates. A rate for the request method wins over a rate for all
+ * methods.</p>
+ */
+public class PathSampleRateTable {
+    private final Node root = new Node();
+    private final boolean empty;
+
+    public PathSampleRateTable(List<PathSampleRate> sampleRates) {
+        for (var sampleRate : sampleRates) {
+            var node = root;
+            for (var segment : splitTemplate(sampleRate.pathTemplate())) {
+                node = isParameter(segment) ? node.parameterChild() : node.literalChild(segment);
+            }
+            node.setRate(sampleRate.method(), sampleRate.sampleRate());
+        }
+        this.empty = sampleRates.isEmpty();
+    }
+
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Returns the sample rate for a request.
+     *
+     * @return the configured sample rate or null if no template matches the path
+     */
+    public Double findSampleRate(String method, String path) {
+        if (empty || path == null) {
+            return null;
+        }
+
+        var start = path.startsWith("/") ? 1 : 0;
+        return find(root, method != null ? method.toUpperCase(Locale.ROOT) : null, path, start);
+    }
+
+    private static Double find(Node node, String method, String path, int start) {
+        if (start >= path.length()) {
+            return node.getRate(method);
+        }
+
+        var end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+        var next = end + 1 > path.length() ? path.length() : end + 1;
+
+        if (node.literals != null) {
+            var literal = node.literals.get(path.substring(start, end));
+            if (literal != null) {
+                var rate = find(literal, method, path, next);
+                if (rate != null) {
+                    return rate;
+                }
+            }
+        }
+        if (node.parameter != null && end > start) {
+            return find(node.parameter, method, path, next);
+        }
+        return null;
+    }
+
+    private static String[] splitTemplate(String pathTemplate) {
+        var trimmed = pathTemplate.startsWith("/") ? pathTemplate.substring(1) : pathTemplate;
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("/", -1);
+    }
+
+    private static boolean isParameter(String segment) {
+        return segment.length() > 2 && segment.startsWith("{") && segment.endsWith("}");
+    }
+
+    private static class Node {
+        private Map<String, Node> literals;
+        private Node parameter;
+        private Double rateForAllMethods;
+        private Map<String, Double> rateByMethod;
+
+        public Node literalChild(String segment) {
+            if (literals == null) {
+                literals = new HashMap<>();
+            }
+            return literals.computeIfAbsent(segment, key -> new Node());
+        }
+
+        public Node parameterChild() {
+            if (parameter == null) {
+                parameter = new Node();
+            }
+            return parameter;
+        }
+
+        public void setRate(String method, double rate) {
+            if (method == null) {
+                rateForAllMethods = rate;
+                return;
+            }
+            if (rateByMethod == null) {
+                rateByMethod = new HashMap<>();
+            }
+            rateByMethod.put(method.toUpperCase(Locale.ROOT), rate);
+        }
+
+        public Double getRate(String method) {
+            if (rateByMethod != null && method != null) {
+                var rate = rateByMethod.get(method);
+                if (rate != null) {
+                    return rate;
+                }
+            }
+            return rateForAllMethods;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Validates at most a fixed number of requests per second, on top of a delegate selector.
+ *
+ * <p>Unlike a sample rate, the validation load stays the same when traffic changes. This is a token bucket
+ * implemented as generic cell rate algorithm: a single {@link AtomicLong} holds the time at which the bucket is full
+ * again and every admitted request moves it forward by one emission interval with compare-and-set. The bucket holds up
+ * to one second of validations, so short bursts are admitted.</p>
+ */
+public class RateLimitingTrafficSelector implements TrafficSelector {
+    private final TrafficSelector delegate;
+    private final MetricsReporter metricsReporter;
+    private final LongSupplier nanoClock;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrivalTime;
+
+    public RateLimitingTrafficSelector(
+        TrafficSelector delegate,
+        double maxValidationsPerSecond,
+        MetricsReporter metricsReporter
+    ) {
+        this(delegate, maxValidationsPerSecond, metricsReporter, System::nanoTime);
+    }
+
+    /**
+     * Creates a rate limiting selector with a custom clock.
+     *
+     * @param nanoClock monotonic clock in nanoseconds
+     */
+    public RateLimitingTrafficSelector(
+        TrafficSelector delegate,
+        double maxValidationsPerSecond,
+        MetricsReporter metricsReporter,
+        LongSupplier nanoClock
+    ) {
+        if (maxValidationsPerSecond <= 0) {
+            throw new IllegalArgumentException("maxValidationsPerSecond must be positive: " + maxValidationsPerSecond);
+        }
+        this.delegate = delegate;
+        this.metricsReporter = metricsReporter;
+        this.nanoClock = nanoClock;
+        this.emissionIntervalNanos = Math.max((long) (TimeUnit.SECONDS.toNanos(1) / maxValidationsPerSecond), 1);
+        this.burstNanos = Math.max(TimeUnit.SECONDS.toNanos(1) - emissionIntervalNanos, 0);
+        this.theoreticalArrivalTime = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    @Override
+    public boolean shouldRequestBeValidated(RequestMetaData request) {
+        if (!delegate.shouldRequestBeValidated(request)) {
+            return false;
+        }
+
+        if (tryAcquire()) {
+            metricsReporter.reportRateLimitAdmitted();
+            return true;
+        }
+
+        // Give back what the delegate consumed for this request, e.g. its operation quota
+        delegate.onRequestDeclined(request);
+        metricsReporter.reportRateLimitDenied();
+        return false;
+    }
+
+    private boolean tryAcquire() {
+        var now = nanoClock.getAsLong();
+        while (true) {
+            var current = theoreticalArrivalTime.get();
+            var start = current - now > 0 ? current : now;
+            if (start - now > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, start + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void onRequestDeclined(RequestMetaData request) {
+        delegate.onRequestDeclined(request);
+    }
+
+    @Override
+    public boolean canRequestBeValidated(RequestMetaData request) {
+        return delegate.canRequestBeValidated(request);
+    }
+
+    @Override
+    public boolean canResponseBeValidated(RequestMetaData request, ResponseMetaData response) {
+        return delegate.canResponseBeValidated(request, response);
+    }
+
+    @Override
+    public boolean shouldFailOnRequestViolation(RequestMetaData request) {
+        return delegate.shouldFailOnRequestViolation(request);
+    }
+
+    @Override
+    public boolean shouldFailOnResponseViolation(RequestMetaData request) {
+        return delegate.shouldFailOnResponseViolation(request);
+    }
+}
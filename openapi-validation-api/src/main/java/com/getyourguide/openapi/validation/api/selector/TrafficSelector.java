@@ -2,10 +2,35 @@ package com.getyourguide.openapi.validation.api.selector;
 
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleUnaryOperator;
 
 public interface TrafficSelector {
     boolean shouldRequestBeValidated(RequestMetaData request);
 
+    /**
+     * Decides like {@link #shouldRequestBeValidated(RequestMetaData)}, but samples the request at the rate the
+     * adjustment derives from the selector's own sample rate. By default, requests the selector selects are sampled
+     * again at the rate derived from a sample rate of 1, so the adjustment can only lower the rate. Selectors that
+     * sample override this to apply the adjusted rate instead of their own.
+     */
+    default boolean shouldRequestBeValidated(RequestMetaData request, DoubleUnaryOperator sampleRateAdjustment) {
+        if (!shouldRequestBeValidated(request)) {
+            return false;
+        }
+
+        var sampleRate = sampleRateAdjustment.applyAsDouble(1);
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Called when a request this selector selected is not validated after all, because a selector wrapping it
+     * declined the request. Selectors that count selected requests give back what the request consumed.
+     */
+    default void onRequestDeclined(RequestMetaData request) {
+        // Nothing to give back by default
+    }
+
     default boolean canRequestBeValidated(RequestMetaData request) {
         return true;
     }
@@ -0,0 +1,56 @@
+package com.getyourguide.openapi.validation.api.exclusions;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+class ExcludedHeaderMatcherTest {
+
+    @Test
+    public void testCombinesPatternsOfSameHeaderKeepingFlags() {
+        var matcher = new ExcludedHeaderMatcher(List.of(
+            new ExcludedHeader("User-Agent", Pattern.compile(".*googlebot.*", Pattern.CASE_INSENSITIVE)),
+            new ExcludedHeader("user-agent", Pattern.compile(".*bingbot.*")),
+            new ExcludedHeader("x-is-bot", Pattern.compile("true"))
+        ));
+
+        assertTrue(matcher.matches(headers("User-Agent", "Mozilla/5.0 (compatible; Googlebot/2.1)")));
+        assertTrue(matcher.matches(headers("User-Agent", "Mozilla/5.0 (compatible; bingbot/2.0)")));
+        assertFalse(matcher.matches(headers("User-Agent", "Mozilla/5.0 (compatible; Bingbot/2.0)")));
+        assertTrue(matcher.matches(headers("x-is-bot", "true")));
+        assertFalse(matcher.matches(headers("x-is-bot", "truebot")));
+        assertFalse(matcher.matches(headers("Accept", "true")));
+    }
+
+    @Test
+    public void testKeepsPatternsWithGroupReferencesSeparate() {
+        var matcher = new ExcludedHeaderMatcher(List.of(
+            new ExcludedHeader("x-pair", Pattern.compile("(a+)-\\1")),
+            new ExcludedHeader("x-pair", Pattern.compile("(b+)-\\1")),
+            new ExcludedHeader("x-pair", Pattern.compile("c.d", Pattern.LITERAL))
+        ));
+
+        assertTrue(matcher.matches(headers("x-pair", "aa-aa")));
+        assertTrue(matcher.matches(headers("x-pair", "bb-bb")));
+        assertTrue(matcher.matches(headers("x-pair", "c.d")));
+        assertFalse(matcher.matches(headers("x-pair", "aa-bb")));
+        assertFalse(matcher.matches(headers("x-pair", "cxd")));
+    }
+
+    @Test
+    public void testEmptyWithoutExcludedHeaders() {
+        assertTrue(new ExcludedHeaderMatcher(List.of()).isEmpty());
+    }
+
+    private static Function<String, String> headers(String name, String value) {
+        var headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+        headers.putAll(Map.of(name, value));
+        return headers::get;
+    }
+}
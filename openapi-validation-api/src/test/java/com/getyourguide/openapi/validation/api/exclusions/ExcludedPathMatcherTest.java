@@ -0,0 +1,55 @@
+package com.getyourguide.openapi.validation.api.exclusions;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ExcludedPathMatcherTest {
+
+    @Test
+    public void testMatchesExactPathsOnly() {
+        var matcher = new ExcludedPathMatcher(List.of("/_readiness", "/"));
+
+        assertTrue(matcher.matches("/_readiness"));
+        assertTrue(matcher.matches("/"));
+        assertFalse(matcher.matches("/_readiness/"));
+        assertFalse(matcher.matches("/_readiness/details"));
+        assertFalse(matcher.matches("/other"));
+    }
+
+    @Test
+    public void testSingleSegmentWildcards() {
+        var matcher = new ExcludedPathMatcher(List.of("/health/{check}", "/v1/*/status"));
+
+        assertTrue(matcher.matches("/health/db"));
+        assertTrue(matcher.matches("/v1/orders/status"));
+        assertFalse(matcher.matches("/health"));
+        assertFalse(matcher.matches("/health/"));
+        assertFalse(matcher.matches("/health/db/details"));
+        assertFalse(matcher.matches("/v1/status"));
+    }
+
+    @Test
+    public void testMultiSegmentWildcards() {
+        var matcher = new ExcludedPathMatcher(List.of("/internal/**", "/**/debug"));
+
+        assertTrue(matcher.matches("/internal"));
+        assertTrue(matcher.matches("/internal/metrics"));
+        assertTrue(matcher.matches("/internal/metrics/jvm"));
+        assertTrue(matcher.matches("/debug"));
+        assertTrue(matcher.matches("/v1/users/debug"));
+        assertFalse(matcher.matches("/internals"));
+        assertFalse(matcher.matches("/v1/users/debug/1"));
+    }
+
+    @Test
+    public void testLiteralDoesNotHideWildcard() {
+        var matcher = new ExcludedPathMatcher(List.of("/users/me/settings", "/users/{id}"));
+
+        assertTrue(matcher.matches("/users/me"));
+        assertTrue(matcher.matches("/users/me/settings"));
+        assertFalse(matcher.matches("/users/1/settings"));
+    }
+}
@@ -0,0 +1,110 @@
+package com.getyourguide.openapi.validation.api.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class HeadersTest {
+
+    @Test
+    public void testLookupIsCaseInsensitive() {
+        var headers = Headers.builder()
+            .add("Content-Type", "application/json")
+            .add("X-Request-Id", "abc")
+            .build();
+
+        assertEquals("application/json", headers.get("content-type"));
+        assertEquals("application/json", headers.get("CONTENT-TYPE"));
+        assertEquals("abc", headers.get("x-request-id"));
+        assertTrue(headers.containsKey("x-REQUEST-id"));
+        assertNull(headers.get("Accept"));
+        assertFalse(headers.containsKey("Accept"));
+        assertNull(headers.get(1));
+    }
+
+    @Test
+    public void testKeepsAllValuesAndExposesFirstAsMapValue() {
+        var headers = Headers.builder()
+            .add("Accept", "application/json")
+            .add("accept", "text/html")
+            .build();
+
+        assertEquals(1, headers.size());
+        assertEquals("application/json", headers.get("Accept"));
+        assertEquals(List.of("application/json", "text/html"), headers.getAll("ACCEPT"));
+        assertEquals(List.of(), headers.getAll("Content-Type"));
+
+        var visited = new ArrayList<String>();
+        headers.forEachHeader((name, values) -> visited.add(name + "=" + values));
+        assertEquals(List.of("Accept=[application/json, text/html]"), visited);
+    }
+
+    @Test
+    public void testSetReplacesAndRemovesValues() {
+        var headers = Headers.builder()
+            .add("Content-Type", "text/html")
+            .add("Accept", "application/json")
+            .set("content-type", "application/json")
+            .set("Accept", null)
+            .build();
+
+        assertEquals(Map.of("content-type", "application/json"), Map.copyOf(headers));
+    }
+
+    @Test
+    public void testHeaderSetAgainAfterRemovalIsAddedLast() {
+        var headers = Headers.builder()
+            .add("Accept", "application/json")
+            .add("Content-Type", "text/html")
+            .set("accept", null)
+            .add("ACCEPT", "text/html")
+            .build();
+
+        assertEquals(List.of("Content-Type", "ACCEPT"), List.copyOf(headers.keySet()));
+        assertEquals(List.of("text/html"), headers.getAll("Accept"));
+    }
+
+    @Test
+    public void testManyHeadersWithCollidingHashes() {
+        var builder = Headers.builder()
+            .add("a~", "first") // same hash as "b_"
+            .add("b_", "second");
+        for (int i = 0; i < 100; i++) {
+            builder.add("X-Header-" + i, "value-" + i);
+            builder.add("x-header-" + i, "other-" + i);
+        }
+        var headers = builder.build();
+
+        assertEquals(102, headers.size());
+        assertEquals("first", headers.get("A~"));
+        assertEquals("second", headers.get("B_"));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(List.of("value-" + i, "other-" + i), headers.getAll("X-HEADER-" + i));
+        }
+        assertNull(headers.get("X-Header-100"));
+    }
+
+    @Test
+    public void testBehavesAsImmutableMap() {
+        var source = new LinkedHashMap<String, String>();
+        source.put("Content-Type", "application/json");
+        source.put("Accept", "application/json");
+        var headers = Headers.copyOf(source);
+
+        assertEquals(source, headers);
+        assertEquals(source.hashCode(), headers.hashCode());
+        assertEquals(List.of("Content-Type", "Accept"), List.copyOf(headers.keySet()));
+        assertSame(headers, Headers.copyOf(headers));
+        assertThrows(UnsupportedOperationException.class, () -> headers.put("Accept", "text/html"));
+        assertSame(Headers.empty(), Headers.builder().build());
+    }
+}
@@ -0,0 +1,35 @@
+package com.getyourguide.openapi.validation.api.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class OpenApiViolationTest {
+
+    @Test
+    public void testLazyLogMessageIsBuiltOnceOnFirstAccess() {
+        var calls = new AtomicInteger();
+        var violation = OpenApiViolation.builder()
+            .lazyLogMessage(() -> "message " + calls.incrementAndGet())
+            .build();
+
+        assertEquals(0, calls.get());
+        assertEquals("message 1", violation.getLogMessage());
+        assertEquals("message 1", violation.toBuilder().suppressedViolations(2).build().getLogMessage());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testNullLogMessage() {
+        assertNull(OpenApiViolation.builder().logMessage(null).build().getLogMessage());
+        assertNull(OpenApiViolation.builder().lazyLogMessage(null).build().getLogMessage());
+        assertNull(OpenApiViolation.builder().build().getLogMessage());
+    }
+
+    @Test
+    public void testLogMessage() {
+        assertEquals("message", OpenApiViolation.builder().logMessage("message").build().getLogMessage());
+    }
+}
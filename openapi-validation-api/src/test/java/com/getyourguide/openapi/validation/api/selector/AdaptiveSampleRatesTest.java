@@ -0,0 +1,82 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSampleRatesTest {
+    private static final double DELTA = 0.0001;
+    private static final long HALF_LIFE = TimeUnit.MINUTES.toNanos(10);
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final AdaptiveSampleRates sampleRates = new AdaptiveSampleRates(0.1, HALF_LIFE, 64, nanoTime::get);
+
+    @Test
+    public void testNewOperationStartsAtFullRate() {
+        assertEquals(1, sampleRates.getSampleRate(request("GET", "/users/1")), DELTA);
+    }
+
+    @Test
+    public void testCleanOperationDecaysTowardsMinimumRate() {
+        var request = request("GET", "/users/1");
+        sampleRates.getSampleRate(request);
+
+        nanoTime.addAndGet(HALF_LIFE);
+        assertEquals(0.55, sampleRates.getSampleRate(request), DELTA);
+
+        nanoTime.addAndGet(HALF_LIFE);
+        assertEquals(0.325, sampleRates.getSampleRate(request), DELTA);
+
+        nanoTime.addAndGet(TimeUnit.DAYS.toNanos(7));
+        assertEquals(0.1, sampleRates.getSampleRate(request), DELTA);
+    }
+
+    @Test
+    public void testViolationResetsRate() {
+        var request = request("GET", "/users/1");
+        sampleRates.getSampleRate(request);
+        nanoTime.addAndGet(TimeUnit.DAYS.toNanos(1));
+
+        sampleRates.recordViolation(request("GET", "/users/2"));
+
+        assertEquals(1, sampleRates.getSampleRate(request), DELTA);
+    }
+
+    @Test
+    public void testOperationsDecayIndependently() {
+        var clean = request("GET", "/users/1");
+        var violating = request("POST", "/orders");
+        sampleRates.getSampleRate(clean);
+        sampleRates.getSampleRate(violating);
+        nanoTime.addAndGet(TimeUnit.DAYS.toNanos(1));
+
+        sampleRates.recordViolation(violating);
+
+        assertEquals(0.1, sampleRates.getSampleRate(clean), DELTA);
+        assertEquals(1, sampleRates.getSampleRate(violating), DELTA);
+    }
+
+    @Test
+    public void testViolationsRaiseRateAboveBaseRateAndDecayBelowIt() {
+        var request = request("GET", "/users/1");
+        assertEquals(0.01, sampleRates.getSampleRate(request, 0.01), DELTA);
+
+        sampleRates.recordViolation(request);
+        assertEquals(1, sampleRates.getSampleRate(request, 0.01), DELTA);
+
+        nanoTime.addAndGet(HALF_LIFE);
+        assertEquals(0.5005, sampleRates.getSampleRate(request, 0.01), DELTA);
+
+        nanoTime.addAndGet(TimeUnit.DAYS.toNanos(7));
+        assertEquals(0.001, sampleRates.getSampleRate(request, 0.01), DELTA);
+    }
+
+    private static RequestMetaData request(String method, String path) {
+        return new RequestMetaData(method, URI.create("https://api.example.com" + path), Map.of());
+    }
+}
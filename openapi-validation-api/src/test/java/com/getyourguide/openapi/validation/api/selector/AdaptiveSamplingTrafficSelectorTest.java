@@ -0,0 +1,46 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSamplingTrafficSelectorTest {
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+    private final AdaptiveSampleRates sampleRates =
+        new AdaptiveSampleRates(0.1, TimeUnit.MINUTES.toNanos(10), 64, nanoTime::get);
+    private final TrafficSelector selector = new AdaptiveSamplingTrafficSelector(
+        new DefaultTrafficSelector(0.0, Set.of("/internal/**"), null),
+        sampleRates
+    );
+
+    @Test
+    public void testViolatingOperationIsValidatedAboveBaseRate() {
+        var request = request("GET", "/users/1");
+        assertFalse(selector.shouldRequestBeValidated(request));
+
+        sampleRates.recordViolation(request);
+
+        assertTrue(selector.shouldRequestBeValidated(request));
+        assertFalse(selector.shouldRequestBeValidated(request("POST", "/orders")));
+    }
+
+    @Test
+    public void testExcludedPathsStayExcludedAfterViolations() {
+        var request = request("GET", "/internal/metrics");
+
+        sampleRates.recordViolation(request);
+
+        assertFalse(selector.shouldRequestBeValidated(request));
+    }
+
+    private static RequestMetaData request(String method, String path) {
+        return new RequestMetaData(method, URI.create("https://api.example.com" + path), Map.of());
+    }
+}
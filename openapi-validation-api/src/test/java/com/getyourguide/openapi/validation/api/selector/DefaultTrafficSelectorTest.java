@@ -1,12 +1,15 @@
 package com.getyourguide.openapi.validation.api.selector;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeader;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.regex.Pattern;
 import org.junit.jupiter.api.Test;
@@ -42,6 +45,37 @@ class DefaultTrafficSelectorTest {
         assertPathIsExcluded(false, "/v1/path");
     }
 
+    @Test
+    public void testIsExcludedByPathPattern() {
+        var selector = new DefaultTrafficSelector(1.0, Set.of("/internal/**", "/health/{check}"), null);
+
+        assertFalse(selector.shouldRequestBeValidated(buildRequest("GET", "/internal/metrics/jvm")));
+        assertFalse(selector.shouldRequestBeValidated(buildRequest("GET", "/health/db")));
+        assertTrue(selector.shouldRequestBeValidated(buildRequest("GET", "/health/db/details")));
+        assertTrue(selector.shouldRequestBeValidated(buildRequest("GET", "/v1/internal")));
+    }
+
+    @Test
+    public void testUsesSampleRateOfPath() {
+        var selector = new DefaultTrafficSelector(
+            1.0,
+            null,
+            null,
+            null,
+            null,
+            List.of(new PathSampleRate(null, "/search", 0), new PathSampleRate("POST", "/users/{id}", 0))
+        );
+
+        assertFalse(selector.shouldRequestBeValidated(buildRequest("GET", "/search")));
+        assertFalse(selector.shouldRequestBeValidated(buildRequest("POST", "/users/1")));
+        assertTrue(selector.shouldRequestBeValidated(buildRequest("GET", "/users/1")));
+        assertTrue(selector.shouldRequestBeValidated(buildRequest("GET", "/v1/path")));
+    }
+
+    private static RequestMetaData buildRequest(String method, String path) {
+        return new RequestMetaData(method, URI.create("https://api.example.com" + path), Map.of());
+    }
+
     private void assertHeaderIsExcluded(boolean expectedExclusion, String headerName, String headerValue) {
         var request = new RequestMetaData(
             "GET",
@@ -0,0 +1,81 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LoadSheddingTrafficSelectorTest {
+    private static final RequestMetaData REQUEST =
+        new RequestMetaData("GET", URI.create("https://api.example.com/search"), Map.of());
+
+    private final TrafficSelector delegate = mock();
+    private final AtomicReference<Double> saturation = new AtomicReference<>(0.0);
+    private LoadSheddingTrafficSelector selector;
+
+    @BeforeEach
+    public void setup() {
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(true);
+        selector = new LoadSheddingTrafficSelector(delegate, saturation::get, 0.8);
+    }
+
+    @Test
+    public void testSelectsAllRequestsBelowThreshold() {
+        saturation.set(0.8);
+
+        assertEquals(1000, countSelected(1000));
+    }
+
+    @Test
+    public void testSelectsNoRequestsWhenSaturated() {
+        saturation.set(1.0);
+
+        assertEquals(0, countSelected(1000));
+        verify(delegate, never()).shouldRequestBeValidated(any());
+    }
+
+    @Test
+    public void testSelectsFewerRequestsAboveThreshold() {
+        saturation.set(0.9);
+
+        var selected = countSelected(10_000);
+        assertTrue(selected > 4000 && selected < 6000, "selected " + selected);
+    }
+
+    @Test
+    public void testRecoversWhenSaturationDrops() {
+        saturation.set(1.0);
+        assertEquals(0, countSelected(100));
+
+        saturation.set(0.1);
+        assertEquals(100, countSelected(100));
+    }
+
+    @Test
+    public void testRespectsDelegate() {
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(false);
+
+        assertFalse(selector.shouldRequestBeValidated(REQUEST));
+    }
+
+    private int countSelected(int requests) {
+        var selected = 0;
+        for (int i = 0; i < requests; i++) {
+            if (selector.shouldRequestBeValidated(REQUEST)) {
+                selected++;
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,73 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MediaTypeClassifierTest {
+
+    @Test
+    public void testDefaultMediaTypes() {
+        var classifier = new MediaTypeClassifier(null);
+
+        assertTrue(classifier.isValidatable(null));
+        assertTrue(classifier.isValidatable("application/json"));
+        assertTrue(classifier.isValidatable("Application/JSON; charset=UTF-8"));
+        assertTrue(classifier.isValidatable("application/xml"));
+        assertTrue(classifier.isValidatable("text/html;charset=utf-8"));
+        assertFalse(classifier.isValidatable("application/octet-stream"));
+        assertFalse(classifier.isValidatable("multipart/form-data; boundary=abc"));
+        assertFalse(classifier.isValidatable("text/plain"));
+        assertFalse(classifier.isValidatable("json"));
+    }
+
+    @Test
+    public void testDefaultMediaTypesAreMatchedByContainment() {
+        var classifier = new MediaTypeClassifier(null);
+
+        assertFalse(classifier.isValidatable("application/problem+json"));
+        assertFalse(classifier.isValidatable("application/vnd.api+json;version=2"));
+        assertFalse(classifier.isValidatable("text/json"));
+        assertTrue(classifier.isValidatable("application/json-patch+json"));
+        assertTrue(classifier.isValidatable("application/xml-dtd"));
+        assertTrue(classifier.isValidatable("application/json+application/xml"));
+        assertTrue(classifier.isValidatable("multipart/mixed; type=\"application/json\""));
+        assertFalse(classifier.isValidatable("multipart/mixed; type=\"image/png\""));
+    }
+
+    @Test
+    public void testConfiguredMediaTypes() {
+        var classifier = new MediaTypeClassifier(List.of("application/json", "text/*", "*/*+xml"));
+
+        assertTrue(classifier.isValidatable("application/json"));
+        assertTrue(classifier.isValidatable("text/plain"));
+        assertTrue(classifier.isValidatable("image/svg+xml"));
+        assertFalse(classifier.isValidatable("application/problem+json"));
+        assertFalse(classifier.isValidatable("application/xml"));
+    }
+
+    @Test
+    public void testCachedResultIsStable() {
+        var classifier = new MediaTypeClassifier(List.of("application/*+json"));
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(classifier.isValidatable("application/vnd.api+json"));
+            assertFalse(classifier.isValidatable("application/pdf"));
+        }
+    }
+
+    @Test
+    public void testContentTypesWithChangingParametersDoNotFillTheCache() {
+        var classifier = new MediaTypeClassifier(List.of());
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(classifier.isValidatable("multipart/form-data; boundary=" + i));
+        }
+
+        assertTrue(classifier.isValidatable("application/json"));
+        assertEquals(2, classifier.getCachedMediaTypeCount());
+    }
+}
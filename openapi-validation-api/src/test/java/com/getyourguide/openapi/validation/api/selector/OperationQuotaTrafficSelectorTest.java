@@ -0,0 +1,124 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class OperationQuotaTrafficSelectorTest {
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final TrafficSelector delegate = mock();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final OperationQuotaTrafficSelector selector =
+        new OperationQuotaTrafficSelector(delegate, 2, WINDOW_NANOS, 1024, nanoTime::get);
+
+    @BeforeEach
+    public void setup() {
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(true);
+    }
+
+    @Test
+    public void testLimitsValidationsPerOperation() {
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+        assertFalse(selector.shouldRequestBeValidated(request("GET", "/search")));
+
+        assertTrue(selector.shouldRequestBeValidated(request("POST", "/search")));
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/other")));
+    }
+
+    @Test
+    public void testTreatsSegmentsWithDigitsAsSameOperation() {
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/users/1")));
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/users/2f1c0a6e-8c1d-4b7a-9d55-0c6b2a3e4f10")));
+        assertFalse(selector.shouldRequestBeValidated(request("GET", "/users/3")));
+
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/users/1/orders")));
+    }
+
+    @Test
+    public void testResetsQuotaInNextWindow() {
+        selector.shouldRequestBeValidated(request("GET", "/search"));
+        selector.shouldRequestBeValidated(request("GET", "/search"));
+        assertFalse(selector.shouldRequestBeValidated(request("GET", "/search")));
+
+        nanoTime.addAndGet(WINDOW_NANOS);
+
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+    }
+
+    @Test
+    public void testDeclinedRequestsGiveBackTheirQuota() {
+        var request = request("GET", "/search");
+        selector.shouldRequestBeValidated(request);
+        selector.shouldRequestBeValidated(request);
+
+        selector.onRequestDeclined(request);
+
+        assertTrue(selector.shouldRequestBeValidated(request));
+        assertFalse(selector.shouldRequestBeValidated(request));
+        verify(delegate).onRequestDeclined(request);
+    }
+
+    @Test
+    public void testDeclinedRequestsOfPreviousWindowDoNotAddQuota() {
+        selector.shouldRequestBeValidated(request("GET", "/search"));
+        nanoTime.addAndGet(WINDOW_NANOS);
+        selector.shouldRequestBeValidated(request("GET", "/search"));
+        selector.shouldRequestBeValidated(request("GET", "/search"));
+
+        nanoTime.addAndGet(WINDOW_NANOS);
+        selector.onRequestDeclined(request("GET", "/search"));
+
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+        assertFalse(selector.shouldRequestBeValidated(request("GET", "/search")));
+    }
+
+    @Test
+    public void testRequestsNotSelectedByDelegateDoNotConsumeQuota() {
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(false);
+        for (int i = 0; i < 5; i++) {
+            assertFalse(selector.shouldRequestBeValidated(request("GET", "/search")));
+        }
+
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(true);
+        assertTrue(selector.shouldRequestBeValidated(request("GET", "/search")));
+    }
+
+    @Test
+    public void testConcurrentRequestsDoNotExceedQuota() throws InterruptedException {
+        var quotaSelector = new OperationQuotaTrafficSelector(delegate, 100, WINDOW_NANOS, 1024, nanoTime::get);
+        var selected = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (quotaSelector.shouldRequestBeValidated(request("GET", "/search"))) {
+                    selected.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, selected.get());
+    }
+
+    private static RequestMetaData request(String method, String path) {
+        return new RequestMetaData(method, URI.create("https://api.example.com" + path), Map.of());
+    }
+}
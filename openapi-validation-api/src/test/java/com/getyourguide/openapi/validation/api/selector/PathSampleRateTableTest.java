@@ -0,0 +1,53 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class PathSampleRateTableTest {
+    private final PathSampleRateTable table = new PathSampleRateTable(List.of(
+        new PathSampleRate(null, "/search", 0.01),
+        new PathSampleRate(null, "/users/{id}", 0.5),
+        new PathSampleRate("POST", "/users/{id}", 0.2),
+        new PathSampleRate(null, "/users/me", 1.0),
+        new PathSampleRate(null, "/users/{id}/orders/{orderId}", 0.3),
+        new PathSampleRate(null, "/", 0.7)
+    ));
+
+    @Test
+    public void testMatchesLiteralPaths() {
+        assertEquals(0.01, table.findSampleRate("GET", "/search"));
+        assertEquals(0.01, table.findSampleRate("GET", "/search/"));
+        assertEquals(0.7, table.findSampleRate("GET", "/"));
+        assertNull(table.findSampleRate("GET", "/search/more"));
+        assertNull(table.findSampleRate("GET", "/other"));
+    }
+
+    @Test
+    public void testMatchesParametersAndPrefersLiterals() {
+        assertEquals(0.5, table.findSampleRate("GET", "/users/123"));
+        assertEquals(1.0, table.findSampleRate("GET", "/users/me"));
+        assertEquals(0.3, table.findSampleRate("GET", "/users/123/orders/456"));
+        assertEquals(0.3, table.findSampleRate("GET", "/users/me/orders/456"));
+        assertNull(table.findSampleRate("GET", "/users/123/orders"));
+        assertNull(table.findSampleRate("GET", "/users//orders/1"));
+    }
+
+    @Test
+    public void testPrefersRateOfMethod() {
+        assertEquals(0.2, table.findSampleRate("POST", "/users/123"));
+        assertEquals(0.2, table.findSampleRate("post", "/users/123"));
+        assertEquals(0.5, table.findSampleRate("PUT", "/users/123"));
+    }
+
+    @Test
+    public void testEmptyTable() {
+        var emptyTable = new PathSampleRateTable(List.of());
+
+        assertTrue(emptyTable.isEmpty());
+        assertNull(emptyTable.findSampleRate("GET", "/search"));
+    }
+}
@@ -0,0 +1,142 @@
+package com.getyourguide.openapi.validation.api.selector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RateLimitingTrafficSelectorTest {
+    private static final RequestMetaData REQUEST =
+        new RequestMetaData("GET", URI.create("https://api.example.com/search"), Map.of());
+
+    private final TrafficSelector delegate = mock();
+    private final MetricsReporter metricsReporter = mock();
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+
+    @BeforeEach
+    public void setup() {
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(true);
+    }
+
+    @Test
+    public void testAdmitsOneSecondOfValidationsAsBurst() {
+        var selector = new RateLimitingTrafficSelector(delegate, 10, metricsReporter, nanoTime::get);
+
+        assertEquals(10, countAdmitted(selector, 100));
+        verify(metricsReporter, times(10)).reportRateLimitAdmitted();
+        verify(metricsReporter, times(90)).reportRateLimitDenied();
+    }
+
+    @Test
+    public void testRefillsAtConfiguredRate() {
+        var selector = new RateLimitingTrafficSelector(delegate, 10, metricsReporter, nanoTime::get);
+        countAdmitted(selector, 100);
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(1, countAdmitted(selector, 100));
+
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertEquals(5, countAdmitted(selector, 100));
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        assertEquals(10, countAdmitted(selector, 100));
+    }
+
+    @Test
+    public void testSupportsRatesBelowOnePerSecond() {
+        var selector = new RateLimitingTrafficSelector(delegate, 0.5, metricsReporter, nanoTime::get);
+
+        assertEquals(1, countAdmitted(selector, 10));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, countAdmitted(selector, 10));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(1, countAdmitted(selector, 10));
+    }
+
+    @Test
+    public void testRequestsNotSelectedByDelegateAreNotCounted() {
+        var selector = new RateLimitingTrafficSelector(delegate, 1, metricsReporter, nanoTime::get);
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(false);
+
+        assertFalse(selector.shouldRequestBeValidated(REQUEST));
+
+        verify(metricsReporter, never()).reportRateLimitAdmitted();
+        verify(metricsReporter, never()).reportRateLimitDenied();
+        when(delegate.shouldRequestBeValidated(any())).thenReturn(true);
+        assertTrue(selector.shouldRequestBeValidated(REQUEST));
+    }
+
+    @Test
+    public void testDeniedRequestsAreGivenBackToDelegate() {
+        var selector = new RateLimitingTrafficSelector(delegate, 1, metricsReporter, nanoTime::get);
+
+        assertTrue(selector.shouldRequestBeValidated(REQUEST));
+        assertFalse(selector.shouldRequestBeValidated(REQUEST));
+
+        verify(delegate, times(1)).onRequestDeclined(REQUEST);
+    }
+
+    @Test
+    public void testDeniedRequestsDoNotConsumeOperationQuota() {
+        var quotaSelector = new OperationQuotaTrafficSelector(delegate, 1, TimeUnit.SECONDS.toNanos(60), 1024,
+            nanoTime::get);
+        var selector = new RateLimitingTrafficSelector(quotaSelector, 1, metricsReporter, nanoTime::get);
+        var otherRequest = new RequestMetaData("GET", URI.create("https://api.example.com/other"), Map.of());
+
+        assertTrue(selector.shouldRequestBeValidated(REQUEST));
+        assertFalse(selector.shouldRequestBeValidated(otherRequest));
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        assertTrue(selector.shouldRequestBeValidated(otherRequest));
+    }
+
+    @Test
+    public void testConcurrentRequestsDoNotExceedRate() throws InterruptedException {
+        var selector = new RateLimitingTrafficSelector(delegate, 100, metricsReporter, nanoTime::get);
+        var admitted = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (selector.shouldRequestBeValidated(REQUEST)) {
+                    admitted.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, admitted.get());
+    }
+
+    @Test
+    public void testRejectsNonPositiveRate() {
+        assertThrows(IllegalArgumentException.class, () -> new RateLimitingTrafficSelector(delegate, 0, metricsReporter));
+    }
+
+    private static int countAdmitted(TrafficSelector selector, int requests) {
+        var admitted = 0;
+        for (int i = 0; i < requests; i++) {
+            if (selector.shouldRequestBeValidated(REQUEST)) {
+                admitted++;
+            }
+        }
+        return admitted;
+    }
+}
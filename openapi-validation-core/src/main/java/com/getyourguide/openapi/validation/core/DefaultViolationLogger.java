@@ -36,6 +36,9 @@ public class DefaultViolationLogger implements ViolationLogger {
         violation.getOperationId().ifPresent(operationId -> context.put("validation.api.operation_id", operationId));
         violation.getInstance().ifPresent(instance -> context.put("validation.instance", instance));
         violation.getParameter().ifPresent(instance -> context.put("validation.parameter", instance));
+        if (violation.getSuppressedViolations() > 0) {
+            context.put("validation.suppressed_count", String.valueOf(violation.getSuppressedViolations()));
+        }
         return context;
     }
 }
@@ -2,29 +2,57 @@ package com.getyourguide.openapi.validation.core;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
 import com.atlassian.oai.validator.report.LevelResolver;
+import com.atlassian.oai.validator.report.MessageResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.atlassian.oai.validator.util.OpenApiLoader;
+import com.atlassian.oai.validator.whitelist.ValidationErrorsWhitelist;
 import com.getyourguide.openapi.validation.api.log.LogLevel;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
 import com.getyourguide.openapi.validation.api.model.ValidatorConfiguration;
+import com.getyourguide.openapi.validation.core.reload.SpecFileWatcher;
+import com.getyourguide.openapi.validation.core.validator.ApiOperationCache;
 import com.getyourguide.openapi.validation.core.validator.MultipleSpecOpenApiInteractionValidatorWrapper;
 import com.getyourguide.openapi.validation.core.validator.OpenApiInteractionValidatorWrapper;
+import com.getyourguide.openapi.validation.core.validator.ReloadableOpenApiInteractionValidatorWrapper;
 import com.getyourguide.openapi.validation.core.validator.SingleSpecOpenApiInteractionValidatorWrapper;
+import com.getyourguide.openapi.validation.core.validator.schema.CompiledSchemaValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.ParseOptions;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 @Slf4j
+@AllArgsConstructor
 public class OpenApiInteractionValidatorFactory {
+    private final MetricsReporter metricsReporter;
+    @Nullable
+    private final SpecFileWatcher specFileWatcher;
+
+    public OpenApiInteractionValidatorFactory(MetricsReporter metricsReporter) {
+        this(metricsReporter, null);
+    }
+
     @Nullable
     public OpenApiInteractionValidatorWrapper build(
         String specificationFilePath,
@@ -34,62 +62,164 @@ public class OpenApiInteractionValidatorFactory {
             return buildMultipleSpecOpenApiInteractionValidatorWrapper(configuration);
         }
 
+        var startTime = System.nanoTime();
         var specOptional = loadOpenAPISpec(specificationFilePath);
         if (specOptional.isEmpty()) {
             log.info("OpenAPI spec file `{}` could not be found [validation disabled]", specificationFilePath);
             return null;
         }
 
-        return buildSingleSpecOpenApiInteractionValidatorWrapper(specOptional.get(),
-            configuration.getLevelResolverLevels(), configuration.getLevelResolverDefaultLevel());
+        var validator = buildSingleSpecOpenApiInteractionValidatorWrapper(specOptional.get(), configuration);
+        reportSpecLoaded(specificationFilePath, startTime);
+        return watchForChanges(specificationFilePath, validator, configuration);
     }
 
+    /**
+     * Loads and builds the validators of all specs in parallel on a bounded pool, as parsing and resolving large specs
+     * is expensive. The validators keep the order of the configured path patterns.
+     */
     private MultipleSpecOpenApiInteractionValidatorWrapper buildMultipleSpecOpenApiInteractionValidatorWrapper(
         ValidatorConfiguration configuration) {
-        var validators = configuration.getSpecificationPaths().stream()
-            .map(entry -> {
-                var path = entry.specificationFilePath();
-                var specOptional = loadSpecFromPath(path).or(() -> loadSpecFromResources(path));
-                if (specOptional.isEmpty()) {
-                    log.error("[OpenAPI Validation] Spec file {} could not be found", path);
-                    return null;
-                }
-                var validator = buildSingleSpecOpenApiInteractionValidatorWrapper(specOptional.get(),
-                    configuration.getLevelResolverLevels(), configuration.getLevelResolverDefaultLevel());
-                return Pair.of(entry.pathPattern(), (OpenApiInteractionValidatorWrapper) validator);
-            })
-            .filter(Objects::nonNull)
-            .collect(Collectors.toList());
-
-        if (validators.isEmpty()) {
-            log.info("OpenAPI spec file(s) could not be found [validation disabled]");
+        var specificationPaths = configuration.getSpecificationPaths();
+        var parallelism = Math.min(specificationPaths.size(), configuration.getSpecLoadingParallelism());
+        var executor = Executors.newFixedThreadPool(
+            parallelism,
+            Thread.ofPlatform().name("openapi-validation-spec-loader-", 0).daemon().factory()
+        );
+        try {
+            var futures = specificationPaths.stream()
+                .map(entry -> CompletableFuture.supplyAsync(
+                    () -> buildPathPatternValidator(entry, configuration),
+                    executor
+                ))
+                .toList();
+            var validators = futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+            if (validators.isEmpty()) {
+                log.info("OpenAPI spec file(s) could not be found [validation disabled]");
+                return null;
+            }
+
+            return new MultipleSpecOpenApiInteractionValidatorWrapper(validators);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Nullable
+    private Pair<Pattern, OpenApiInteractionValidatorWrapper> buildPathPatternValidator(
+        ValidatorConfiguration.PathPatternSpec entry,
+        ValidatorConfiguration configuration
+    ) {
+        var startTime = System.nanoTime();
+        var path = entry.specificationFilePath();
+        var specOptional = loadSpecFromPath(path).or(() -> loadSpecFromResources(path));
+        if (specOptional.isEmpty()) {
+            log.error("[OpenAPI Validation] Spec file {} could not be found", path);
             return null;
         }
+        var validator = buildSingleSpecOpenApiInteractionValidatorWrapper(specOptional.get(), configuration);
+        reportSpecLoaded(path, startTime);
+        return Pair.of(entry.pathPattern(), watchForChanges(path, validator, configuration));
+    }
+
+    /**
+     * Wraps the validator of a spec read from the file system so that it is rebuilt and swapped in when the file
+     * changes. Specs from the classpath can't change and are not watched.
+     */
+    @Nullable
+    private OpenApiInteractionValidatorWrapper watchForChanges(
+        String specificationFilePath,
+        @Nullable OpenApiInteractionValidatorWrapper validator,
+        ValidatorConfiguration configuration
+    ) {
+        if (specFileWatcher == null || validator == null || specificationFilePath == null) {
+            return validator;
+        }
+        if (!new File(specificationFilePath).isFile()) {
+            return validator;
+        }
+
+        var reloadableValidator = new ReloadableOpenApiInteractionValidatorWrapper(validator);
+        specFileWatcher.watch(
+            Path.of(specificationFilePath),
+            () -> reloadSpec(specificationFilePath, reloadableValidator, configuration)
+        );
+        return reloadableValidator;
+    }
+
+    private void reloadSpec(
+        String specificationFilePath,
+        ReloadableOpenApiInteractionValidatorWrapper validator,
+        ValidatorConfiguration configuration
+    ) {
+        var startTime = System.nanoTime();
+        var reloaded = validator.reload(() -> loadSpecFromPath(specificationFilePath)
+            .map(spec -> buildSingleSpecOpenApiInteractionValidatorWrapper(spec, configuration))
+            .orElse(null));
+        var reloadTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (reloaded) {
+            log.info("[OpenAPI Validation] Reloaded spec {} in {} ms", specificationFilePath, reloadTimeMs);
+        } else {
+            log.warn("[OpenAPI Validation] Could not reload spec {}, keeping the previous one", specificationFilePath);
+        }
+        metricsReporter.reportSpecReloaded(specificationFilePath, reloaded, reloadTimeMs);
+    }
 
-        return new MultipleSpecOpenApiInteractionValidatorWrapper(validators);
+    private void reportSpecLoaded(String specificationFilePath, long startTime) {
+        var loadTimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        log.info("[OpenAPI Validation] Loaded spec {} in {} ms", specificationFilePath, loadTimeMs);
+        metricsReporter.reportSpecLoaded(specificationFilePath, loadTimeMs);
     }
 
     @Nullable
     private SingleSpecOpenApiInteractionValidatorWrapper buildSingleSpecOpenApiInteractionValidatorWrapper(
         String spec,
-        Map<String, LogLevel> levelResolverLevels,
-        LogLevel levelResolverDefaultLevel
+        ValidatorConfiguration configuration
     ) {
         try {
-            var validator = OpenApiInteractionValidator
-                .createForInlineApiSpecification(spec)
-                .withResolveRefs(true)
-                .withResolveCombinators(true) // Inline to avoid problems with allOf
-                .withLevelResolver(buildLevelResolver(levelResolverLevels, levelResolverDefaultLevel))
-                .withStrictOperationPathMatching()
-                .build();
-            return new SingleSpecOpenApiInteractionValidatorWrapper(validator);
+            var parseOptions = new ParseOptions();
+            parseOptions.setResolve(true);
+            parseOptions.setResolveFully(true);
+            parseOptions.setResolveCombinators(true); // Inline to avoid problems with allOf
+            var api = new OpenApiLoader()
+                .loadApi(OpenApiInteractionValidator.SpecSource.inline(spec), List.of(), parseOptions);
+            var messages = new MessageResolver(buildLevelResolver(
+                configuration.getLevelResolverLevels(), configuration.getLevelResolverDefaultLevel()));
+            var operationCache = new ApiOperationCache(api, metricsReporter); // strict operation path matching
+            var schemaValidator = buildSchemaValidator(api, messages, configuration.getSchemaValidationEngine());
+            return new SingleSpecOpenApiInteractionValidatorWrapper(
+                api,
+                messages,
+                operationCache,
+                schemaValidator,
+                ValidationErrorsWhitelist.create()
+            );
         } catch (Throwable e) {
             log.error("[OpenAPI Validation] Could not initialize OpenApiInteractionValidator [validation disabled]", e);
             return null;
         }
     }
 
+    private static SchemaValidator buildSchemaValidator(
+        OpenAPI api,
+        MessageResolver messages,
+        @Nullable SchemaValidationEngine engine
+    ) {
+        if (engine == null) {
+            return new SchemaValidator(api, messages);
+        }
+
+        return switch (engine) {
+            case DEFAULT -> new SchemaValidator(api, messages);
+            case COMPILED -> new CompiledSchemaValidator(api, messages, false);
+            case STREAMING -> new CompiledSchemaValidator(api, messages, true);
+        };
+    }
+
     @NonNull
     private Optional<String> loadOpenAPISpec(String specificationFilePath) {
         return loadSpecFromPath(specificationFilePath)
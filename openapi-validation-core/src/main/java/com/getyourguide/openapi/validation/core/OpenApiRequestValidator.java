@@ -3,31 +3,46 @@ package com.getyourguide.openapi.validation.core;
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.model.SimpleRequest;
 import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.ValidationReport;
 import com.getyourguide.openapi.validation.api.log.LogLevel;
 import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
 import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
 import com.getyourguide.openapi.validation.api.model.Direction;
+import com.getyourguide.openapi.validation.api.model.Headers;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
 import com.getyourguide.openapi.validation.core.exclusions.InternalViolationExclusions;
+import com.getyourguide.openapi.validation.core.executor.ObservableExecutor;
 import com.getyourguide.openapi.validation.core.mapper.ValidationReportToOpenApiViolationsMapper;
+import com.getyourguide.openapi.validation.core.query.QueryStringParser;
 import com.getyourguide.openapi.validation.core.validator.OpenApiInteractionValidatorWrapper;
-import java.net.URLDecoder;
+import com.getyourguide.openapi.validation.core.validator.StreamedBody;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.client.utils.URLEncodedUtils;
 
 @Slf4j
 public class OpenApiRequestValidator {
+    private static final String REQUEST_BODY_RULE_PREFIX = "validation.request.body.";
+    private static final String RESPONSE_BODY_RULE_PREFIX = "validation.response.body.";
+
     private final Executor executor;
-    private final OpenApiInteractionValidatorWrapper validator;
+    private final MetricsReporter metricsReporter;
+    private final AtomicReference<OpenApiInteractionValidatorWrapper> validator = new AtomicReference<>();
     private final ValidationReportToOpenApiViolationsMapper mapper;
     private final InternalViolationExclusions violationExclusions;
+    private final OpenApiRequestValidationConfiguration configuration;
 
     public OpenApiRequestValidator(
         Executor executor,
@@ -38,19 +53,73 @@ public class OpenApiRequestValidator {
         OpenApiRequestValidationConfiguration configuration
     ) {
         this.executor = executor;
-        this.validator = validator;
+        this.metricsReporter = metricsReporter;
         this.mapper = mapper;
         this.violationExclusions = violationExclusions;
+        this.configuration = configuration;
+
+        this.validator.set(validator);
+        registerExecutor();
+        reportStartup();
+    }
 
+    /**
+     * Creates a validator that builds its {@link OpenApiInteractionValidatorWrapper} on the initialization executor,
+     * so that the caller does not wait for the specs to be loaded. Traffic is not validated until the built validator
+     * is swapped in and {@link #isReady()} returns true.
+     */
+    public OpenApiRequestValidator(
+        Executor executor,
+        MetricsReporter metricsReporter,
+        Supplier<OpenApiInteractionValidatorWrapper> validatorSupplier,
+        Executor initializationExecutor,
+        ValidationReportToOpenApiViolationsMapper mapper,
+        InternalViolationExclusions violationExclusions,
+        OpenApiRequestValidationConfiguration configuration
+    ) {
+        this.executor = executor;
+        this.metricsReporter = metricsReporter;
+        this.mapper = mapper;
+        this.violationExclusions = violationExclusions;
+        this.configuration = configuration;
+
+        registerExecutor();
+        initializationExecutor.execute(() -> initialize(validatorSupplier));
+    }
+
+    private void registerExecutor() {
+        if (executor instanceof ObservableExecutor observableExecutor) {
+            metricsReporter.registerExecutor(observableExecutor::getQueueSize, observableExecutor::getActiveCount);
+        }
+    }
+
+    private void initialize(Supplier<OpenApiInteractionValidatorWrapper> validatorSupplier) {
+        try {
+            validator.set(validatorSupplier.get());
+        } catch (RuntimeException e) {
+            log.error("[OpenAPI Validation] Could not initialize validator [validation disabled]", e);
+        }
+        reportStartup();
+    }
+
+    private void reportStartup() {
         metricsReporter.reportStartup(
-            validator != null,
+            isReady(),
             configuration.getSampleRate(),
-            configuration.getValidationReportThrottleWaitSeconds()
+            configuration.getValidationReportThrottleWaitSeconds(),
+            configuration.getPathSampleRateCount()
         );
     }
 
     public boolean isReady() {
-        return validator != null;
+        return validator.get() != null;
+    }
+
+    /**
+     * Returns the saturation of the executor used for async validation, or 0 if it does not expose it.
+     */
+    public double getExecutorSaturation() {
+        return executor instanceof ObservableExecutor observableExecutor ? observableExecutor.getSaturation() : 0;
     }
 
     public void validateRequestObjectAsync(
@@ -65,6 +134,30 @@ public class OpenApiRequestValidator {
         });
     }
 
+    public void validateRequestObjectAsync(
+        final RequestMetaData request,
+        @Nullable ResponseMetaData response,
+        @Nullable byte[] requestBody,
+        Charset charset,
+        OpenApiViolationHandler listener
+    ) {
+        executeAsync(() -> {
+            var violations = validateRequestObject(request, response, requestBody, charset);
+            violations.forEach(listener::onOpenApiViolation);
+        });
+    }
+
+    public void validateRequestObjectSkippingBodyAsync(
+        final RequestMetaData request,
+        @Nullable ResponseMetaData response,
+        OpenApiViolationHandler listener
+    ) {
+        executeAsync(() -> {
+            var violations = validateRequestObjectSkippingBody(request, response);
+            violations.forEach(listener::onOpenApiViolation);
+        });
+    }
+
     public void validateResponseObjectAsync(
         final RequestMetaData request,
         ResponseMetaData response,
@@ -77,11 +170,47 @@ public class OpenApiRequestValidator {
         });
     }
 
+    public void validateResponseObjectAsync(
+        final RequestMetaData request,
+        ResponseMetaData response,
+        @Nullable final byte[] responseBody,
+        Charset charset,
+        OpenApiViolationHandler listener
+    ) {
+        executeAsync(() -> {
+            var violations = validateResponseObject(request, response, responseBody, charset);
+            violations.forEach(listener::onOpenApiViolation);
+        });
+    }
+
+    public void validateResponseObjectSkippingBodyAsync(
+        final RequestMetaData request,
+        ResponseMetaData response,
+        OpenApiViolationHandler listener
+    ) {
+        executeAsync(() -> {
+            var violations = validateResponseObjectSkippingBody(request, response);
+            violations.forEach(listener::onOpenApiViolation);
+        });
+    }
+
     private void executeAsync(Runnable command) {
+        var submittedAt = System.nanoTime();
         try {
-            executor.execute(command);
-        } catch (RejectedExecutionException ignored) {
-            // ignored
+            executor.execute(() -> {
+                var startedAt = System.nanoTime();
+                try {
+                    command.run();
+                } finally {
+                    metricsReporter.reportValidationTaskExecuted(
+                        TimeUnit.NANOSECONDS.toMillis(startedAt - submittedAt),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)
+                    );
+                }
+            });
+            metricsReporter.reportValidationTaskSubmitted();
+        } catch (RejectedExecutionException e) {
+            metricsReporter.reportValidationTaskDropped();
         }
     }
 
@@ -94,10 +223,81 @@ public class OpenApiRequestValidator {
         @Nullable final ResponseMetaData response,
         String requestBody
     ) {
+        return validateRequestWithBody(
+            request,
+            response,
+            requestBuilder -> {
+                if (requestBody != null) {
+                    requestBuilder.withBody(requestBody);
+                }
+            },
+            null,
+            () -> requestBody
+        );
+    }
+
+    /**
+     * Validates the request with its body given as bytes, so that JSON bodies can be parsed without first decoding
+     * them into a {@link String}. The bytes and charset are also passed on for streaming validation. The body is only
+     * decoded when a violation needs to carry it.
+     */
+    public List<OpenApiViolation> validateRequestObject(
+        final RequestMetaData request,
+        @Nullable final ResponseMetaData response,
+        @Nullable final byte[] requestBody,
+        Charset charset
+    ) {
+        return validateRequestWithBody(
+            request,
+            response,
+            requestBuilder -> {
+                if (requestBody != null) {
+                    if (isParsableFromBytes(charset)) {
+                        requestBuilder.withBody(requestBody);
+                    } else {
+                        requestBuilder.withBody(new String(requestBody, charset));
+                    }
+                }
+            },
+            requestBody != null ? new StreamedBody(requestBody, charset) : null,
+            () -> requestBody != null ? new String(requestBody, charset) : null
+        );
+    }
+
+    /**
+     * Validates the request without its body, used when the body exceeds the configured maximum size and was therefore
+     * not cached. Path, query parameters and headers are still validated, body violations are dropped.
+     */
+    public List<OpenApiViolation> validateRequestObjectSkippingBody(
+        final RequestMetaData request,
+        @Nullable final ResponseMetaData response
+    ) {
+        metricsReporter.reportBodyTooLarge(Direction.REQUEST);
+        return withoutBodyViolations(
+            validateRequestWithBody(request, response, requestBuilder -> { }, null, () -> null),
+            REQUEST_BODY_RULE_PREFIX
+        );
+    }
+
+    private List<OpenApiViolation> validateRequestWithBody(
+        final RequestMetaData request,
+        @Nullable final ResponseMetaData response,
+        Consumer<SimpleRequest.Builder> bodyApplier,
+        @Nullable StreamedBody streamedBody,
+        Supplier<String> bodySupplier
+    ) {
+        var currentValidator = validator.get();
+        if (currentValidator == null) {
+            return List.of();
+        }
+
         try {
-            var simpleRequest = buildSimpleRequest(request, requestBody);
-            var result = validator.validateRequest(simpleRequest);
-            var violations = mapper.map(result, request, response, Direction.REQUEST, requestBody);
+            var simpleRequest = buildSimpleRequest(request, bodyApplier);
+            var result = streamedBody != null
+                ? currentValidator.validateRequest(simpleRequest, streamedBody)
+                : currentValidator.validateRequest(simpleRequest);
+            var body = getBodyForViolations(result, bodySupplier);
+            var violations = mapper.map(result, request, response, Direction.REQUEST, body);
             return violations.stream()
                 .filter(this::isNonExcludedViolation)
                 .toList();
@@ -107,23 +307,27 @@ public class OpenApiRequestValidator {
         }
     }
 
-    private static SimpleRequest buildSimpleRequest(RequestMetaData request, String requestBody) {
+    private static SimpleRequest buildSimpleRequest(
+        RequestMetaData request,
+        Consumer<SimpleRequest.Builder> bodyApplier
+    ) {
         var requestBuilder = new SimpleRequest.Builder(request.getMethod(), request.getUri().getPath());
-        URLEncodedUtils.parse(request.getUri(), StandardCharsets.UTF_8)
-            .forEach(p -> requestBuilder.withQueryParam(p.getName(), nullSafeUrlDecode(p.getValue())));
-        if (requestBody != null) {
-            requestBuilder.withBody(requestBody);
-        }
-        request.getHeaders().forEach(requestBuilder::withHeader);
+        QueryStringParser.parse(request.getUri().getRawQuery(), requestBuilder::withQueryParam);
+        bodyApplier.accept(requestBuilder);
+        applyHeaders(request.getHeaders(), requestBuilder::withHeader, requestBuilder::withHeader);
         return requestBuilder.build();
     }
 
-    private static String nullSafeUrlDecode(String value) {
-        if (value == null) {
-            return null;
+    private static void applyHeaders(
+        Map<String, String> headers,
+        BiConsumer<String, String> singleValueApplier,
+        BiConsumer<String, List<String>> multiValueApplier
+    ) {
+        if (headers instanceof Headers multiValueHeaders) {
+            multiValueHeaders.forEachHeader(multiValueApplier);
+        } else {
+            headers.forEach(singleValueApplier);
         }
-
-        return URLDecoder.decode(value, StandardCharsets.UTF_8);
     }
 
     public List<OpenApiViolation> validateResponseObject(
@@ -131,20 +335,87 @@ public class OpenApiRequestValidator {
         final ResponseMetaData response,
         final String responseBody
     ) {
+        return validateResponseWithBody(
+            request,
+            response,
+            responseBuilder -> {
+                if (responseBody != null) {
+                    responseBuilder.withContentType(response.getContentType());
+                    responseBuilder.withBody(responseBody);
+                }
+            },
+            null,
+            () -> responseBody
+        );
+    }
+
+    /**
+     * Validates the response with its body given as bytes, see
+     * {@link #validateRequestObject(RequestMetaData, ResponseMetaData, byte[], Charset)}.
+     */
+    public List<OpenApiViolation> validateResponseObject(
+        final RequestMetaData request,
+        final ResponseMetaData response,
+        @Nullable final byte[] responseBody,
+        Charset charset
+    ) {
+        return validateResponseWithBody(
+            request,
+            response,
+            responseBuilder -> {
+                if (responseBody != null) {
+                    responseBuilder.withContentType(response.getContentType());
+                    if (isParsableFromBytes(charset)) {
+                        responseBuilder.withBody(responseBody);
+                    } else {
+                        responseBuilder.withBody(new String(responseBody, charset));
+                    }
+                }
+            },
+            responseBody != null ? new StreamedBody(responseBody, charset) : null,
+            () -> responseBody != null ? new String(responseBody, charset) : null
+        );
+    }
+
+    /**
+     * Validates the response without its body, see {@link #validateRequestObjectSkippingBody}.
+     */
+    public List<OpenApiViolation> validateResponseObjectSkippingBody(
+        final RequestMetaData request,
+        final ResponseMetaData response
+    ) {
+        metricsReporter.reportBodyTooLarge(Direction.RESPONSE);
+        return withoutBodyViolations(
+            validateResponseWithBody(request, response, responseBuilder -> { }, null, () -> null),
+            RESPONSE_BODY_RULE_PREFIX
+        );
+    }
+
+    private List<OpenApiViolation> validateResponseWithBody(
+        final RequestMetaData request,
+        final ResponseMetaData response,
+        Consumer<SimpleResponse.Builder> bodyApplier,
+        @Nullable StreamedBody streamedBody,
+        Supplier<String> bodySupplier
+    ) {
+        var currentValidator = validator.get();
+        if (currentValidator == null) {
+            return List.of();
+        }
+
         try {
             var responseBuilder = new SimpleResponse.Builder(response.getStatusCode());
-            response.getHeaders().forEach(responseBuilder::withHeader);
-            if (responseBody != null) {
-                responseBuilder.withContentType(response.getContentType());
-                responseBuilder.withBody(responseBody);
-            }
-
-            var result = validator.validateResponse(
-                request.getUri().getPath(),
-                Request.Method.valueOf(request.getMethod().toUpperCase()),
-                responseBuilder.build()
-            );
-            var violations = mapper.map(result, request, response, Direction.RESPONSE, responseBody);
+            applyHeaders(response.getHeaders(), responseBuilder::withHeader, responseBuilder::withHeader);
+            bodyApplier.accept(responseBuilder);
+
+            var path = request.getUri().getPath();
+            var method = Request.Method.valueOf(request.getMethod().toUpperCase());
+            var simpleResponse = responseBuilder.build();
+            var result = streamedBody != null
+                ? currentValidator.validateResponse(path, method, simpleResponse, streamedBody)
+                : currentValidator.validateResponse(path, method, simpleResponse);
+            var body = getBodyForViolations(result, bodySupplier);
+            var violations = mapper.map(result, request, response, Direction.RESPONSE, body);
             return violations.stream()
                 .filter(this::isNonExcludedViolation)
                 .toList();
@@ -154,6 +425,24 @@ public class OpenApiRequestValidator {
         }
     }
 
+    /**
+     * Jackson detects the UTF encodings by itself, other charsets need to be decoded before parsing.
+     */
+    private static boolean isParsableFromBytes(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    private static List<OpenApiViolation> withoutBodyViolations(List<OpenApiViolation> violations, String bodyRulePrefix) {
+        return violations.stream()
+            .filter(violation -> violation.getRule() == null || !violation.getRule().startsWith(bodyRulePrefix))
+            .toList();
+    }
+
+    @Nullable
+    private static String getBodyForViolations(ValidationReport result, Supplier<String> bodySupplier) {
+        return result.getMessages().isEmpty() ? null : bodySupplier.get();
+    }
+
     private boolean isNonExcludedViolation(OpenApiViolation violation) {
         return !LogLevel.IGNORE.equals(violation.getLevel()) && !violationExclusions.isExcluded(violation);
     }
@@ -4,10 +4,13 @@ import com.getyourguide.openapi.validation.api.Rules;
 import com.getyourguide.openapi.validation.api.exclusions.ViolationExclusions;
 import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import java.util.regex.Pattern;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 public class InternalViolationExclusions {
+    private static final Pattern ONE_OF_MATCHES_MORE_THAN_ONE_SCHEMA =
+        Pattern.compile(".*Instance failed to match exactly one schema \\(matched [1-9][0-9]* out of \\d+\\).*");
 
     private final ViolationExclusions customViolationExclusions;
 
@@ -27,8 +30,7 @@ public class InternalViolationExclusions {
             Rules.Response.BODY_SCHEMA_ONE_OF.equals(violation.getRule())
                 || Rules.Request.BODY_SCHEMA_ONE_OF.equals(violation.getRule())
             )
-            && violation.getMessage()
-            .matches(".*Instance failed to match exactly one schema \\(matched [1-9][0-9]* out of \\d+\\).*");
+            && ONE_OF_MATCHES_MORE_THAN_ONE_SCHEMA.matcher(violation.getMessage()).matches();
     }
 
     private boolean falsePositive404(OpenApiViolation violation) {
@@ -0,0 +1,54 @@
+package com.getyourguide.openapi.validation.core.executor;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoundedThreadPoolExecutor extends ThreadPoolExecutor implements ObservableExecutor {
+    private static final long KEEP_ALIVE_MILLIS = 1000L;
+
+    private final int capacity;
+    // Tracked separately, as ThreadPoolExecutor.getActiveCount() takes the main lock and is too costly per request
+    private final AtomicInteger runningCount = new AtomicInteger(0);
+
+    public BoundedThreadPoolExecutor(int corePoolSize, int maximumPoolSize, int queueCapacity) {
+        super(
+            corePoolSize,
+            maximumPoolSize,
+            KEEP_ALIVE_MILLIS,
+            TimeUnit.MILLISECONDS,
+            createQueue(queueCapacity),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.capacity = maximumPoolSize + Math.max(queueCapacity, 0);
+    }
+
+    private static BlockingQueue<Runnable> createQueue(int queueCapacity) {
+        return queueCapacity > 0 ? new LinkedBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+    }
+
+    @Override
+    protected void beforeExecute(Thread thread, Runnable runnable) {
+        runningCount.incrementAndGet();
+        super.beforeExecute(thread, runnable);
+    }
+
+    @Override
+    protected void afterExecute(Runnable runnable, Throwable throwable) {
+        super.afterExecute(runnable, throwable);
+        runningCount.decrementAndGet();
+    }
+
+    @Override
+    public int getQueueSize() {
+        return getQueue().size();
+    }
+
+    @Override
+    public double getSaturation() {
+        return capacity > 0 ? Math.min((double) (runningCount.get() + getQueueSize()) / capacity, 1) : 1;
+    }
+}
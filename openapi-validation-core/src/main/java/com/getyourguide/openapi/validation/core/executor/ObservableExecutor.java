@@ -0,0 +1,22 @@
+package com.getyourguide.openapi.validation.core.executor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor that exposes its current utilization so it can be reported and sized against real traffic.
+ *
+ * <p>Implementations throw {@link java.util.concurrent.RejectedExecutionException} when they are saturated instead of
+ * silently discarding the task.
+ */
+public interface ObservableExecutor extends Executor {
+    int getQueueSize();
+
+    int getActiveCount();
+
+    /**
+     * Returns how much of the capacity (running tasks and queue) is in use, from 0 (idle) to 1 (saturated).
+     *
+     * <p>Called for every request, so implementations must not take locks.</p>
+     */
+    double getSaturation();
+}
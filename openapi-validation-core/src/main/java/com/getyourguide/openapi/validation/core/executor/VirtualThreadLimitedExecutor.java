@@ -1,10 +1,10 @@
 package com.getyourguide.openapi.validation.core.executor;
 
-import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 
-public class VirtualThreadLimitedExecutor implements Executor {
-    private static final int DEFAULT_MAX_CONCURRENT = 2;
+public class VirtualThreadLimitedExecutor implements ObservableExecutor {
+    public static final int DEFAULT_MAX_CONCURRENT = 2;
     private final int maxConcurrent;
     private final AtomicInteger runningCount = new AtomicInteger(0);
 
@@ -35,12 +35,12 @@ public class VirtualThreadLimitedExecutor implements Executor {
     @Override
     public void execute(Runnable command) {
         if (runningCount.get() >= maxConcurrent) {
-            return;
+            throw new RejectedExecutionException("Max concurrent validations reached: " + maxConcurrent);
         }
 
         if (runningCount.incrementAndGet() > maxConcurrent) {
             runningCount.decrementAndGet();
-            return;
+            throw new RejectedExecutionException("Max concurrent validations reached: " + maxConcurrent);
         }
 
         Thread.ofVirtual().start(() -> {
@@ -51,4 +51,19 @@ public class VirtualThreadLimitedExecutor implements Executor {
             }
         });
     }
+
+    @Override
+    public int getQueueSize() {
+        return 0;
+    }
+
+    @Override
+    public int getActiveCount() {
+        return runningCount.get();
+    }
+
+    @Override
+    public double getSaturation() {
+        return maxConcurrent > 0 ? Math.min((double) runningCount.get() / maxConcurrent, 1) : 1;
+    }
 }
@@ -0,0 +1,27 @@
+package com.getyourguide.openapi.validation.core.log;
+
+import com.getyourguide.openapi.validation.api.log.LogLevel;
+import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
+import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSampleRates;
+import lombok.AllArgsConstructor;
+
+/**
+ * Records violations in {@link AdaptiveSampleRates} before passing them on, so their operations get validated more.
+ *
+ * <p>Should wrap a throttling handler rather than be wrapped by it, so throttled violations still count. Ignored
+ * violations don't raise the sample rate.</p>
+ */
+@AllArgsConstructor
+public class AdaptiveSamplingOpenApiViolationHandler implements OpenApiViolationHandler {
+    private final OpenApiViolationHandler delegate;
+    private final AdaptiveSampleRates sampleRates;
+
+    @Override
+    public void onOpenApiViolation(OpenApiViolation violation) {
+        if (violation.getLevel() != LogLevel.IGNORE && violation.getRequestMetaData() != null) {
+            sampleRates.recordViolation(violation.getRequestMetaData());
+        }
+        delegate.onOpenApiViolation(violation);
+    }
+}
@@ -1,47 +1,124 @@
 package com.getyourguide.openapi.validation.core.log;
 
 import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
+import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import lombok.AllArgsConstructor;
-import lombok.NonNull;
-import org.joda.time.DateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
-@AllArgsConstructor
+/**
+ * Reports a violation at most once per wait period for each direction, method, path, status and schema.
+ *
+ * <p>At most {@code maxEntries} keys are tracked. When a new key arrives and the table is full, keys whose wait period
+ * is over and that have nothing suppressed are dropped first, as forgetting them does not change what gets reported.
+ * Only if there are none, the key reported longest ago is evicted. Throttled violations are counted and the count is
+ * passed on with the next reported violation of the same key.</p>
+ */
 public class ThrottlingOpenApiViolationHandler implements OpenApiViolationHandler {
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
     private final OpenApiViolationHandler delegate;
-    private final int waitSeconds;
-    private final Map<String, DateTime> loggedMessages = new ConcurrentHashMap<>();
+    private final long waitNanos;
+    private final LongSupplier nanoClock;
+    private final int maxEntries;
+    private final ConcurrentHashMap<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public ThrottlingOpenApiViolationHandler(OpenApiViolationHandler delegate, int waitSeconds) {
+        this(delegate, waitSeconds, DEFAULT_MAX_ENTRIES, System::nanoTime);
+    }
+
+    /**
+     * Creates a throttling handler with a custom table size and clock.
+     *
+     * @param maxEntries number of keys tracked at the same time
+     * @param nanoClock  monotonic clock in nanoseconds
+     */
+    public ThrottlingOpenApiViolationHandler(
+        OpenApiViolationHandler delegate,
+        int waitSeconds,
+        int maxEntries,
+        LongSupplier nanoClock
+    ) {
+        this.delegate = delegate;
+        this.waitNanos = TimeUnit.SECONDS.toNanos(waitSeconds);
+        this.nanoClock = nanoClock;
+        this.maxEntries = Math.max(maxEntries, 1);
+    }
 
     @Override
     public void onOpenApiViolation(OpenApiViolation violation) {
-        if (isThrottled(violation)) {
+        var key = Key.of(violation);
+        var now = nanoClock.getAsLong();
+
+        var entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= maxEntries) {
+                evict(now);
+            }
+            var existing = entries.putIfAbsent(key, new Entry(now));
+            if (existing == null) {
+                delegate.onOpenApiViolation(violation);
+                return;
+            }
+            entry = existing;
+        }
+
+        // Only the thread that moves the timestamp forward reports, concurrent identical violations are throttled
+        var loggedAtNanos = entry.loggedAtNanos.get();
+        if (now - loggedAtNanos < waitNanos || !entry.loggedAtNanos.compareAndSet(loggedAtNanos, now)) {
+            entry.suppressed.incrementAndGet();
             return;
         }
 
-        delegate.onOpenApiViolation(violation);
-        registerLoggedMessage(violation);
+        var suppressed = entry.suppressed.getAndSet(0);
+        delegate.onOpenApiViolation(
+            suppressed > 0 ? violation.toBuilder().suppressedViolations(suppressed).build() : violation
+        );
     }
 
-    private void registerLoggedMessage(OpenApiViolation openApiViolation) {
-        loggedMessages.put(buildKey(openApiViolation), DateTime.now());
+    private void evict(long now) {
+        entries.values().removeIf(entry ->
+            now - entry.loggedAtNanos.get() >= waitNanos && entry.suppressed.get() == 0
+        );
+        if (entries.size() < maxEntries) {
+            return;
+        }
+
+        Key oldestKey = null;
+        var oldestLoggedAtNanos = Long.MAX_VALUE;
+        for (var mapEntry : entries.entrySet()) {
+            var loggedAtNanos = mapEntry.getValue().loggedAtNanos.get();
+            if (oldestKey == null || loggedAtNanos - oldestLoggedAtNanos < 0) {
+                oldestKey = mapEntry.getKey();
+                oldestLoggedAtNanos = loggedAtNanos;
+            }
+        }
+        if (oldestKey != null) {
+            entries.remove(oldestKey);
+        }
     }
 
-    private boolean isThrottled(OpenApiViolation openApiViolation) {
-        var key = buildKey(openApiViolation);
-        var lastLoggedTime = loggedMessages.get(key);
-        return lastLoggedTime != null && lastLoggedTime.plusSeconds(waitSeconds).isAfterNow();
+    private record Key(Direction direction, String method, String normalizedPath, Integer responseStatus, String schema) {
+        public static Key of(OpenApiViolation violation) {
+            return new Key(
+                violation.getDirection(),
+                violation.getRequestMetaData() != null ? violation.getRequestMetaData().getMethod() : null,
+                violation.getNormalizedPath().orElse(null),
+                violation.getResponseStatus().orElse(null),
+                violation.getSchema().orElse(null)
+            );
+        }
     }
 
-    @NonNull
-    private String buildKey(OpenApiViolation openApiViolation) {
-        var keyBuilder = new StringBuilder(openApiViolation.getDirection().toString() + ":");
-        var method = openApiViolation.getRequestMetaData().getMethod();
-        var apiOperationPathNormalized = openApiViolation.getNormalizedPath().orElse("N/A");
-        var responseStatus = openApiViolation.getResponseStatus().map(Object::toString).orElse("N/A");
-        var schema = openApiViolation.getSchema().orElse("N/A");
-        keyBuilder.append(String.format("%s:%s:%s:%s", method, apiOperationPathNormalized, responseStatus, schema));
-        return keyBuilder.toString();
+    private static final class Entry {
+        private final AtomicLong loggedAtNanos;
+        private final AtomicInteger suppressed = new AtomicInteger();
+
+        private Entry(long loggedAtNanos) {
+            this.loggedAtNanos = new AtomicLong(loggedAtNanos);
+        }
     }
 }
@@ -33,26 +33,8 @@ public class ValidationReportToOpenApiViolationsMapper {
         String body,
         Direction direction
     ) {
-        var requestUri = request.getUri().toString();
-        var requestString = String.format("%s %s", request.getMethod(), requestUri);
         var pointersInstance = getPointersInstance(message);
-        var instance = pointersInstance.map(i -> String.format("Instance: %s\n", i)).orElse("");
         var parameterName = getParameterName(message);
-        var parameter = parameterName.map(i -> String.format("Parameter: %s\n", i)).orElse("");
-        var responseStatusCode = response != null
-            ? String.format("Response Status Code: %s\n", response.getStatusCode())
-            : "";
-
-        var logMessage = String.format(
-            "OpenAPI spec validation error [%s]\n%s\nUser Agent: %s\n%s%s%s\n%s",
-            message.getKey(),
-            requestString,
-            request.getHeaders().get("User-Agent"),
-            responseStatusCode,
-            instance,
-            parameter,
-            message
-        );
 
         return OpenApiViolation.builder()
             .level(mapLogLevel(message.getLevel()))
@@ -66,11 +48,38 @@ public class ValidationReportToOpenApiViolationsMapper {
             .parameter(parameterName.orElse(null))
             .schema(getPointersSchema(message).orElse(null))
             .responseStatus(getResponseStatus(response, message).orElse(null))
-            .logMessage(logMessage)
+            .lazyLogMessage(() -> buildLogMessage(message, request, response, pointersInstance, parameterName))
             .message(message.getMessage())
             .build();
     }
 
+    // Only called when the violation gets logged, excluded and ignored violations never pay for the formatting
+    private static String buildLogMessage(
+        ValidationReport.Message message,
+        RequestMetaData request,
+        @Nullable ResponseMetaData response,
+        Optional<String> pointersInstance,
+        Optional<String> parameterName
+    ) {
+        var requestString = String.format("%s %s", request.getMethod(), request.getUri());
+        var instance = pointersInstance.map(i -> String.format("Instance: %s\n", i)).orElse("");
+        var parameter = parameterName.map(i -> String.format("Parameter: %s\n", i)).orElse("");
+        var responseStatusCode = response != null
+            ? String.format("Response Status Code: %s\n", response.getStatusCode())
+            : "";
+
+        return String.format(
+            "OpenAPI spec validation error [%s]\n%s\nUser Agent: %s\n%s%s%s\n%s",
+            message.getKey(),
+            requestString,
+            request.getHeaders().get("User-Agent"),
+            responseStatusCode,
+            instance,
+            parameter,
+            message
+        );
+    }
+
     private static Optional<String> getPointersInstance(ValidationReport.Message message) {
         return message.getContext()
             .flatMap(ValidationReport.MessageContext::getPointers)
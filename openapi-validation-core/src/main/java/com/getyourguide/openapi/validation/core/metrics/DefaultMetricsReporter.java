@@ -5,20 +5,75 @@ import com.getyourguide.openapi.validation.api.metrics.MetricTag;
 import com.getyourguide.openapi.validation.api.metrics.MetricTagProvider;
 import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
 import com.getyourguide.openapi.validation.api.metrics.client.MetricsClient;
+import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import java.io.Closeable;
 import java.util.ArrayList;
 import java.util.List;
-import lombok.AllArgsConstructor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import javax.annotation.Nullable;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
-@AllArgsConstructor
-public class DefaultMetricsReporter implements MetricsReporter {
+/**
+ * Reports metrics through a {@link MetricsClient}.
+ *
+ * <p>Events that happen on every request (submitted tasks, operation cache lookups, rate limit decisions) are only
+ * counted in memory and flushed as one count per metric on a timer, together with samples of the executor state.
+ * Task timings are aggregated the same way and flushed as their average and maximum. This keeps metric I/O off the
+ * request path. All reporters share one daemon flush thread; {@link #close()} stops flushing this reporter.</p>
+ */
+@Slf4j
+public class DefaultMetricsReporter implements MetricsReporter, Closeable {
 
     private final MetricsClient metricsClient;
     private final MetricTagProvider metricTagProvider;
     private final Configuration configuration;
 
+    private final LongAdder validationTasksSubmitted = new LongAdder();
+    private final LongAdder validationTasksDropped = new LongAdder();
+    private final LongAdder validationTasksExecuted = new LongAdder();
+    private final LongAdder operationCacheHits = new LongAdder();
+    private final LongAdder operationCacheMisses = new LongAdder();
+    private final LongAdder rateLimitAdmitted = new LongAdder();
+    private final LongAdder rateLimitDenied = new LongAdder();
+    private final Timing validationTaskQueueTime = new Timing();
+    private final Timing validationTaskExecutionTime = new Timing();
+    private volatile IntSupplier executorQueueSizeSupplier;
+    private volatile IntSupplier executorActiveCountSupplier;
+
+    @Nullable
+    private final ScheduledFuture<?> scheduledFlush;
+
+    public DefaultMetricsReporter(
+        MetricsClient metricsClient,
+        MetricTagProvider metricTagProvider,
+        Configuration configuration
+    ) {
+        this.metricsClient = metricsClient;
+        this.metricTagProvider = metricTagProvider;
+        this.configuration = configuration;
+
+        var flushIntervalSeconds = configuration.getFlushIntervalSeconds();
+        if (flushIntervalSeconds > 0) {
+            scheduledFlush = FlushScheduler.INSTANCE.scheduleAtFixedRate(
+                this::flushSafely,
+                flushIntervalSeconds,
+                flushIntervalSeconds,
+                TimeUnit.SECONDS
+            );
+        } else {
+            scheduledFlush = null;
+        }
+    }
+
     @Override
     public void reportViolation(OpenApiViolation violation) {
         if (violation.getLevel() == LogLevel.IGNORE) {
@@ -33,13 +88,155 @@ public class DefaultMetricsReporter implements MetricsReporter {
         boolean isValidationEnabled,
         double sampleRate,
         int validationReportThrottleWaitSeconds
+    ) {
+        reportStartup(isValidationEnabled, sampleRate, validationReportThrottleWaitSeconds, 0);
+    }
+
+    @Override
+    public void reportStartup(
+        boolean isValidationEnabled,
+        double sampleRate,
+        int validationReportThrottleWaitSeconds,
+        int pathSampleRateCount
     ) {
         metricsClient.increment(
             buildMetricName(".startup"),
-            createTagsForStartup(isValidationEnabled, sampleRate, validationReportThrottleWaitSeconds)
+            createTagsForStartup(isValidationEnabled, sampleRate, validationReportThrottleWaitSeconds, pathSampleRateCount)
+        );
+    }
+
+    @Override
+    public void reportSpecLoaded(String specificationFilePath, long loadTimeMs) {
+        var tags = new ArrayList<MetricTag>();
+        tags.add(new MetricTag("spec", specificationFilePath));
+        tags.addAll(getMetricTagsFromConfiguration());
+        metricsClient.recordExecutionTime(
+            buildMetricName(".startup.spec_load_time"),
+            loadTimeMs,
+            tags.toArray(MetricTag[]::new)
         );
     }
 
+    @Override
+    public void reportSpecReloaded(String specificationFilePath, boolean success, long reloadTimeMs) {
+        var tags = new ArrayList<MetricTag>();
+        tags.add(new MetricTag("spec", specificationFilePath));
+        tags.add(new MetricTag("success", String.valueOf(success)));
+        tags.addAll(getMetricTagsFromConfiguration());
+        metricsClient.recordExecutionTime(
+            buildMetricName(".reload.spec_load_time"),
+            reloadTimeMs,
+            tags.toArray(MetricTag[]::new)
+        );
+    }
+
+    @Override
+    public void registerExecutor(IntSupplier queueSizeSupplier, IntSupplier activeCountSupplier) {
+        this.executorQueueSizeSupplier = queueSizeSupplier;
+        this.executorActiveCountSupplier = activeCountSupplier;
+    }
+
+    @Override
+    public void reportValidationTaskSubmitted() {
+        validationTasksSubmitted.increment();
+    }
+
+    @Override
+    public void reportValidationTaskDropped() {
+        validationTasksDropped.increment();
+    }
+
+    @Override
+    public void reportValidationTaskExecuted(long queueTimeMs, long executionTimeMs) {
+        validationTasksExecuted.increment();
+        validationTaskQueueTime.record(queueTimeMs);
+        validationTaskExecutionTime.record(executionTimeMs);
+    }
+
+    @Override
+    public void reportOperationCacheHit() {
+        operationCacheHits.increment();
+    }
+
+    @Override
+    public void reportOperationCacheMiss() {
+        operationCacheMisses.increment();
+    }
+
+    @Override
+    public void reportBodyTooLarge(Direction direction) {
+        var tags = new ArrayList<MetricTag>();
+        tags.add(new MetricTag("type", direction.toString().toLowerCase()));
+        tags.addAll(getMetricTagsFromConfiguration());
+        metricsClient.increment(buildMetricName(".body_too_large"), tags.toArray(MetricTag[]::new));
+    }
+
+    @Override
+    public void reportRateLimitAdmitted() {
+        rateLimitAdmitted.increment();
+    }
+
+    @Override
+    public void reportRateLimitDenied() {
+        rateLimitDenied.increment();
+    }
+
+    /**
+     * Sends the counts aggregated since the last flush and samples the executor state.
+     */
+    public void flush() {
+        var tags = createTagsFromConfiguration();
+        flushCount(".executor.submitted", validationTasksSubmitted, tags);
+        flushCount(".executor.dropped", validationTasksDropped, tags);
+        flushCount(".executor.executed", validationTasksExecuted, tags);
+        flushCount(".operation_cache.hit", operationCacheHits, tags);
+        flushCount(".operation_cache.miss", operationCacheMisses, tags);
+        flushCount(".rate_limit.admitted", rateLimitAdmitted, tags);
+        flushCount(".rate_limit.denied", rateLimitDenied, tags);
+        flushTiming(".executor.queue_time", validationTaskQueueTime, tags);
+        flushTiming(".executor.execution_time", validationTaskExecutionTime, tags);
+
+        var queueSizeSupplier = executorQueueSizeSupplier;
+        var activeCountSupplier = executorActiveCountSupplier;
+        if (queueSizeSupplier != null && activeCountSupplier != null) {
+            metricsClient.gauge(buildMetricName(".executor.queue_size"), queueSizeSupplier.getAsInt(), tags);
+            metricsClient.gauge(buildMetricName(".executor.active"), activeCountSupplier.getAsInt(), tags);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("[OpenAPI Validation] Could not flush metrics", e);
+        }
+    }
+
+    private void flushCount(String suffix, LongAdder counter, MetricTag[] tags) {
+        var count = counter.sumThenReset();
+        if (count > 0) {
+            metricsClient.count(buildMetricName(suffix), count, tags);
+        }
+    }
+
+    private void flushTiming(String suffix, Timing timing, MetricTag[] tags) {
+        var count = timing.count.sumThenReset();
+        var totalMs = timing.totalMs.sumThenReset();
+        var maxMs = timing.maxMs.getThenReset();
+        if (count > 0) {
+            metricsClient.recordExecutionTime(buildMetricName(suffix), totalMs / count, tags);
+            metricsClient.gauge(buildMetricName(suffix + ".max"), maxMs, tags);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+        }
+        flushSafely();
+    }
+
     private String buildMetricName(String suffix) {
         return configuration.getMetricName() + suffix;
     }
@@ -62,18 +259,24 @@ public class DefaultMetricsReporter implements MetricsReporter {
     private MetricTag[] createTagsForStartup(
         boolean isValidationEnabled,
         double sampleRate,
-        int validationReportThrottleWaitSeconds
+        int validationReportThrottleWaitSeconds,
+        int pathSampleRateCount
     ) {
         var tags = new ArrayList<MetricTag>();
 
         tags.add(new MetricTag("validation_enabled", String.valueOf(isValidationEnabled)));
         tags.add(new MetricTag("sample_rate", String.valueOf(sampleRate)));
         tags.add(new MetricTag("throttling", String.valueOf(validationReportThrottleWaitSeconds)));
+        tags.add(new MetricTag("path_sample_rates", String.valueOf(pathSampleRateCount)));
         tags.addAll(getMetricTagsFromConfiguration());
 
         return tags.toArray(MetricTag[]::new);
     }
 
+    private MetricTag[] createTagsFromConfiguration() {
+        return getMetricTagsFromConfiguration().toArray(MetricTag[]::new);
+    }
+
     private List<MetricTag> getMetricTagsFromConfiguration() {
         if (configuration.getMetricAdditionalTags() != null) {
             return configuration.getMetricAdditionalTags();
@@ -81,10 +284,33 @@ public class DefaultMetricsReporter implements MetricsReporter {
         return List.of();
     }
 
+    private static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final LongAccumulator maxMs = new LongAccumulator(Math::max, 0);
+
+        private void record(long timeMs) {
+            count.increment();
+            totalMs.add(timeMs);
+            maxMs.accumulate(timeMs);
+        }
+    }
+
+    private static final class FlushScheduler {
+        private static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("openapi-validation-metrics").daemon().factory()
+        );
+    }
+
     @Builder
     @Getter
     public static class Configuration {
         private final String metricName;
         private final List<MetricTag> metricAdditionalTags;
+        /**
+         * Interval in which aggregated counts are flushed, 0 to only flush on {@link #flush()} and {@link #close()}.
+         */
+        @Builder.Default
+        private final int flushIntervalSeconds = 10;
     }
 }
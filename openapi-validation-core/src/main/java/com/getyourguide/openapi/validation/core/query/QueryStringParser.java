@@ -0,0 +1,103 @@
+package com.getyourguide.openapi.validation.core.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
+
+/**
+ * Parses a raw (still percent-encoded) query string in a single pass and decodes names and values exactly once.
+ *
+ * <p>Parameters are separated by {@code &}, {@code +} is decoded to a space and percent-encoded bytes are decoded as
+ * UTF-8. Malformed escapes are kept as they are instead of failing the whole request. Names and values without any
+ * escape are passed on as plain substrings.</p>
+ */
+public final class QueryStringParser {
+
+    private QueryStringParser() {
+    }
+
+    /**
+     * Calls the consumer for every parameter in order. Parameters without {@code =} have a {@code null} value,
+     * parameters with an empty name are skipped.
+     */
+    public static void parse(@Nullable String rawQuery, BiConsumer<String, String> consumer) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return;
+        }
+
+        var length = rawQuery.length();
+        var start = 0;
+        while (start < length) {
+            var end = start;
+            var separator = -1;
+            while (end < length && rawQuery.charAt(end) != '&') {
+                if (separator < 0 && rawQuery.charAt(end) == '=') {
+                    separator = end;
+                }
+                end++;
+            }
+
+            var nameEnd = separator >= 0 ? separator : end;
+            if (nameEnd > start) {
+                var name = decode(rawQuery, start, nameEnd);
+                var value = separator >= 0 ? decode(rawQuery, separator + 1, end) : null;
+                consumer.accept(name, value);
+            }
+            start = end + 1;
+        }
+    }
+
+    private static String decode(String raw, int from, int to) {
+        var firstEncoded = from;
+        while (firstEncoded < to && raw.charAt(firstEncoded) != '%' && raw.charAt(firstEncoded) != '+') {
+            firstEncoded++;
+        }
+        if (firstEncoded == to) {
+            return raw.substring(from, to);
+        }
+
+        var result = new StringBuilder(to - from);
+        result.append(raw, from, firstEncoded);
+        byte[] bytes = null;
+        var i = firstEncoded;
+        while (i < to) {
+            var c = raw.charAt(i);
+            if (c == '+') {
+                result.append(' ');
+                i++;
+            } else if (c == '%' && isEscape(raw, i, to)) {
+                // Collect consecutive escapes, as a multi-byte UTF-8 character spans several of them
+                if (bytes == null) {
+                    bytes = new byte[(to - i) / 3];
+                }
+                var count = 0;
+                while (i < to && raw.charAt(i) == '%' && isEscape(raw, i, to)) {
+                    bytes[count++] = (byte) ((hexValue(raw.charAt(i + 1)) << 4) + hexValue(raw.charAt(i + 2)));
+                    i += 3;
+                }
+                result.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+            } else {
+                result.append(c);
+                i++;
+            }
+        }
+        return result.toString();
+    }
+
+    private static boolean isEscape(String raw, int index, int to) {
+        return index + 2 < to && hexValue(raw.charAt(index + 1)) >= 0 && hexValue(raw.charAt(index + 2)) >= 0;
+    }
+
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        }
+        if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,126 @@
+package com.getyourguide.openapi.validation.core.reload;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Notifies listeners when spec files change, using a {@link WatchService} on their directories.
+ *
+ * <p>Editors and deployments usually write a file in several steps (truncate, write, rename), so changes are debounced:
+ * the listeners of a file run once it has not changed for the debounce delay. Listeners run on a single background
+ * thread, one at a time, never on a request thread.</p>
+ */
+@Slf4j
+public class SpecFileWatcher implements Closeable {
+    private final long debounceMillis;
+    private final WatchService watchService;
+    private final ScheduledExecutorService scheduler;
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
+    private final Map<Path, List<Runnable>> listeners = new ConcurrentHashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pendingNotifications = new ConcurrentHashMap<>();
+
+    public SpecFileWatcher(long debounceMillis) {
+        this.debounceMillis = debounceMillis;
+        try {
+            this.watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create watch service for spec files", e);
+        }
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("openapi-validation-spec-reloader").daemon().factory()
+        );
+        Thread.ofPlatform().name("openapi-validation-spec-watcher").daemon().start(this::processEvents);
+    }
+
+    /**
+     * Calls the listener after the file was created or modified.
+     *
+     * @return whether the file is watched
+     */
+    public boolean watch(Path file, Runnable listener) {
+        var absoluteFile = file.toAbsolutePath().normalize();
+        var directory = absoluteFile.getParent();
+        if (directory == null) {
+            return false;
+        }
+
+        if (watchedDirectories.add(directory)) {
+            try {
+                directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY);
+            } catch (IOException | ClosedWatchServiceException e) {
+                watchedDirectories.remove(directory);
+                log.warn("[OpenAPI Validation] Could not watch spec file {} for changes", absoluteFile, e);
+                return false;
+            }
+        }
+        listeners.computeIfAbsent(absoluteFile, key -> new CopyOnWriteArrayList<>()).add(listener);
+        return true;
+    }
+
+    private void processEvents() {
+        try {
+            while (true) {
+                var key = watchService.take();
+                var directory = (Path) key.watchable();
+                for (var event : key.pollEvents()) {
+                    if (event.context() instanceof Path fileName) {
+                        scheduleNotification(directory.resolve(fileName));
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("[OpenAPI Validation] Stopped watching spec files");
+        }
+    }
+
+    private void scheduleNotification(Path file) {
+        var fileListeners = listeners.get(file);
+        if (fileListeners == null) {
+            return;
+        }
+
+        pendingNotifications.compute(file, (key, pending) -> {
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            return scheduler.schedule(() -> notifyListeners(file, fileListeners), debounceMillis, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private static void notifyListeners(Path file, List<Runnable> fileListeners) {
+        for (var listener : fileListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                log.error("[OpenAPI Validation] Could not handle change of spec file {}", file, e);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        watchService.close();
+    }
+}
@@ -0,0 +1,130 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import com.atlassian.oai.validator.model.ApiOperationMatch;
+import com.atlassian.oai.validator.model.NormalisedPathImpl;
+import com.atlassian.oai.validator.model.Request;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.Nullable;
+
+/**
+ * Resolves operations of a spec the same way as the {@code ApiOperationResolver} with strict path matching, and caches
+ * an {@link ApiOperationPlan} per method and path template.
+ *
+ * <p>Request paths are matched against an {@link ApiPathIndex}. Among the matching templates, an exact match wins,
+ * otherwise the one with the most literal characters, and the first in the spec on a tie. As the cache is keyed by
+ * template and not by request path, requests to {@code /users/1} and {@code /users/2} share the plan of
+ * {@code /users/{id}}. At most {@code maxSize} plans are kept; when a new one is added to a full cache, the least
+ * recently used plan is evicted. Missing paths and methods are not cached.</p>
+ */
+public class ApiOperationCache {
+    public static final int DEFAULT_MAX_SIZE = 1_000;
+
+    private final ApiPathIndex pathIndex;
+    private final MetricsReporter metricsReporter;
+    private final int maxSize;
+    private final ConcurrentHashMap<CacheKey, Entry> cache = new ConcurrentHashMap<>();
+    private final AtomicLong accessCounter = new AtomicLong();
+
+    public ApiOperationCache(OpenAPI api, MetricsReporter metricsReporter) {
+        this(api, metricsReporter, DEFAULT_MAX_SIZE);
+    }
+
+    public ApiOperationCache(OpenAPI api, MetricsReporter metricsReporter, int maxSize) {
+        this.pathIndex = new ApiPathIndex(api);
+        this.metricsReporter = metricsReporter;
+        this.maxSize = Math.max(maxSize, 1);
+    }
+
+    public ApiOperationMatch findApiOperation(String path, Request.Method method) {
+        var requestPath = new NormalisedPathImpl(path, pathIndex.getApiPrefix());
+        var templates = pathIndex.findTemplates(requestPath);
+        if (templates.isEmpty()) {
+            return ApiOperationMatch.MISSING_PATH;
+        }
+
+        var httpMethod = PathItem.HttpMethod.valueOf(method.name());
+        var template = selectTemplate(templates, httpMethod, requestPath.normalised());
+        if (template == null) {
+            return ApiOperationMatch.NOT_ALLOWED_OPERATION;
+        }
+
+        return new ApiOperationMatch(getPlan(template, httpMethod).toApiOperation(requestPath));
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    @Nullable
+    private static ApiPathIndex.Template selectTemplate(
+        List<ApiPathIndex.Template> templates,
+        PathItem.HttpMethod method,
+        String normalisedRequestPath
+    ) {
+        ApiPathIndex.Template mostSpecific = null;
+        for (var template : templates) {
+            if (!template.operations().containsKey(method)) {
+                continue;
+            }
+            if (template.apiPath().normalised().equalsIgnoreCase(normalisedRequestPath)) {
+                return template;
+            }
+            if (mostSpecific == null
+                || template.apiPath().getSpecificity() > mostSpecific.apiPath().getSpecificity()) {
+                mostSpecific = template;
+            }
+        }
+        return mostSpecific;
+    }
+
+    private ApiOperationPlan getPlan(ApiPathIndex.Template template, PathItem.HttpMethod method) {
+        var key = new CacheKey(method, template.apiPath().original());
+        var entry = cache.get(key);
+        if (entry != null) {
+            metricsReporter.reportOperationCacheHit();
+            entry.lastAccess = accessCounter.incrementAndGet();
+            return entry.plan;
+        }
+
+        metricsReporter.reportOperationCacheMiss();
+        var plan = new ApiOperationPlan(template.apiPath(), method, template.operations().get(method));
+        if (cache.size() >= maxSize) {
+            evictLeastRecentlyUsed();
+        }
+        cache.putIfAbsent(key, new Entry(plan, accessCounter.incrementAndGet()));
+        return plan;
+    }
+
+    private void evictLeastRecentlyUsed() {
+        CacheKey oldestKey = null;
+        var oldestAccess = Long.MAX_VALUE;
+        for (var mapEntry : cache.entrySet()) {
+            var lastAccess = mapEntry.getValue().lastAccess;
+            if (lastAccess < oldestAccess) {
+                oldestKey = mapEntry.getKey();
+                oldestAccess = lastAccess;
+            }
+        }
+        if (oldestKey != null) {
+            cache.remove(oldestKey);
+        }
+    }
+
+    private record CacheKey(PathItem.HttpMethod method, String template) {
+    }
+
+    private static final class Entry {
+        private final ApiOperationPlan plan;
+        private volatile long lastAccess;
+
+        private Entry(ApiOperationPlan plan, long lastAccess) {
+            this.plan = plan;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
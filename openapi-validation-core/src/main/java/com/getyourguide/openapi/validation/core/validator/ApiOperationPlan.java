@@ -0,0 +1,19 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import com.atlassian.oai.validator.model.ApiOperation;
+import com.atlassian.oai.validator.model.NormalisedPath;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+/**
+ * Resolved operation of a path template and method, built once and reused for every request routed to it.
+ *
+ * @param apiPath   path template with its parts compiled, used to extract the path parameters of a request
+ * @param method    HTTP method of the operation
+ * @param operation operation of the spec with its parameters, request body and responses
+ */
+public record ApiOperationPlan(CompiledApiPath apiPath, PathItem.HttpMethod method, Operation operation) {
+    public ApiOperation toApiOperation(NormalisedPath requestPath) {
+        return new ApiOperation(apiPath, requestPath, method, operation);
+    }
+}
@@ -0,0 +1,164 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import com.atlassian.oai.validator.model.NormalisedPath;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.servers.Server;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Resolves request paths to the path templates of a spec, with the same result as the {@code ApiOperationResolver}
+ * of the validator with strict operation path matching.
+ *
+ * <p>The templates are put into a trie of their path parts at construction time. Literal parts are looked up by their
+ * lower case form and parts with parameters are matched with the patterns of {@link CompiledApiPath}, so a lookup only
+ * evaluates the templates along the request path instead of compiling patterns for all templates with the same number
+ * of parts.</p>
+ */
+public class ApiPathIndex {
+    private final String apiPrefix;
+    private final Node root = new Node();
+
+    public ApiPathIndex(OpenAPI api) {
+        this.apiPrefix = getBasePathFrom(api.getServers());
+        if (api.getPaths() == null) {
+            return;
+        }
+
+        var order = 0;
+        for (var entry : api.getPaths().entrySet()) {
+            var apiPath = new CompiledApiPath(entry.getKey(), apiPrefix);
+            var operations = new EnumMap<PathItem.HttpMethod, Operation>(PathItem.HttpMethod.class);
+            operations.putAll(entry.getValue().readOperationsMap());
+            root.add(new Template(order++, apiPath, operations), 0);
+        }
+    }
+
+    public String getApiPrefix() {
+        return apiPrefix;
+    }
+
+    /**
+     * Returns the templates that match the request path, in the order of the spec.
+     */
+    public List<Template> findTemplates(NormalisedPath requestPath) {
+        var templates = new ArrayList<Template>(1);
+        root.collect(requestPath, 0, templates);
+        if (templates.size() > 1) {
+            templates.sort(Comparator.comparingInt(Template::order));
+        }
+        return templates;
+    }
+
+    /**
+     * Takes the path of the first server URL that can be parsed, with its variables replaced by their defaults.
+     */
+    private static String getBasePathFrom(@Nullable List<Server> servers) {
+        if (servers == null) {
+            return "/";
+        }
+        return servers.stream()
+            .filter(Objects::nonNull)
+            .map(ApiPathIndex::substituteUrlVariables)
+            .map(ApiPathIndex::getPathFrom)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse("/");
+    }
+
+    private static String substituteUrlVariables(Server server) {
+        if (server.getUrl() == null) {
+            return "/";
+        }
+        if (server.getVariables() == null) {
+            return server.getUrl();
+        }
+
+        var url = server.getUrl();
+        for (var variable : server.getVariables().entrySet()) {
+            url = url.replace(
+                "{" + variable.getKey() + "}",
+                StringUtils.defaultIfBlank(variable.getValue().getDefault(), "")
+            );
+        }
+        return url;
+    }
+
+    @Nullable
+    private static String getPathFrom(String url) {
+        try {
+            return new URI(url).getPath();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Path template of the spec with its operations.
+     *
+     * @param order position of the template in the spec
+     */
+    public record Template(int order, CompiledApiPath apiPath, Map<PathItem.HttpMethod, Operation> operations) {
+    }
+
+    private static class Node {
+        private final Map<String, Node> literalChildren = new HashMap<>();
+        private final Map<String, PatternChild> patternChildren = new HashMap<>();
+        private final List<Template> templates = new ArrayList<>(1);
+
+        private void add(Template template, int depth) {
+            var apiPath = template.apiPath();
+            if (depth == apiPath.numberOfParts()) {
+                templates.add(template);
+                return;
+            }
+
+            var literalPart = apiPath.getLowerCaseLiteralPart(depth);
+            if (literalPart != null) {
+                literalChildren.computeIfAbsent(literalPart, part -> new Node()).add(template, depth + 1);
+            } else {
+                var pattern = Objects.requireNonNull(apiPath.getPartPattern(depth));
+                patternChildren.computeIfAbsent(pattern.pattern(), regex -> new PatternChild(pattern, new Node()))
+                    .node().add(template, depth + 1);
+            }
+        }
+
+        private void collect(NormalisedPath requestPath, int depth, List<Template> matches) {
+            if (depth == requestPath.numberOfParts()) {
+                var trailingSlash = requestPath.original().endsWith("/");
+                for (var template : templates) {
+                    if (template.apiPath().hasTrailingSlash() == trailingSlash) {
+                        matches.add(template);
+                    }
+                }
+                return;
+            }
+
+            var part = requestPath.part(depth);
+            var literalChild = literalChildren.get(CompiledApiPath.toAsciiLowerCase(part));
+            if (literalChild != null) {
+                literalChild.collect(requestPath, depth + 1, matches);
+            }
+            for (var patternChild : patternChildren.values()) {
+                if (patternChild.pattern().matcher(part).matches()) {
+                    patternChild.node().collect(requestPath, depth + 1, matches);
+                }
+            }
+        }
+    }
+
+    private record PatternChild(Pattern pattern, Node node) {
+    }
+}
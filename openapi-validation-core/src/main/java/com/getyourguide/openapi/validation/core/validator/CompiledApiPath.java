@@ -0,0 +1,162 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import com.atlassian.oai.validator.model.ApiPath;
+import com.atlassian.oai.validator.model.ApiPathImpl;
+import com.atlassian.oai.validator.model.NormalisedPath;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Path template of a spec with strict path matching, equivalent to {@link ApiPathImpl} but with its parts compiled once.
+ *
+ * <p>{@link ApiPathImpl} compiles a pattern for a part every time it is matched and looks up the parameter names of a
+ * part on every call, both for resolving the operation and for extracting path parameters. Here parts with parameters
+ * are compiled into the same case-insensitive patterns up front, and literal parts are compared ignoring ASCII case,
+ * which is what those patterns do.</p>
+ */
+public class CompiledApiPath implements ApiPath {
+    private static final Pattern PARAM_PATTERN = Pattern.compile("\\{(.*?)}");
+
+    private final ApiPathImpl delegate;
+    private final boolean trailingSlash;
+    private final int specificity;
+    private final Pattern[] partPatterns;
+    private final String[] lowerCaseParts;
+    private final List<List<String>> paramNames;
+
+    public CompiledApiPath(String path, String apiPrefix) {
+        this.delegate = new ApiPathImpl(path, apiPrefix, true);
+        this.trailingSlash = path.endsWith("/");
+        this.specificity = delegate.normalised().replaceAll("\\{.+?}", "").length();
+
+        var numberOfParts = delegate.numberOfParts();
+        this.partPatterns = new Pattern[numberOfParts];
+        this.lowerCaseParts = new String[numberOfParts];
+        this.paramNames = new ArrayList<>(numberOfParts);
+        for (int index = 0; index < numberOfParts; index++) {
+            var part = delegate.part(index);
+            var names = new ArrayList<String>();
+            var matcher = PARAM_PATTERN.matcher(part);
+            while (matcher.find()) {
+                names.add(matcher.group(1));
+            }
+            paramNames.add(List.copyOf(names));
+            if (names.isEmpty()) {
+                lowerCaseParts[index] = toAsciiLowerCase(part);
+            } else {
+                partPatterns[index] = Pattern.compile(
+                    Pattern.quote(part).replaceAll("\\{(.*?)}", "\\\\E(.*?)\\\\Q"),
+                    Pattern.CASE_INSENSITIVE
+                );
+            }
+        }
+    }
+
+    /**
+     * Returns the lower case form of a literal part, or null if the part has parameters.
+     */
+    @Nullable
+    public String getLowerCaseLiteralPart(int index) {
+        return lowerCaseParts[index];
+    }
+
+    /**
+     * Returns the pattern of a part with parameters, or null if the part is literal.
+     */
+    @Nullable
+    public Pattern getPartPattern(int index) {
+        return partPatterns[index];
+    }
+
+    public boolean hasTrailingSlash() {
+        return trailingSlash;
+    }
+
+    /**
+     * Length of the normalised path without its parameters, the more literal characters the more specific.
+     */
+    public int getSpecificity() {
+        return specificity;
+    }
+
+    @Override
+    public boolean matches(NormalisedPath requestPath) {
+        if (numberOfParts() != requestPath.numberOfParts()
+            || trailingSlash != requestPath.original().endsWith("/")) {
+            return false;
+        }
+        for (int index = 0; index < numberOfParts(); index++) {
+            if (!partMatches(index, requestPath.part(index))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean partMatches(int index, String requestPathPart) {
+        var pattern = partPatterns[index];
+        if (pattern != null) {
+            return pattern.matcher(requestPathPart).matches();
+        }
+        return lowerCaseParts[index].equals(toAsciiLowerCase(requestPathPart));
+    }
+
+    @Override
+    public boolean hasParams(int index) {
+        return !paramNames.get(index).isEmpty();
+    }
+
+    @Override
+    public List<String> paramNames(int index) {
+        return paramNames.get(index);
+    }
+
+    @Override
+    public Map<String, Optional<String>> paramValues(int index, String requestPathPart) {
+        return delegate.paramValues(index, requestPathPart);
+    }
+
+    @Override
+    public int numberOfParts() {
+        return delegate.numberOfParts();
+    }
+
+    @Override
+    public String part(int index) {
+        return delegate.part(index);
+    }
+
+    @Override
+    public String original() {
+        return delegate.original();
+    }
+
+    @Override
+    public String normalised() {
+        return delegate.normalised();
+    }
+
+    /**
+     * Lower cases ASCII letters only, the same as case-insensitive patterns without unicode case.
+     */
+    public static String toAsciiLowerCase(String value) {
+        for (int index = 0; index < value.length(); index++) {
+            var character = value.charAt(index);
+            if (character >= 'A' && character <= 'Z') {
+                var chars = value.toCharArray();
+                for (int lowerIndex = index; lowerIndex < chars.length; lowerIndex++) {
+                    if (chars[lowerIndex] >= 'A' && chars[lowerIndex] <= 'Z') {
+                        chars[lowerIndex] = (char) (chars[lowerIndex] + ('a' - 'A'));
+                    }
+                }
+                return new String(chars);
+            }
+        }
+        return value;
+    }
+}
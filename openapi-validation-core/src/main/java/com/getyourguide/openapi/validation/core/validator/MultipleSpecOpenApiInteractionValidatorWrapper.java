@@ -13,38 +13,59 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class MultipleSpecOpenApiInteractionValidatorWrapper implements OpenApiInteractionValidatorWrapper {
     public static final String MESSAGE_KEY_NO_VALIDATOR_FOUND = "openapi-validator-java.noValidatorFound";
-    private final List<Pair<Pattern, OpenApiInteractionValidatorWrapper>> validators;
+    private final PathPatternRoutingTable<OpenApiInteractionValidatorWrapper> validators;
 
     public MultipleSpecOpenApiInteractionValidatorWrapper(
         List<Pair<Pattern, OpenApiInteractionValidatorWrapper>> validators
     ) {
         assert validators != null && validators.size() > 0;
 
-        this.validators = validators;
+        this.validators = new PathPatternRoutingTable<>(validators);
     }
 
     @Override
     public ValidationReport validateRequest(SimpleRequest request) {
-        return getValidatorForPath(request.getPath())
-            .map(validator -> validator.validateRequest(request))
-            .orElse(new SimpleValidationReport(List.of(buildNoValidatorFoundMessage(request.getPath()))));
+        var validator = validators.route(request.getPath());
+        if (validator == null) {
+            return buildNoValidatorFoundReport(request.getPath());
+        }
+        return validator.validateRequest(request);
     }
 
     @Override
     public ValidationReport validateResponse(String path, Request.Method method, SimpleResponse response) {
-        return getValidatorForPath(path)
-            .map(validator -> validator.validateResponse(path, method, response))
-            .orElse(new SimpleValidationReport(List.of(buildNoValidatorFoundMessage(path))));
+        var validator = validators.route(path);
+        if (validator == null) {
+            return buildNoValidatorFoundReport(path);
+        }
+        return validator.validateResponse(path, method, response);
     }
 
-    private Optional<OpenApiInteractionValidatorWrapper> getValidatorForPath(String path) {
-        for (var validator : validators) {
-            if (validator.getLeft().matcher(path).matches()) {
-                return validator.getRight() != null ? Optional.of(validator.getRight()) : Optional.empty();
-            }
+    @Override
+    public ValidationReport validateRequest(SimpleRequest request, StreamedBody body) {
+        var validator = validators.route(request.getPath());
+        if (validator == null) {
+            return buildNoValidatorFoundReport(request.getPath());
         }
+        return validator.validateRequest(request, body);
+    }
+
+    @Override
+    public ValidationReport validateResponse(
+        String path,
+        Request.Method method,
+        SimpleResponse response,
+        StreamedBody body
+    ) {
+        var validator = validators.route(path);
+        if (validator == null) {
+            return buildNoValidatorFoundReport(path);
+        }
+        return validator.validateResponse(path, method, response, body);
+    }
 
-        return Optional.empty();
+    private static ValidationReport buildNoValidatorFoundReport(String path) {
+        return new SimpleValidationReport(List.of(buildNoValidatorFoundMessage(path)));
     }
 
     private static SimpleMessage buildNoValidatorFoundMessage(String path) {
@@ -9,4 +9,23 @@ public interface OpenApiInteractionValidatorWrapper {
     ValidationReport validateRequest(SimpleRequest request);
 
     ValidationReport validateResponse(String path, Request.Method method, SimpleResponse response);
+
+    /**
+     * Validates the request, with its body also given as raw bytes for validators that stream the body.
+     */
+    default ValidationReport validateRequest(SimpleRequest request, StreamedBody body) {
+        return validateRequest(request);
+    }
+
+    /**
+     * Validates the response, with its body also given as raw bytes for validators that stream the body.
+     */
+    default ValidationReport validateResponse(
+        String path,
+        Request.Method method,
+        SimpleResponse response,
+        StreamedBody body
+    ) {
+        return validateResponse(path, method, response);
+    }
 }
@@ -0,0 +1,133 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * Routes a path to the value of the first matching pattern, the same as checking all patterns in order.
+ *
+ * <p>At construction time the literal prefix of every pattern is put into a trie. A lookup only evaluates the
+ * patterns whose prefix matches the path, and patterns without any regex construct are compared with
+ * {@link String#equals}. Results are not cached per path: request paths usually contain ids, so such a cache would
+ * mostly be filled with paths that are never looked up again.
+ */
+public class PathPatternRoutingTable<T> {
+    private static final int NO_MATCH = -1;
+    private static final String META_CHARACTERS = ".[]()*+?{}|^$\\";
+    private static final String QUANTIFIERS = "*+?{";
+
+    private final List<Route<T>> routes;
+    private final Node root = new Node();
+
+    public PathPatternRoutingTable(List<Pair<Pattern, T>> patterns) {
+        this.routes = new ArrayList<>(patterns.size());
+        for (int index = 0; index < patterns.size(); index++) {
+            var pattern = patterns.get(index).getLeft();
+            var literalPrefix = extractLiteralPrefix(pattern);
+            routes.add(new Route<>(pattern, literalPrefix.isFullLiteral() ? literalPrefix.prefix() : null,
+                patterns.get(index).getRight()));
+            root.add(literalPrefix.prefix(), 0, index);
+        }
+    }
+
+    /**
+     * Returns the value of the first pattern that matches the path.
+     *
+     * @return value of the first matching pattern or null if no pattern matches
+     */
+    @Nullable
+    public T route(String path) {
+        var index = findFirstMatchingIndex(path);
+        return index == NO_MATCH ? null : routes.get(index).value();
+    }
+
+    private int findFirstMatchingIndex(String path) {
+        var firstMatch = Integer.MAX_VALUE;
+        var node = root;
+        var depth = 0;
+        while (node != null) {
+            firstMatch = findFirstMatchingIndex(node, path, firstMatch);
+            if (depth == path.length()) {
+                break;
+            }
+            node = node.children.get(path.charAt(depth++));
+        }
+
+        return firstMatch == Integer.MAX_VALUE ? NO_MATCH : firstMatch;
+    }
+
+    private int findFirstMatchingIndex(Node node, String path, int firstMatch) {
+        for (var index : node.routeIndexes) {
+            if (index >= firstMatch) {
+                break;
+            }
+            if (routes.get(index).matches(path)) {
+                return index;
+            }
+        }
+        return firstMatch;
+    }
+
+    public static LiteralPrefix extractLiteralPrefix(Pattern pattern) {
+        var regex = pattern.pattern();
+        if (pattern.flags() != 0 || regex.indexOf('|') >= 0) {
+            return new LiteralPrefix("", false);
+        }
+
+        var prefix = new StringBuilder();
+        var position = regex.startsWith("^") ? 1 : 0;
+        while (position < regex.length()) {
+            var character = regex.charAt(position);
+            var length = 1;
+            if (character == '\\') {
+                if (position + 1 >= regex.length() || Character.isLetterOrDigit(regex.charAt(position + 1))) {
+                    break;
+                }
+                character = regex.charAt(position + 1);
+                length = 2;
+            } else if (META_CHARACTERS.indexOf(character) >= 0) {
+                break;
+            }
+
+            if (position + length < regex.length() && QUANTIFIERS.indexOf(regex.charAt(position + length)) >= 0) {
+                // the character is optional or repeated, so it is not part of the literal prefix
+                break;
+            }
+            prefix.append(character);
+            position += length;
+        }
+
+        var isFullLiteral = position == regex.length()
+            || (position == regex.length() - 1 && regex.charAt(position) == '$');
+        return new LiteralPrefix(prefix.toString(), isFullLiteral);
+    }
+
+    public record LiteralPrefix(String prefix, boolean isFullLiteral) {
+    }
+
+    private record Route<T>(Pattern pattern, @Nullable String literal, T value) {
+        private boolean matches(String path) {
+            return literal != null ? literal.equals(path) : pattern.matcher(path).matches();
+        }
+    }
+
+    private static class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private int[] routeIndexes = new int[0];
+
+        private void add(String prefix, int depth, int index) {
+            if (depth == prefix.length()) {
+                routeIndexes = Arrays.copyOf(routeIndexes, routeIndexes.length + 1);
+                routeIndexes[routeIndexes.length - 1] = index;
+                return;
+            }
+            children.computeIfAbsent(prefix.charAt(depth), c -> new Node()).add(prefix, depth + 1, index);
+        }
+    }
+}
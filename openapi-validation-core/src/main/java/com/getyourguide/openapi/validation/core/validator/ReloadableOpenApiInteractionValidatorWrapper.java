@@ -0,0 +1,70 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import com.atlassian.oai.validator.model.Request;
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.ValidationReport;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delegates to a validator that can be replaced while validations are running, e.g. after its spec file changed.
+ *
+ * <p>A validation uses the validator that is current when it starts. A new validator is built by the caller of
+ * {@link #reload(Supplier)} and swapped in atomically, so validations never see a partially built validator.</p>
+ */
+@Slf4j
+public class ReloadableOpenApiInteractionValidatorWrapper implements OpenApiInteractionValidatorWrapper {
+    private final AtomicReference<OpenApiInteractionValidatorWrapper> delegate;
+
+    public ReloadableOpenApiInteractionValidatorWrapper(OpenApiInteractionValidatorWrapper validator) {
+        this.delegate = new AtomicReference<>(validator);
+    }
+
+    /**
+     * Builds a new validator and swaps it in. The current validator is kept if building fails or yields null.
+     *
+     * @return whether the new validator was swapped in
+     */
+    public boolean reload(Supplier<OpenApiInteractionValidatorWrapper> validatorSupplier) {
+        OpenApiInteractionValidatorWrapper reloaded;
+        try {
+            reloaded = validatorSupplier.get();
+        } catch (RuntimeException e) {
+            log.error("[OpenAPI Validation] Could not reload validator, keeping the previous one", e);
+            return false;
+        }
+
+        if (reloaded == null) {
+            return false;
+        }
+        delegate.set(reloaded);
+        return true;
+    }
+
+    @Override
+    public ValidationReport validateRequest(SimpleRequest request) {
+        return delegate.get().validateRequest(request);
+    }
+
+    @Override
+    public ValidationReport validateResponse(String path, Request.Method method, SimpleResponse response) {
+        return delegate.get().validateResponse(path, method, response);
+    }
+
+    @Override
+    public ValidationReport validateRequest(SimpleRequest request, StreamedBody body) {
+        return delegate.get().validateRequest(request, body);
+    }
+
+    @Override
+    public ValidationReport validateResponse(
+        String path,
+        Request.Method method,
+        SimpleResponse response,
+        StreamedBody body
+    ) {
+        return delegate.get().validateResponse(path, method, response, body);
+    }
+}
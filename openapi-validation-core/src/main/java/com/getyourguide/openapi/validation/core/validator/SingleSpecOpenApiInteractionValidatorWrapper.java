@@ -1,23 +1,171 @@
 package com.getyourguide.openapi.validation.core.validator;
 
-import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.interaction.request.RequestValidator;
+import com.atlassian.oai.validator.interaction.response.ResponseValidator;
+import com.atlassian.oai.validator.model.ApiOperation;
 import com.atlassian.oai.validator.model.Request;
 import com.atlassian.oai.validator.model.SimpleRequest;
 import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.MessageResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
-import lombok.AllArgsConstructor;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.atlassian.oai.validator.util.ContentTypeUtils;
+import com.atlassian.oai.validator.whitelist.ValidationErrorsWhitelist;
+import com.getyourguide.openapi.validation.core.validator.schema.CompiledSchemaValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
 
-@AllArgsConstructor
+/**
+ * Validates against a single spec, equivalent to {@code OpenApiInteractionValidator} with strict operation path
+ * matching, but resolving operations through an {@link ApiOperationCache}.
+ *
+ * <p>The request and response validators are the ones {@code OpenApiInteractionValidator} uses, and whitelist rules
+ * are applied to their reports the same way, including to reports of missing paths and methods.</p>
+ */
 public class SingleSpecOpenApiInteractionValidatorWrapper implements OpenApiInteractionValidatorWrapper {
-    private final OpenApiInteractionValidator validator;
+    private final MessageResolver messages;
+    private final ApiOperationCache operationCache;
+    private final ValidationErrorsWhitelist whitelist;
+    private final RequestValidator requestValidator;
+    private final ResponseValidator responseValidator;
+    @Nullable
+    private final CompiledSchemaValidator streamingValidator;
+
+    public SingleSpecOpenApiInteractionValidatorWrapper(
+        OpenAPI api,
+        MessageResolver messages,
+        ApiOperationCache operationCache
+    ) {
+        this(api, messages, operationCache, new SchemaValidator(api, messages), ValidationErrorsWhitelist.create());
+    }
+
+    public SingleSpecOpenApiInteractionValidatorWrapper(
+        OpenAPI api,
+        MessageResolver messages,
+        ApiOperationCache operationCache,
+        SchemaValidator schemaValidator,
+        ValidationErrorsWhitelist whitelist
+    ) {
+        this.messages = messages;
+        this.operationCache = operationCache;
+        this.whitelist = whitelist;
+        this.requestValidator = new RequestValidator(schemaValidator, messages, api, List.of());
+        this.responseValidator = new ResponseValidator(schemaValidator, messages, api, List.of());
+        this.streamingValidator = schemaValidator instanceof CompiledSchemaValidator compiled && compiled.isStreaming()
+            ? compiled
+            : null;
+    }
 
     @Override
     public ValidationReport validateRequest(SimpleRequest request) {
-        return validator.validateRequest(request);
+        return validateOnApiOperation(
+            request.getPath(),
+            request.getMethod(),
+            apiOperation -> requestValidator.validateRequest(request, apiOperation),
+            (apiOperation, report) -> withWhitelistApplied(report, apiOperation, request, null)
+        );
     }
 
     @Override
     public ValidationReport validateResponse(String path, Request.Method method, SimpleResponse response) {
-        return validator.validateResponse(path, method, response);
+        return validateOnApiOperation(
+            path,
+            method,
+            apiOperation -> responseValidator.validateResponse(response, apiOperation),
+            (apiOperation, report) -> withWhitelistApplied(report, apiOperation, null, response)
+        );
+    }
+
+    @Override
+    public ValidationReport validateRequest(SimpleRequest request, StreamedBody body) {
+        return validateOnApiOperation(
+            request.getPath(),
+            request.getMethod(),
+            apiOperation -> withStreamedBody(
+                ContentTypeUtils.isJsonContentType(request) ? body : null,
+                () -> requestValidator.validateRequest(request, apiOperation)
+            ),
+            (apiOperation, report) -> withWhitelistApplied(report, apiOperation, request, null)
+        );
+    }
+
+    @Override
+    public ValidationReport validateResponse(
+        String path,
+        Request.Method method,
+        SimpleResponse response,
+        StreamedBody body
+    ) {
+        return validateOnApiOperation(
+            path,
+            method,
+            apiOperation -> withStreamedBody(
+                ContentTypeUtils.isJsonContentType(response) ? body : null,
+                () -> responseValidator.validateResponse(response, apiOperation)
+            ),
+            (apiOperation, report) -> withWhitelistApplied(report, apiOperation, null, response)
+        );
+    }
+
+    private ValidationReport withStreamedBody(@Nullable StreamedBody body, Supplier<ValidationReport> validation) {
+        if (streamingValidator == null || body == null) {
+            return validation.get();
+        }
+        return streamingValidator.withStreamedBody(body, validation);
+    }
+
+    private ValidationReport validateOnApiOperation(
+        String path,
+        Request.Method method,
+        Function<ApiOperation, ValidationReport> validation,
+        BiFunction<ApiOperation, ValidationReport, ValidationReport> whitelistFn
+    ) {
+        var context = ValidationReport.MessageContext.create()
+            .withRequestPath(path)
+            .withRequestMethod(method)
+            .build();
+
+        var apiOperationMatch = operationCache.findApiOperation(path, method);
+        if (!apiOperationMatch.isPathFound()) {
+            return whitelistFn.apply(
+                null,
+                ValidationReport.singleton(messages.get("validation.request.path.missing", path))
+                    .withAdditionalContext(context)
+            );
+        }
+
+        if (!apiOperationMatch.isOperationAllowed()) {
+            return whitelistFn.apply(
+                null,
+                ValidationReport.singleton(messages.get("validation.request.operation.notAllowed", method, path))
+                    .withAdditionalContext(context)
+            );
+        }
+
+        var apiOperation = apiOperationMatch.getApiOperation();
+        return whitelistFn.apply(apiOperation, validation.apply(apiOperation)).withAdditionalContext(context);
+    }
+
+    private ValidationReport withWhitelistApplied(
+        ValidationReport report,
+        @Nullable ApiOperation apiOperation,
+        @Nullable Request request,
+        @Nullable SimpleResponse response
+    ) {
+        return ValidationReport.from(
+            report.getMessages().stream()
+                .map(message -> whitelist.whitelistedBy(message, apiOperation, request, response)
+                    .map(rule -> message
+                        .withLevel(ValidationReport.Level.IGNORE)
+                        .withAdditionalContext(
+                            ValidationReport.MessageContext.create().withAppliedWhitelistRule(rule).build()
+                        ))
+                    .orElse(message))
+                .toList()
+        );
     }
 }
@@ -0,0 +1,10 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import java.nio.charset.Charset;
+
+/**
+ * Raw bytes of a body together with their charset, so that a streaming schema validator can parse the body directly
+ * instead of first decoding it into a {@link String}.
+ */
+public record StreamedBody(byte[] content, Charset charset) {
+}
@@ -0,0 +1,88 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.HashSet;
+import javax.annotation.Nullable;
+
+/**
+ * Validates {@code items}, {@code minItems}, {@code maxItems} and {@code uniqueItems} of arrays.
+ */
+public class ArrayValidator implements KeywordValidator {
+    private final String schemaPointer;
+    @Nullable
+    private final CompiledSchema items;
+    private final int minItems;
+    private final int maxItems;
+    private final boolean uniqueItems;
+
+    public ArrayValidator(
+        String schemaPointer,
+        @Nullable CompiledSchema items,
+        @Nullable Integer minItems,
+        @Nullable Integer maxItems,
+        boolean uniqueItems
+    ) {
+        this.schemaPointer = schemaPointer;
+        this.items = items;
+        this.minItems = minItems != null ? minItems : 0;
+        this.maxItems = maxItems != null ? maxItems : Integer.MAX_VALUE;
+        this.uniqueItems = uniqueItems;
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (!instance.isArray()) {
+            return;
+        }
+
+        var size = instance.size();
+        validateSize(size, path, collector);
+        if (uniqueItems && size > 1 && new HashSet<JsonNode>(instance.valueStream().toList()).size() < size) {
+            collector.add("uniqueItems", path, schemaPointer, "array must not contain duplicate elements");
+        }
+
+        if (items != null) {
+            for (int i = 0; i < size; i++) {
+                items.validate(instance.get(i), path.index(i), collector);
+            }
+        }
+    }
+
+    /**
+     * Validates the array starting at the current token of a parser while reading it, see
+     * {@link CompiledSchema#validate(JsonParser, InstancePath, SchemaViolationCollector)}.
+     */
+    public void validate(JsonParser parser, InstancePath path, SchemaViolationCollector collector) throws IOException {
+        var size = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (items != null) {
+                items.validate(parser, path.index(size), collector);
+            } else {
+                parser.skipChildren();
+            }
+            size++;
+        }
+        validateSize(size, path, collector);
+    }
+
+    @Override
+    public boolean requiresTree() {
+        return uniqueItems;
+    }
+
+    private void validateSize(int size, InstancePath path, SchemaViolationCollector collector) {
+        if (size < minItems) {
+            collector.add("minItems", path, schemaPointer, String.format(
+                "array is too short: must have at least %d elements but instance has %d elements", minItems, size
+            ));
+        }
+        if (size > maxItems) {
+            collector.add("maxItems", path, schemaPointer, String.format(
+                "array is too long: must have at most %d elements but instance has %d elements", maxItems, size
+            ));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import java.io.IOException;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * A schema compiled into the keyword validators that apply to it.
+ *
+ * <p>The validators are set after construction, so recursive schemas can refer to a schema that is still being
+ * compiled. A compiled schema is not modified once compilation has finished.</p>
+ *
+ * <p>Values can also be validated on a token stream: objects and arrays are then checked while they are read, so no
+ * tree of the document is built. Only scalars, which are cheap, and subtrees with keywords that need the whole value
+ * (compositions, enums of objects or arrays, unique items) are read into a tree.</p>
+ */
+public class CompiledSchema {
+    private static final KeywordValidator[] NO_VALIDATORS = new KeywordValidator[0];
+    // Stand-ins for checking the type of objects and arrays that are being streamed, never modified
+    private static final JsonNode OBJECT = JsonNodeFactory.instance.objectNode();
+    private static final JsonNode ARRAY = JsonNodeFactory.instance.arrayNode();
+
+    private final boolean nullable;
+    private KeywordValidator[] validators = NO_VALIDATORS;
+    private boolean requiresTree;
+    @Nullable
+    private ObjectValidator objectValidator;
+    @Nullable
+    private ArrayValidator arrayValidator;
+
+    public CompiledSchema(boolean nullable) {
+        this.nullable = nullable;
+    }
+
+    public void setValidators(List<KeywordValidator> validators) {
+        this.validators = validators.toArray(NO_VALIDATORS);
+        for (var validator : validators) {
+            requiresTree |= validator.requiresTree();
+            if (validator instanceof ObjectValidator object) {
+                objectValidator = object;
+            } else if (validator instanceof ArrayValidator array) {
+                arrayValidator = array;
+            }
+        }
+    }
+
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (nullable && instance.isNull()) {
+            return;
+        }
+
+        for (var validator : validators) {
+            validator.validate(instance, path, collector);
+        }
+    }
+
+    /**
+     * Validates the value starting at the current token of a parser and leaves the parser at the last token of the
+     * value.
+     */
+    public void validate(JsonParser parser, InstancePath path, SchemaViolationCollector collector) throws IOException {
+        var token = parser.currentToken();
+        if (!token.isStructStart() || requiresTree) {
+            JsonNode instance = parser.readValueAsTree();
+            validate(instance != null ? instance : NullNode.getInstance(), path, collector);
+            return;
+        }
+
+        var isObject = token == JsonToken.START_OBJECT;
+        for (var validator : validators) {
+            if (validator instanceof TypeValidator) {
+                validator.validate(isObject ? OBJECT : ARRAY, path, collector);
+            }
+        }
+
+        if (isObject && objectValidator != null) {
+            objectValidator.validate(parser, path, collector);
+        } else if (!isObject && arrayValidator != null) {
+            arrayValidator.validate(parser, path, collector);
+        } else {
+            parser.skipChildren();
+        }
+    }
+}
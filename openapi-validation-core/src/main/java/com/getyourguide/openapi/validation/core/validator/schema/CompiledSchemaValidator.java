@@ -0,0 +1,225 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.atlassian.oai.validator.report.MessageResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.getyourguide.openapi.validation.core.validator.StreamedBody;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Schema;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Validates request and response bodies with schemas compiled once at startup instead of the generic JSON schema
+ * engine.
+ *
+ * <p>All body schemas of the spec are compiled into validators when this is created. A body is then validated by
+ * walking the parsed document once, without converting the schema to JSON schema or copying the document. Reported
+ * messages use the same keys, pointers and wording as the default engine, so rules and exclusions keep working.
+ * Parameters, bodies with schemas that could not be compiled and documents that can't be parsed are validated by the
+ * default engine.</p>
+ *
+ * <p>In streaming mode, JSON bodies bound with {@link #withStreamedBody(StreamedBody, Supplier)} are validated on the
+ * token stream parsed directly from their bytes instead of a parsed tree, see {@link CompiledSchema}. Content after the
+ * root value is reported as invalid JSON.</p>
+ */
+@Slf4j
+public class CompiledSchemaValidator extends SchemaValidator {
+    private static final String REQUEST_BODY = "request.body";
+    private static final String RESPONSE_BODY = "response.body";
+
+    private final MessageResolver messages;
+    private final boolean streaming;
+    private final Map<Schema<?>, CompiledSchema> requestSchemas = new IdentityHashMap<>();
+    private final Map<Schema<?>, CompiledSchema> responseSchemas = new IdentityHashMap<>();
+    private final ThreadLocal<StreamedBody> streamedBody = new ThreadLocal<>();
+
+    public CompiledSchemaValidator(OpenAPI api, MessageResolver messages) {
+        this(api, messages, false);
+    }
+
+    public CompiledSchemaValidator(OpenAPI api, MessageResolver messages, boolean streaming) {
+        super(api, messages);
+        this.messages = messages;
+        this.streaming = streaming;
+
+        var additionalPropertiesValidation = !messages.isIgnored(ADDITIONAL_PROPERTIES_KEY);
+        var componentSchemas = api.getComponents() != null && api.getComponents().getSchemas() != null
+            ? api.getComponents().getSchemas()
+            : Map.<String, Schema>of();
+        var requestCompiler = new SchemaCompiler(componentSchemas, true, additionalPropertiesValidation);
+        var responseCompiler = new SchemaCompiler(componentSchemas, false, additionalPropertiesValidation);
+        if (api.getPaths() != null) {
+            for (var pathItem : api.getPaths().values()) {
+                for (var operation : pathItem.readOperations()) {
+                    if (operation.getRequestBody() != null) {
+                        compileAll(operation.getRequestBody().getContent(), requestCompiler, requestSchemas);
+                    }
+                    if (operation.getResponses() != null) {
+                        for (var response : operation.getResponses().values()) {
+                            compileAll(response.getContent(), responseCompiler, responseSchemas);
+                        }
+                    }
+                }
+            }
+        }
+        log.info("[OpenAPI Validation] Compiled {} body schemas", getCompiledSchemaCount());
+    }
+
+    private static void compileAll(
+        @Nullable Content content,
+        SchemaCompiler compiler,
+        Map<Schema<?>, CompiledSchema> compiledSchemas
+    ) {
+        if (content == null) {
+            return;
+        }
+
+        for (var mediaType : content.values()) {
+            var schema = mediaType.getSchema();
+            if (schema != null && !compiledSchemas.containsKey(schema)) {
+                var compiled = compiler.compile(schema);
+                if (compiled != null) {
+                    compiledSchemas.put(schema, compiled);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of body schemas that are validated by this engine.
+     */
+    public int getCompiledSchemaCount() {
+        return requestSchemas.size() + responseSchemas.size();
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Runs a validation during which the JSON body is read from the given body as a token stream, if this validator
+     * is in streaming mode.
+     *
+     * <p>The body is bound to the current thread, so it must be the body that the validation validates as JSON.</p>
+     */
+    public <T> T withStreamedBody(@Nullable StreamedBody body, Supplier<T> validation) {
+        if (!streaming || body == null) {
+            return validation.get();
+        }
+
+        streamedBody.set(body);
+        try {
+            return validation.get();
+        } finally {
+            streamedBody.remove();
+        }
+    }
+
+    @Override
+    public ValidationReport validate(JsonNodeSupplier valueSupplier, Schema schema, String keyPrefix) {
+        var compiled = findCompiledSchema(schema, keyPrefix);
+        if (compiled == null) {
+            return super.validate(valueSupplier, schema, keyPrefix);
+        }
+
+        try {
+            var collector = new SchemaViolationCollector();
+            var body = streamedBody.get();
+            if (body != null) {
+                if (!validateStreaming(body, compiled, collector)) {
+                    return invalidJson(keyPrefix, "Unexpected content after the root value");
+                }
+            } else {
+                compiled.validate(valueSupplier.get(), InstancePath.ROOT, collector);
+            }
+            if (collector.isEmpty()) {
+                return ValidationReport.empty();
+            }
+            return toValidationReport(collector, keyPrefix);
+        } catch (IOException | RuntimeException e) {
+            // Let the default engine report unparsable documents and unexpected failures the way it always has
+            return super.validate(valueSupplier, schema, keyPrefix);
+        }
+    }
+
+    /**
+     * Validates the body on its token stream.
+     *
+     * @return false if there is content after the root value
+     */
+    private static boolean validateStreaming(
+        StreamedBody body,
+        CompiledSchema compiled,
+        SchemaViolationCollector collector
+    ) throws IOException {
+        try (var parser = createParser(body)) {
+            if (parser.nextToken() == null) {
+                throw new IOException("No content to validate");
+            }
+            compiled.validate(parser, InstancePath.ROOT, collector);
+            return parser.nextToken() == null;
+        }
+    }
+
+    /**
+     * Jackson detects the UTF encodings from the bytes by itself, other charsets are decoded while parsing.
+     */
+    private static JsonParser createParser(StreamedBody body) throws IOException {
+        var charset = body.charset();
+        if (StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)) {
+            return Json.mapper().createParser(body.content());
+        }
+        return Json.mapper().createParser(new InputStreamReader(new ByteArrayInputStream(body.content()), charset));
+    }
+
+    private ValidationReport invalidJson(String keyPrefix, String reason) {
+        return ValidationReport.singleton(messages.create(
+            "validation." + keyPrefix + ".schema.invalidJson",
+            messages.get(INVALID_JSON_KEY, reason).getMessage()
+        ));
+    }
+
+    @Nullable
+    private CompiledSchema findCompiledSchema(@Nullable Schema<?> schema, String keyPrefix) {
+        if (schema == null) {
+            return null;
+        }
+        if (REQUEST_BODY.equalsIgnoreCase(keyPrefix)) {
+            return requestSchemas.get(schema);
+        }
+        if (RESPONSE_BODY.equalsIgnoreCase(keyPrefix)) {
+            return responseSchemas.get(schema);
+        }
+        return null;
+    }
+
+    private ValidationReport toValidationReport(SchemaViolationCollector collector, String keyPrefix) {
+        var reportMessages = new ArrayList<ValidationReport.Message>();
+        for (var violation : collector.getViolations()) {
+            var context = ValidationReport.MessageContext.create()
+                .withPointers(
+                    violation.instancePointer().isEmpty() ? "/" : violation.instancePointer(),
+                    violation.schemaPointer().isEmpty() ? "/" : violation.schemaPointer()
+                )
+                .build();
+            reportMessages.add(messages.create(
+                "validation." + keyPrefix + ".schema." + violation.keyword(),
+                violation.formattedMessage(),
+                violation.nestedMessages().toArray(new String[0])
+            ).withAdditionalContext(context));
+        }
+        return ValidationReport.from(reportMessages);
+    }
+}
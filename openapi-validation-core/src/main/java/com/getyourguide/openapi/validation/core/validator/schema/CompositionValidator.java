@@ -0,0 +1,62 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates one of the {@code allOf}, {@code anyOf} or {@code oneOf} keywords.
+ *
+ * <p>Each subschema is validated on its own; their violations are only reported nested in the violation of the
+ * composition, like the default engine does.</p>
+ */
+public class CompositionValidator implements KeywordValidator {
+    private final String keyword;
+    private final String schemaPointer;
+    private final CompiledSchema[] schemas;
+
+    public CompositionValidator(String keyword, String schemaPointer, List<CompiledSchema> schemas) {
+        this.keyword = keyword;
+        this.schemaPointer = schemaPointer;
+        this.schemas = schemas.toArray(new CompiledSchema[0]);
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        var matched = 0;
+        List<String> nestedMessages = null;
+        for (int i = 0; i < schemas.length; i++) {
+            var subCollector = new SchemaViolationCollector();
+            schemas[i].validate(instance, path, subCollector);
+            if (subCollector.isEmpty()) {
+                matched++;
+                continue;
+            }
+
+            if (nestedMessages == null) {
+                nestedMessages = new ArrayList<>();
+            }
+            for (var violation : subCollector.getViolations()) {
+                nestedMessages.add(schemaPointer + "/" + keyword + "/" + i + ": " + violation.formattedMessage());
+            }
+        }
+
+        var message = switch (keyword) {
+            case "allOf" -> matched == schemas.length ? null : String.format(
+                "instance failed to match all required schemas (matched only %d out of %d)", matched, schemas.length);
+            case "anyOf" -> matched > 0 ? null : String.format(
+                "instance failed to match at least one required schema among %d", schemas.length);
+            default -> matched == 1 ? null : String.format(
+                "instance failed to match exactly one schema (matched %d out of %d)", matched, schemas.length);
+        };
+        if (message != null) {
+            collector.add(keyword, path, schemaPointer, message,
+                nestedMessages != null ? List.copyOf(nestedMessages) : List.of());
+        }
+    }
+
+    @Override
+    public boolean requiresTree() {
+        return true;
+    }
+}
@@ -0,0 +1,53 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates the {@code enum} keyword with hash lookups: strings by their value, other values by a canonical form
+ * in which numbers of equal value are equal.
+ */
+public class EnumValidator implements KeywordValidator {
+    private final Set<String> strings = new HashSet<>();
+    private final Set<String> others = new HashSet<>();
+    private final String schemaPointer;
+    private final String possibleValues;
+
+    public EnumValidator(List<JsonNode> values, String schemaPointer) {
+        for (var value : values) {
+            if (value.isTextual()) {
+                strings.add(value.textValue());
+            } else {
+                others.add(canonical(value));
+            }
+        }
+        this.schemaPointer = schemaPointer;
+        this.possibleValues = JsonNodeFactory.instance.arrayNode().addAll(values).toString();
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        var found = instance.isTextual() ? strings.contains(instance.textValue()) : others.contains(canonical(instance));
+        if (!found) {
+            collector.add("enum", path, schemaPointer, String.format(
+                "instance value (%s) not found in enum (possible values: %s)", instance, possibleValues
+            ));
+        }
+    }
+
+    private static String canonical(JsonNode value) {
+        if (value.isNumber()) {
+            var decimal = value.decimalValue().stripTrailingZeros();
+            return decimal.signum() == 0 ? "0" : decimal.toPlainString();
+        }
+        return value.toString();
+    }
+
+    @Override
+    public boolean requiresTree() {
+        return true;
+    }
+}
@@ -0,0 +1,44 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+/**
+ * Location of a value within the validated document, built up while descending and turned into a JSON pointer only
+ * when a violation is reported.
+ */
+public final class InstancePath {
+    public static final InstancePath ROOT = new InstancePath(null, null, -1);
+
+    private final InstancePath parent;
+    private final String property;
+    private final int index;
+
+    private InstancePath(InstancePath parent, String property, int index) {
+        this.parent = parent;
+        this.property = property;
+        this.index = index;
+    }
+
+    public InstancePath property(String name) {
+        return new InstancePath(this, name, -1);
+    }
+
+    public InstancePath index(int arrayIndex) {
+        return new InstancePath(this, null, arrayIndex);
+    }
+
+    /**
+     * Returns the JSON pointer of this location, which is empty for the root.
+     */
+    public String toPointer() {
+        if (parent == null) {
+            return "";
+        }
+
+        var pointer = new StringBuilder(parent.toPointer()).append('/');
+        if (property != null) {
+            pointer.append(property.replace("~", "~0").replace("/", "~1"));
+        } else {
+            pointer.append(index);
+        }
+        return pointer.toString();
+    }
+}
@@ -0,0 +1,20 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Validates a value against one or a few related keywords of a compiled schema.
+ *
+ * <p>Implementations are immutable and only check values of the types they apply to, like the default engine.</p>
+ */
+public interface KeywordValidator {
+    void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector);
+
+    /**
+     * Returns whether objects and arrays need to be read completely before this validator can check them, which
+     * prevents validating them on a token stream.
+     */
+    default boolean requiresTree() {
+        return false;
+    }
+}
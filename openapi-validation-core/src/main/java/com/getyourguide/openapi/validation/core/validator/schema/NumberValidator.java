@@ -0,0 +1,120 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import javax.annotation.Nullable;
+
+/**
+ * Validates {@code minimum}, {@code maximum}, {@code multipleOf} and the integer formats of numbers.
+ *
+ * <p>Values and bounds that fit into a {@code long} are compared without allocating, everything else is compared
+ * exactly as {@link BigDecimal}.</p>
+ */
+public class NumberValidator implements KeywordValidator {
+    private final String schemaPointer;
+    @Nullable
+    private final Bound minimum;
+    @Nullable
+    private final Bound maximum;
+    @Nullable
+    private final BigDecimal multipleOf;
+    @Nullable
+    private final String format;
+
+    public NumberValidator(
+        String schemaPointer,
+        @Nullable BigDecimal minimum,
+        boolean exclusiveMinimum,
+        @Nullable BigDecimal maximum,
+        boolean exclusiveMaximum,
+        @Nullable BigDecimal multipleOf,
+        @Nullable String format
+    ) {
+        this.schemaPointer = schemaPointer;
+        this.minimum = minimum != null ? new Bound(minimum, exclusiveMinimum) : null;
+        this.maximum = maximum != null ? new Bound(maximum, exclusiveMaximum) : null;
+        this.multipleOf = multipleOf != null && multipleOf.signum() > 0 ? multipleOf : null;
+        this.format = "int32".equals(format) || "int64".equals(format) ? format : null;
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (!instance.isNumber()) {
+            return;
+        }
+
+        if (minimum != null) {
+            validateMinimum(instance, path, collector);
+        }
+        if (maximum != null) {
+            validateMaximum(instance, path, collector);
+        }
+
+        if (multipleOf != null && instance.decimalValue().remainder(multipleOf).signum() != 0) {
+            collector.add("multipleOf", path, schemaPointer, String.format(
+                "remainder of division is not zero (%s / %s)", instance, multipleOf.toPlainString()
+            ));
+        }
+
+        if (format != null && instance.isIntegralNumber()
+            && ("int32".equals(format) ? !instance.canConvertToInt() : !instance.canConvertToLong())) {
+            collector.add("format." + format, path, schemaPointer, String.format(
+                "value for %s leads to overflow (found: %s)", format, instance
+            ));
+        }
+    }
+
+    private void validateMinimum(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        var comparison = minimum.compareTo(instance);
+        if (comparison > 0) {
+            collector.add("minimum", path, schemaPointer, String.format(
+                "numeric instance is lower than the required minimum (minimum: %s, found: %s)",
+                minimum.text, instance
+            ));
+        } else if (comparison == 0 && minimum.exclusive) {
+            collector.add("minimum", path, schemaPointer, String.format(
+                "numeric instance is not strictly greater than the required minimum %s", minimum.text
+            ));
+        }
+    }
+
+    private void validateMaximum(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        var comparison = maximum.compareTo(instance);
+        if (comparison < 0) {
+            collector.add("maximum", path, schemaPointer, String.format(
+                "numeric instance is greater than the required maximum (maximum: %s, found: %s)",
+                maximum.text, instance
+            ));
+        } else if (comparison == 0 && maximum.exclusive) {
+            collector.add("maximum", path, schemaPointer, String.format(
+                "numeric instance is not strictly lower than the required maximum %s", maximum.text
+            ));
+        }
+    }
+
+    private static final class Bound {
+        private final BigDecimal value;
+        private final boolean fitsLong;
+        private final long longValue;
+        private final boolean exclusive;
+        private final String text;
+
+        private Bound(BigDecimal value, boolean exclusive) {
+            this.value = value;
+            this.fitsLong = value.stripTrailingZeros().scale() <= 0
+                && value.compareTo(BigDecimal.valueOf(Long.MIN_VALUE)) >= 0
+                && value.compareTo(BigDecimal.valueOf(Long.MAX_VALUE)) <= 0;
+            this.longValue = fitsLong ? value.longValue() : 0;
+            this.exclusive = exclusive;
+            this.text = value.toPlainString();
+        }
+
+        // Compares the bound with a value, like Comparable: negative if the bound is lower
+        private int compareTo(JsonNode instance) {
+            if (fitsLong && instance.isIntegralNumber() && instance.canConvertToLong()) {
+                return Long.compare(longValue, instance.longValue());
+            }
+            return value.compareTo(instance.decimalValue());
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+
+/**
+ * Validates {@code properties}, {@code required}, {@code additionalProperties}, {@code minProperties} and
+ * {@code maxProperties} of objects.
+ *
+ * <p>Properties are numbered at compile time. While the fields of a value are visited once, the properties seen are
+ * recorded in a bitset, so required properties are checked with a single mask comparison. Required properties beyond
+ * the first 64 declared properties, or not declared at all, are looked up individually.</p>
+ */
+public class ObjectValidator implements KeywordValidator {
+    private final String schemaPointer;
+    private final Map<String, Integer> propertyIndexes = new HashMap<>();
+    private final CompiledSchema[] propertySchemas;
+    private final String[] propertyNames;
+    private final long requiredMask;
+    private final List<String> requiredLookups = new ArrayList<>();
+    private final boolean additionalPropertiesAllowed;
+    @Nullable
+    private final CompiledSchema additionalProperties;
+    private final int minProperties;
+    private final int maxProperties;
+
+    public ObjectValidator(
+        String schemaPointer,
+        Map<String, CompiledSchema> properties,
+        List<String> required,
+        boolean additionalPropertiesAllowed,
+        @Nullable CompiledSchema additionalProperties,
+        @Nullable Integer minProperties,
+        @Nullable Integer maxProperties
+    ) {
+        this.schemaPointer = schemaPointer;
+        this.propertySchemas = new CompiledSchema[properties.size()];
+        this.propertyNames = new String[properties.size()];
+        var index = 0;
+        for (var property : properties.entrySet()) {
+            propertyIndexes.put(property.getKey(), index);
+            propertyNames[index] = property.getKey();
+            propertySchemas[index] = property.getValue();
+            index++;
+        }
+
+        var mask = 0L;
+        for (var name : required) {
+            var propertyIndex = propertyIndexes.get(name);
+            if (propertyIndex != null && propertyIndex < Long.SIZE) {
+                mask |= 1L << propertyIndex;
+            } else {
+                requiredLookups.add(name);
+            }
+        }
+        this.requiredMask = mask;
+        this.additionalPropertiesAllowed = additionalPropertiesAllowed;
+        this.additionalProperties = additionalProperties;
+        this.minProperties = minProperties != null ? minProperties : 0;
+        this.maxProperties = maxProperties != null ? maxProperties : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (!instance.isObject()) {
+            return;
+        }
+
+        var seen = 0L;
+        List<String> unexpected = null;
+        for (var field : instance.properties()) {
+            var name = field.getKey();
+            var index = propertyIndexes.get(name);
+            if (index != null) {
+                seen |= bit(index);
+                propertySchemas[index].validate(field.getValue(), path.property(name), collector);
+            } else if (additionalProperties != null) {
+                additionalProperties.validate(field.getValue(), path.property(name), collector);
+            } else if (!additionalPropertiesAllowed) {
+                unexpected = addTo(unexpected, name);
+            }
+        }
+
+        report(seen, instance::has, unexpected, instance.size(), path, collector);
+    }
+
+    /**
+     * Validates the object starting at the current token of a parser while reading it, see
+     * {@link CompiledSchema#validate(JsonParser, InstancePath, SchemaViolationCollector)}.
+     */
+    public void validate(JsonParser parser, InstancePath path, SchemaViolationCollector collector) throws IOException {
+        var seen = 0L;
+        var size = 0;
+        List<String> unexpected = null;
+        Set<String> presentLookups = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var name = parser.currentName();
+            parser.nextToken();
+            size++;
+            var index = propertyIndexes.get(name);
+            if (index != null) {
+                seen |= bit(index);
+                propertySchemas[index].validate(parser, path.property(name), collector);
+            } else if (additionalProperties != null) {
+                additionalProperties.validate(parser, path.property(name), collector);
+            } else {
+                if (!additionalPropertiesAllowed) {
+                    unexpected = addTo(unexpected, name);
+                }
+                parser.skipChildren();
+            }
+
+            if (!requiredLookups.isEmpty() && requiredLookups.contains(name)) {
+                if (presentLookups == null) {
+                    presentLookups = new HashSet<>();
+                }
+                presentLookups.add(name);
+            }
+        }
+
+        var present = presentLookups != null ? presentLookups : Set.<String>of();
+        report(seen, present::contains, unexpected, size, path, collector);
+    }
+
+    private void report(
+        long seen,
+        Predicate<String> isPresent,
+        @Nullable List<String> unexpected,
+        int size,
+        InstancePath path,
+        SchemaViolationCollector collector
+    ) {
+        if ((seen & requiredMask) != requiredMask || !requiredLookups.isEmpty()) {
+            reportMissingRequired(seen, isPresent, path, collector);
+        }
+        if (unexpected != null) {
+            collector.add("additionalProperties", path, schemaPointer, String.format(
+                "object instance has properties which are not allowed by the schema: %s", toJsonArray(unexpected)
+            ));
+        }
+
+        if (size < minProperties) {
+            collector.add("minProperties", path, schemaPointer, String.format(
+                "object has too few properties (found %d but schema requires at least %d)", size, minProperties
+            ));
+        }
+        if (size > maxProperties) {
+            collector.add("maxProperties", path, schemaPointer, String.format(
+                "object has too many properties (found %d but schema requires at most %d)", size, maxProperties
+            ));
+        }
+    }
+
+    private void reportMissingRequired(
+        long seen,
+        Predicate<String> isPresent,
+        InstancePath path,
+        SchemaViolationCollector collector
+    ) {
+        var missing = new ArrayList<String>();
+        var missingMask = requiredMask & ~seen;
+        while (missingMask != 0) {
+            missing.add(propertyNames[Long.numberOfTrailingZeros(missingMask)]);
+            missingMask &= missingMask - 1;
+        }
+        for (var name : requiredLookups) {
+            if (!isPresent.test(name)) {
+                missing.add(name);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            collector.add("required", path, schemaPointer, String.format(
+                "object has missing required properties (%s)", toJsonArray(missing)
+            ));
+        }
+    }
+
+    private static long bit(int index) {
+        return index < Long.SIZE ? 1L << index : 0;
+    }
+
+    private static List<String> addTo(@Nullable List<String> names, String name) {
+        var list = names != null ? names : new ArrayList<String>();
+        list.add(name);
+        return list;
+    }
+
+    private static String toJsonArray(List<String> names) {
+        var array = new StringBuilder("[");
+        for (var name : new TreeSet<>(names)) {
+            if (array.length() > 1) {
+                array.append(',');
+            }
+            array.append('"').append(name.replace("\\", "\\\\").replace("\"", "\\\"")).append('"');
+        }
+        return array.append(']').toString();
+    }
+}
@@ -0,0 +1,358 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import io.swagger.v3.oas.models.media.Schema;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.annotation.Nullable;
+
+/**
+ * Compiles fully resolved body schemas into {@link CompiledSchema}s for one direction.
+ *
+ * <p>References left by the parser, which only happens for recursive schemas, are resolved against the component
+ * schemas. Like the default engine, read only properties are not required in requests and write only properties are not
+ * required in responses. Schemas using keywords that are not supported here (e.g. {@code not}, discriminators or
+ * formats that are only known to the default engine) are not compiled, so they keep being validated by the default
+ * engine.</p>
+ */
+public class SchemaCompiler {
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+    private static final String COMPONENT_SCHEMA_PREFIX = "#/components/schemas/";
+
+    private final Map<String, Schema> componentSchemas;
+    private final boolean request;
+    private final boolean additionalPropertiesValidation;
+    private final Map<Schema<?>, CompiledSchema> compiled = new IdentityHashMap<>();
+    private final Map<Schema<?>, CompiledSchema> compiledInComposition = new IdentityHashMap<>();
+    private final Set<Schema<?>> unsupported = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Registration> registrations = new ArrayList<>();
+
+    /**
+     * Creates a compiler.
+     *
+     * @param componentSchemas               component schemas by name, to resolve references
+     * @param request                        whether request bodies are compiled, otherwise response bodies
+     * @param additionalPropertiesValidation whether objects without {@code additionalProperties} reject unknown
+     *                                       properties, like the default engine does unless that rule is ignored
+     */
+    public SchemaCompiler(
+        Map<String, Schema> componentSchemas,
+        boolean request,
+        boolean additionalPropertiesValidation
+    ) {
+        this.componentSchemas = componentSchemas;
+        this.request = request;
+        this.additionalPropertiesValidation = additionalPropertiesValidation;
+    }
+
+    /**
+     * Compiles a body schema.
+     *
+     * <p>Compiled schemas are kept by identity for the lifetime of the compiler, so schemas shared between bodies,
+     * like the component schema of a {@code $ref}, are compiled once. When a body turns out to be unsupported, the
+     * schemas registered while compiling it are dropped again, as they may refer to the unsupported ones.</p>
+     *
+     * @return the compiled schema or null if the schema uses keywords that are not supported
+     */
+    @Nullable
+    public CompiledSchema compile(Schema<?> schema) {
+        if (unsupported.contains(schema)) {
+            return null;
+        }
+
+        try {
+            return compile(schema, "", false);
+        } catch (UnsupportedSchemaException e) {
+            for (var registration : registrations) {
+                registration.cache().remove(registration.schema());
+            }
+            unsupported.add(schema);
+            return null;
+        } finally {
+            registrations.clear();
+        }
+    }
+
+    private CompiledSchema compile(Schema<?> schema, String pointer, boolean inComposition) {
+        if (schema.get$ref() != null) {
+            return compileReference(schema.get$ref(), inComposition);
+        }
+
+        var cache = inComposition ? compiledInComposition : compiled;
+        var existing = cache.get(schema);
+        if (existing != null) {
+            return existing;
+        }
+
+        var type = resolveType(schema);
+        var nullable = Boolean.TRUE.equals(schema.getNullable()) || type.nullable();
+        var result = new CompiledSchema(nullable);
+        // Registered before compiling the children, so recursive schemas refer to themselves
+        cache.put(schema, result);
+        registrations.add(new Registration(cache, schema));
+
+        checkSupported(schema);
+        var validators = new ArrayList<KeywordValidator>();
+        if (type.name() != null) {
+            validators.add(new TypeValidator(type.name(), nullable, pointer));
+        }
+        if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+            validators.add(new EnumValidator(toJsonNodes(schema.getEnum()), pointer));
+        }
+        addStringValidator(schema, pointer, validators);
+        addNumberValidator(schema, pointer, validators);
+        addObjectValidator(schema, pointer, inComposition, validators);
+        addArrayValidator(schema, pointer, inComposition, validators);
+        addCompositionValidator("allOf", schema.getAllOf(), pointer, validators);
+        addCompositionValidator("anyOf", schema.getAnyOf(), pointer, validators);
+        addCompositionValidator("oneOf", schema.getOneOf(), pointer, validators);
+        result.setValidators(validators);
+        return result;
+    }
+
+    private CompiledSchema compileReference(String ref, boolean inComposition) {
+        var name = ref.startsWith(COMPONENT_SCHEMA_PREFIX) ? ref.substring(COMPONENT_SCHEMA_PREFIX.length()) : null;
+        var schema = name != null ? componentSchemas.get(name) : null;
+        if (schema == null) {
+            throw new UnsupportedSchemaException();
+        }
+        return compile(schema, "/components/schemas/" + escape(name), inComposition);
+    }
+
+    private static void checkSupported(Schema<?> schema) {
+        if (schema.getDiscriminator() != null
+            || schema.getNot() != null
+            || schema.getConst() != null
+            || schema.getIf() != null
+            || schema.getThen() != null
+            || schema.getElse() != null
+            || schema.getContains() != null
+            || schema.getPropertyNames() != null
+            || schema.getUnevaluatedProperties() != null
+            || !isEmpty(schema.getPrefixItems())
+            || !isEmpty(schema.getPatternProperties())
+            || !isEmpty(schema.getDependentSchemas())
+            || StringFormat.isKnownButUnsupported(schema.getFormat())
+            || (schema.getMinimum() != null && schema.getExclusiveMinimumValue() != null)
+            || (schema.getMaximum() != null && schema.getExclusiveMaximumValue() != null)) {
+            throw new UnsupportedSchemaException();
+        }
+    }
+
+    private static SchemaType resolveType(Schema<?> schema) {
+        Set<String> types = schema.getTypes();
+        if (types == null || types.isEmpty()) {
+            return new SchemaType(schema.getType(), false);
+        }
+
+        var nullable = types.contains("null");
+        var nonNullTypes = types.stream().filter(type -> !"null".equals(type)).toList();
+        if (nonNullTypes.size() > 1) {
+            throw new UnsupportedSchemaException();
+        }
+        return new SchemaType(nonNullTypes.isEmpty() ? null : nonNullTypes.get(0), nullable);
+    }
+
+    private static void addStringValidator(Schema<?> schema, String pointer, List<KeywordValidator> validators) {
+        var format = StringFormat.of(schema.getFormat()).orElse(null);
+        if (schema.getMinLength() == null && schema.getMaxLength() == null && schema.getPattern() == null
+            && format == null) {
+            return;
+        }
+
+        Pattern pattern = null;
+        if (schema.getPattern() != null) {
+            try {
+                pattern = Pattern.compile(schema.getPattern());
+            } catch (PatternSyntaxException e) {
+                // ECMA 262 patterns that Java can't compile are left to the default engine
+                throw new UnsupportedSchemaException();
+            }
+        }
+        validators.add(new StringValidator(pointer, schema.getMinLength(), schema.getMaxLength(), pattern, format));
+    }
+
+    private static void addNumberValidator(Schema<?> schema, String pointer, List<KeywordValidator> validators) {
+        var minimum = schema.getExclusiveMinimumValue() != null
+            ? schema.getExclusiveMinimumValue()
+            : schema.getMinimum();
+        var exclusiveMinimum = schema.getExclusiveMinimumValue() != null
+            || Boolean.TRUE.equals(schema.getExclusiveMinimum());
+        var maximum = schema.getExclusiveMaximumValue() != null
+            ? schema.getExclusiveMaximumValue()
+            : schema.getMaximum();
+        var exclusiveMaximum = schema.getExclusiveMaximumValue() != null
+            || Boolean.TRUE.equals(schema.getExclusiveMaximum());
+        var format = schema.getFormat();
+        if (minimum == null && maximum == null && schema.getMultipleOf() == null
+            && !"int32".equals(format) && !"int64".equals(format)) {
+            return;
+        }
+
+        validators.add(new NumberValidator(
+            pointer, minimum, exclusiveMinimum, maximum, exclusiveMaximum, schema.getMultipleOf(), format
+        ));
+    }
+
+    private void addObjectValidator(
+        Schema<?> schema,
+        String pointer,
+        boolean inComposition,
+        List<KeywordValidator> validators
+    ) {
+        var properties = compileProperties(schema, pointer, inComposition);
+        var required = requiredInDirection(schema);
+
+        var additionalPropertiesAllowed = true;
+        CompiledSchema additionalProperties = null;
+        if (schema.getAdditionalProperties() instanceof Boolean allowed) {
+            additionalPropertiesAllowed = allowed;
+        } else if (schema.getAdditionalProperties() instanceof Schema<?> additionalSchema) {
+            additionalProperties = compile(additionalSchema, pointer + "/additionalProperties", inComposition);
+        } else if (additionalPropertiesValidation && !inComposition && !properties.isEmpty()
+            && !hasComposition(schema)) {
+            additionalPropertiesAllowed = false;
+        }
+
+        if (properties.isEmpty() && required.isEmpty() && additionalPropertiesAllowed && additionalProperties == null
+            && schema.getMinProperties() == null && schema.getMaxProperties() == null) {
+            return;
+        }
+        validators.add(new ObjectValidator(
+            pointer,
+            properties,
+            required,
+            additionalPropertiesAllowed,
+            additionalProperties,
+            schema.getMinProperties(),
+            schema.getMaxProperties()
+        ));
+    }
+
+    private Map<String, CompiledSchema> compileProperties(Schema<?> schema, String pointer, boolean inComposition) {
+        var properties = new LinkedHashMap<String, CompiledSchema>();
+        if (schema.getProperties() != null) {
+            for (var property : schema.getProperties().entrySet()) {
+                properties.put(property.getKey(), compile(
+                    property.getValue(), pointer + "/properties/" + escape(property.getKey()), inComposition
+                ));
+            }
+        }
+        return properties;
+    }
+
+    private List<String> requiredInDirection(Schema<?> schema) {
+        var required = new ArrayList<String>();
+        if (schema.getRequired() != null) {
+            for (var name : schema.getRequired()) {
+                if (!isOptionalInDirection(schema, name)) {
+                    required.add(name);
+                }
+            }
+        }
+        return required;
+    }
+
+    private boolean isOptionalInDirection(Schema<?> schema, String name) {
+        var property = schema.getProperties() != null ? schema.getProperties().get(name) : null;
+        if (property == null) {
+            return false;
+        }
+        return request ? Boolean.TRUE.equals(property.getReadOnly()) : Boolean.TRUE.equals(property.getWriteOnly());
+    }
+
+    private void addArrayValidator(
+        Schema<?> schema,
+        String pointer,
+        boolean inComposition,
+        List<KeywordValidator> validators
+    ) {
+        var items = schema.getItems() != null ? compile(schema.getItems(), pointer + "/items", inComposition) : null;
+        var uniqueItems = Boolean.TRUE.equals(schema.getUniqueItems());
+        if (items == null && schema.getMinItems() == null && schema.getMaxItems() == null && !uniqueItems) {
+            return;
+        }
+
+        validators.add(new ArrayValidator(pointer, items, schema.getMinItems(), schema.getMaxItems(), uniqueItems));
+    }
+
+    private void addCompositionValidator(
+        String keyword,
+        @Nullable List<Schema> schemas,
+        String pointer,
+        List<KeywordValidator> validators
+    ) {
+        if (isEmpty(schemas)) {
+            return;
+        }
+
+        var compiledSchemas = new ArrayList<CompiledSchema>();
+        for (int i = 0; i < schemas.size(); i++) {
+            compiledSchemas.add(compile(schemas.get(i), pointer + "/" + keyword + "/" + i, true));
+        }
+        validators.add(new CompositionValidator(keyword, pointer, compiledSchemas));
+    }
+
+    private static boolean hasComposition(Schema<?> schema) {
+        return !isEmpty(schema.getAllOf()) || !isEmpty(schema.getAnyOf()) || !isEmpty(schema.getOneOf());
+    }
+
+    private static List<JsonNode> toJsonNodes(List<?> values) {
+        var nodes = new ArrayList<JsonNode>();
+        for (var value : values) {
+            if (value == null) {
+                nodes.add(NODES.nullNode());
+            } else if (value instanceof String string) {
+                nodes.add(NODES.textNode(string));
+            } else if (value instanceof Boolean bool) {
+                nodes.add(NODES.booleanNode(bool));
+            } else if (value instanceof Integer || value instanceof Long) {
+                nodes.add(NODES.numberNode(((Number) value).longValue()));
+            } else if (value instanceof BigInteger bigInteger) {
+                nodes.add(NODES.numberNode(bigInteger));
+            } else if (value instanceof BigDecimal bigDecimal) {
+                nodes.add(NODES.numberNode(bigDecimal));
+            } else {
+                // Dates, UUIDs and other values the parser converted can't be compared with the original literals
+                throw new UnsupportedSchemaException();
+            }
+        }
+        return nodes;
+    }
+
+    private static String escape(String propertyName) {
+        return propertyName.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static boolean isEmpty(@Nullable Map<?, ?> map) {
+        return map == null || map.isEmpty();
+    }
+
+    private static boolean isEmpty(@Nullable List<?> list) {
+        return list == null || list.isEmpty();
+    }
+
+    private record SchemaType(@Nullable String name, boolean nullable) {
+    }
+
+    private record Registration(Map<Schema<?>, CompiledSchema> cache, Schema<?> schema) {
+    }
+
+    private static class UnsupportedSchemaException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public UnsupportedSchemaException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import java.util.List;
+
+/**
+ * A schema keyword that a value violates.
+ *
+ * @param keyword         JSON schema keyword, used as the last part of the rule key
+ * @param instancePointer JSON pointer of the value, empty for the root
+ * @param schemaPointer   JSON pointer of the schema relative to the body schema, empty for the root
+ * @param message         message in the wording of the default engine
+ * @param nestedMessages  messages of the subschemas of a failed composition
+ */
+public record SchemaViolation(
+    String keyword,
+    String instancePointer,
+    String schemaPointer,
+    String message,
+    List<String> nestedMessages
+) {
+    /**
+     * Returns the message prefixed with the path of the value, as reported by the default engine.
+     */
+    public String formattedMessage() {
+        var capitalized = message.isEmpty() ? message : Character.toUpperCase(message.charAt(0)) + message.substring(1);
+        return instancePointer.isEmpty() ? capitalized : "[Path '" + instancePointer + "'] " + capitalized;
+    }
+}
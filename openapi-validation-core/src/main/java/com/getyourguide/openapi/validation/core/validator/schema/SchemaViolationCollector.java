@@ -0,0 +1,36 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the violations of a validation. Valid documents, the common case, never allocate the list.
+ */
+public class SchemaViolationCollector {
+    private List<SchemaViolation> violations;
+
+    public void add(String keyword, InstancePath instance, String schemaPointer, String message) {
+        add(keyword, instance, schemaPointer, message, List.of());
+    }
+
+    public void add(
+        String keyword,
+        InstancePath instance,
+        String schemaPointer,
+        String message,
+        List<String> nestedMessages
+    ) {
+        if (violations == null) {
+            violations = new ArrayList<>();
+        }
+        violations.add(new SchemaViolation(keyword, instance.toPointer(), schemaPointer, message, nestedMessages));
+    }
+
+    public boolean isEmpty() {
+        return violations == null;
+    }
+
+    public List<SchemaViolation> getViolations() {
+        return violations != null ? violations : List.of();
+    }
+}
@@ -0,0 +1,62 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * String formats checked by the compiled engine, with the messages of the default engine.
+ *
+ * <p>Formats the default engine knows but that are not implemented here make a schema fall back to the default
+ * engine (see {@link #isKnownButUnsupported(String)}). That includes {@code date}, {@code date-time}, {@code email},
+ * {@code ipv4} and {@code uuid}, whose parsers in the default engine accept and reject values that a reimplementation
+ * would not match exactly. Other formats are ignored by both engines.</p>
+ */
+public enum StringFormat {
+    BYTE("byte") {
+        @Override
+        public String validate(String value) {
+            if (value.length() % 4 != 0) {
+                return String.format("not a valid base64 string (invalid length: %d)", value.length());
+            }
+            var padding = value.endsWith("==") ? 2 : value.endsWith("=") ? 1 : 0;
+            for (int i = 0; i < value.length() - padding; i++) {
+                var c = value.charAt(i);
+                if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '+' || c == '/')) {
+                    return String.format("not a valid base64 string (invalid character '%s' at index %d)", c, i);
+                }
+            }
+            return null;
+        }
+    };
+
+    private static final Set<String> KNOWN_BUT_UNSUPPORTED = Set.of(
+        "date", "date-time", "email", "ipv4", "uuid", "hostname", "ipv6", "uri", "regex", "base64", "json-pointer",
+        "uri-template", "macaddr", "md5", "sha1", "sha256", "sha512", "phone", "utc-millisec"
+    );
+
+    private final String formatName;
+
+    StringFormat(String formatName) {
+        this.formatName = formatName;
+    }
+
+    public String getFormatName() {
+        return formatName;
+    }
+
+    /**
+     * Returns an error message if the value does not have this format, otherwise null.
+     */
+    @Nullable
+    public abstract String validate(String value);
+
+    public static Optional<StringFormat> of(@Nullable String formatName) {
+        return Arrays.stream(values()).filter(format -> format.formatName.equals(formatName)).findFirst();
+    }
+
+    public static boolean isKnownButUnsupported(@Nullable String formatName) {
+        return formatName != null && KNOWN_BUT_UNSUPPORTED.contains(formatName);
+    }
+}
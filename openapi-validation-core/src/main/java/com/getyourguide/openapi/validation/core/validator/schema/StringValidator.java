@@ -0,0 +1,68 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Validates {@code minLength}, {@code maxLength}, {@code pattern} and {@code format} of strings.
+ */
+public class StringValidator implements KeywordValidator {
+    private final String schemaPointer;
+    private final int minLength;
+    private final int maxLength;
+    @Nullable
+    private final Pattern pattern;
+    @Nullable
+    private final StringFormat format;
+
+    public StringValidator(
+        String schemaPointer,
+        @Nullable Integer minLength,
+        @Nullable Integer maxLength,
+        @Nullable Pattern pattern,
+        @Nullable StringFormat format
+    ) {
+        this.schemaPointer = schemaPointer;
+        this.minLength = minLength != null ? minLength : 0;
+        this.maxLength = maxLength != null ? maxLength : Integer.MAX_VALUE;
+        this.pattern = pattern;
+        this.format = format;
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (!instance.isTextual()) {
+            return;
+        }
+
+        var value = instance.textValue();
+        if (minLength > 0 || maxLength < Integer.MAX_VALUE) {
+            var length = value.codePointCount(0, value.length());
+            if (length < minLength) {
+                collector.add("minLength", path, schemaPointer, String.format(
+                    "string \"%s\" is too short (length: %d, required minimum: %d)", value, length, minLength
+                ));
+            }
+            if (length > maxLength) {
+                collector.add("maxLength", path, schemaPointer, String.format(
+                    "string \"%s\" is too long (length: %d, maximum allowed: %d)", value, length, maxLength
+                ));
+            }
+        }
+
+        // Like ECMA 262 regexes in JSON schema, the pattern is not anchored
+        if (pattern != null && !pattern.matcher(value).find()) {
+            collector.add("pattern", path, schemaPointer, String.format(
+                "ECMA 262 regex \"%s\" does not match input string \"%s\"", pattern.pattern(), value
+            ));
+        }
+
+        if (format != null) {
+            var error = format.validate(value);
+            if (error != null) {
+                collector.add("format." + format.getFormatName(), path, schemaPointer, error);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Validates the {@code type} keyword.
+ */
+public class TypeValidator implements KeywordValidator {
+    private final String type;
+    private final String schemaPointer;
+    private final String allowed;
+
+    public TypeValidator(String type, boolean nullable, String schemaPointer) {
+        this.type = type;
+        this.schemaPointer = schemaPointer;
+        // Allowed types are listed alphabetically, like the default engine does
+        this.allowed = !nullable ? "[\"" + type + "\"]"
+            : type.compareTo("null") < 0 ? "[\"" + type + "\",\"null\"]" : "[\"null\",\"" + type + "\"]";
+    }
+
+    @Override
+    public void validate(JsonNode instance, InstancePath path, SchemaViolationCollector collector) {
+        if (!matches(type, instance)) {
+            collector.add("type", path, schemaPointer, String.format(
+                "instance type (%s) does not match any allowed primitive type (allowed: %s)",
+                typeOf(instance), allowed
+            ));
+        }
+    }
+
+    public static boolean matches(String type, JsonNode instance) {
+        return switch (type) {
+            case "object" -> instance.isObject();
+            case "array" -> instance.isArray();
+            case "string" -> instance.isTextual();
+            case "integer" -> instance.isIntegralNumber();
+            case "number" -> instance.isNumber();
+            case "boolean" -> instance.isBoolean();
+            default -> true;
+        };
+    }
+
+    /**
+     * Returns the JSON schema type name of a value.
+     */
+    public static String typeOf(JsonNode instance) {
+        if (instance.isIntegralNumber()) {
+            return "integer";
+        }
+
+        return switch (instance.getNodeType()) {
+            case OBJECT, POJO -> "object";
+            case ARRAY -> "array";
+            case STRING, BINARY -> "string";
+            case NUMBER -> "number";
+            case BOOLEAN -> "boolean";
+            default -> "null";
+        };
+    }
+}
@@ -0,0 +1,145 @@
+package com.getyourguide.openapi.validation.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.model.ValidatorConfigurationBuilder;
+import com.getyourguide.openapi.validation.core.reload.SpecFileWatcher;
+import com.getyourguide.openapi.validation.core.validator.MultipleSpecOpenApiInteractionValidatorWrapper;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class OpenApiInteractionValidatorFactoryTest {
+    private final MetricsReporter metricsReporter = mock();
+    private final OpenApiInteractionValidatorFactory factory = new OpenApiInteractionValidatorFactory(metricsReporter);
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void testMultipleSpecsKeepPatternOrder() throws IOException {
+        var specA = writeSpec("a.yaml", "/a/items");
+        var specB = writeSpec("b.yaml", "/b/items");
+        var specCatchAll = writeSpec("catch-all.yaml", "/other");
+        var configuration = new ValidatorConfigurationBuilder()
+            .specificationPath(Pattern.compile("/a/.*"), specA)
+            .specificationPath(Pattern.compile("/b/.*"), specB)
+            .specificationPath(Pattern.compile(".*"), specCatchAll)
+            .specLoadingParallelism(3)
+            .build();
+
+        var validator = factory.build("openapi.yaml", configuration);
+
+        assertInstanceOf(MultipleSpecOpenApiInteractionValidatorWrapper.class, validator);
+        assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/a/items").build()).hasErrors());
+        assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/b/items").build()).hasErrors());
+        assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/other").build()).hasErrors());
+        assertTrue(validator.validateRequest(SimpleRequest.Builder.get("/a/other").build()).hasErrors());
+        verify(metricsReporter).reportSpecLoaded(eq(specA), anyLong());
+        verify(metricsReporter).reportSpecLoaded(eq(specB), anyLong());
+        verify(metricsReporter).reportSpecLoaded(eq(specCatchAll), anyLong());
+    }
+
+    @Test
+    public void testMissingSpecsAreSkipped() throws IOException {
+        var specA = writeSpec("a.yaml", "/a/items");
+        var configuration = new ValidatorConfigurationBuilder()
+            .specificationPath(Pattern.compile("/missing/.*"), tempDir.resolve("missing.yaml").toString())
+            .specificationPath(Pattern.compile("/a/.*"), specA)
+            .build();
+
+        var validator = factory.build("openapi.yaml", configuration);
+
+        assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/a/items").build()).hasErrors());
+        var report = validator.validateRequest(SimpleRequest.Builder.get("/missing/items").build());
+        assertEquals(
+            MultipleSpecOpenApiInteractionValidatorWrapper.MESSAGE_KEY_NO_VALIDATOR_FOUND,
+            report.getMessages().get(0).getKey()
+        );
+        verify(metricsReporter, times(1)).reportSpecLoaded(anyString(), anyLong());
+    }
+
+    @Test
+    public void testSingleSpecReportsLoadTime() throws IOException {
+        var spec = writeSpec("openapi.yaml", "/items");
+
+        var validator = factory.build(spec, new ValidatorConfigurationBuilder().build());
+
+        assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/items").build()).hasErrors());
+        verify(metricsReporter).reportSpecLoaded(eq(spec), anyLong());
+    }
+
+    @Test
+    public void testMissingSingleSpecDisablesValidation() {
+        var validator = factory.build(
+            tempDir.resolve("missing.yaml").toString(),
+            new ValidatorConfigurationBuilder().build()
+        );
+
+        assertNull(validator);
+        verify(metricsReporter, never()).reportSpecLoaded(anyString(), anyLong());
+    }
+
+    @Test
+    public void testChangedSpecIsReloaded() throws IOException {
+        var spec = writeSpec("openapi.yaml", "/items");
+        try (var specFileWatcher = new SpecFileWatcher(50)) {
+            var validator = new OpenApiInteractionValidatorFactory(metricsReporter, specFileWatcher)
+                .build(spec, new ValidatorConfigurationBuilder().build());
+            assertTrue(validator.validateRequest(SimpleRequest.Builder.get("/products").build()).hasErrors());
+
+            writeSpec("openapi.yaml", "/products");
+
+            verify(metricsReporter, timeout(10_000)).reportSpecReloaded(eq(spec), eq(true), anyLong());
+            assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/products").build()).hasErrors());
+        }
+    }
+
+    @Test
+    public void testInvalidSpecChangeKeepsPreviousValidator() throws IOException {
+        var spec = writeSpec("openapi.yaml", "/items");
+        try (var specFileWatcher = new SpecFileWatcher(50)) {
+            var validator = new OpenApiInteractionValidatorFactory(metricsReporter, specFileWatcher)
+                .build(spec, new ValidatorConfigurationBuilder().build());
+
+            Files.writeString(Path.of(spec), "openapi: [");
+
+            verify(metricsReporter, timeout(10_000)).reportSpecReloaded(eq(spec), eq(false), anyLong());
+            assertFalse(validator.validateRequest(SimpleRequest.Builder.get("/items").build()).hasErrors());
+        }
+    }
+
+    private String writeSpec(String fileName, String path) throws IOException {
+        var file = tempDir.resolve(fileName);
+        Files.writeString(file, """
+            openapi: 3.0.1
+            info:
+              title: Test
+              version: 1.0.0
+            paths:
+              %s:
+                get:
+                  responses:
+                    '200':
+                      description: OK
+            """.formatted(path));
+        return file.toString();
+    }
+}
@@ -1,25 +1,43 @@
 package com.getyourguide.openapi.validation.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.atlassian.oai.validator.model.ByteArrayBody;
 import com.atlassian.oai.validator.model.SimpleRequest;
 import com.atlassian.oai.validator.report.ValidationReport;
 import com.getyourguide.openapi.validation.api.log.LogLevel;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
 import com.getyourguide.openapi.validation.core.exclusions.InternalViolationExclusions;
 import com.getyourguide.openapi.validation.core.mapper.ValidationReportToOpenApiViolationsMapper;
 import com.getyourguide.openapi.validation.core.validator.OpenApiInteractionValidatorWrapper;
+import com.getyourguide.openapi.validation.core.validator.StreamedBody;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -30,6 +48,7 @@ import org.mockito.Mockito;
 public class OpenApiRequestValidatorTest {
 
     private Executor executor;
+    private MetricsReporter metricsReporter;
     private OpenApiInteractionValidatorWrapper validator;
     private ValidationReportToOpenApiViolationsMapper mapper;
 
@@ -39,6 +58,7 @@ public class OpenApiRequestValidatorTest {
     @BeforeEach
     public void setup() {
         executor = mock();
+        metricsReporter = mock();
         validator = mock();
         mapper = mock(ValidationReportToOpenApiViolationsMapper.class);
         when(mapper.map(any(), any(), any(), any(), any())).thenReturn(List.of());
@@ -46,7 +66,7 @@ public class OpenApiRequestValidatorTest {
 
         openApiRequestValidator = new OpenApiRequestValidator(
             executor,
-            mock(),
+            metricsReporter,
             validator,
             mapper,
             internalViolationExclusions,
@@ -62,6 +82,91 @@ public class OpenApiRequestValidatorTest {
         openApiRequestValidator.validateRequestObjectAsync(mock(), null, null, mock());
     }
 
+    @Test
+    @DisplayName("When executor rejects execution then it should report the dropped validation")
+    public void testWhenExecutorRejectsExecutionThenItShouldReportDroppedValidation() {
+        Mockito.doThrow(new RejectedExecutionException()).when(executor).execute(any());
+
+        openApiRequestValidator.validateResponseObjectAsync(mock(), mock(), null, mock());
+
+        verify(metricsReporter).reportValidationTaskDropped();
+        verify(metricsReporter, never()).reportValidationTaskSubmitted();
+    }
+
+    @Test
+    @DisplayName("When validation is executed async then it should report submitted and executed validation")
+    public void testWhenValidationIsExecutedAsyncThenItShouldReportSubmittedAndExecuted() {
+        Mockito.doAnswer(invocation -> {
+            invocation.getArgument(0, Runnable.class).run();
+            return null;
+        }).when(executor).execute(any());
+
+        openApiRequestValidator.validateRequestObjectAsync(createRequest(), null, null, mock());
+
+        verify(metricsReporter).reportValidationTaskSubmitted();
+        verify(metricsReporter).reportValidationTaskExecuted(anyLong(), anyLong());
+        verify(metricsReporter, never()).reportValidationTaskDropped();
+    }
+
+    @Nested
+    @DisplayName("background initialization")
+    public class BackgroundInitializationTests {
+        private final MetricsReporter backgroundMetricsReporter = mock();
+        private final List<Runnable> initializationTasks = new ArrayList<>();
+
+        @Test
+        @DisplayName("When validator is built in background then it should become ready once built")
+        public void testWhenValidatorIsBuiltInBackgroundThenItShouldBecomeReadyOnceBuilt() {
+            var backgroundValidator = buildBackgroundValidator(() -> validator);
+
+            assertFalse(backgroundValidator.isReady());
+            verify(backgroundMetricsReporter, never()).reportStartup(anyBoolean(), anyDouble(), anyInt(), anyInt());
+
+            initializationTasks.forEach(Runnable::run);
+
+            assertTrue(backgroundValidator.isReady());
+            verify(backgroundMetricsReporter).reportStartup(eq(true), anyDouble(), anyInt(), anyInt());
+        }
+
+        @Test
+        @DisplayName("When validator is not ready then validation should not use it")
+        public void testWhenValidatorIsNotReadyThenValidationShouldNotUseIt() {
+            var backgroundValidator = buildBackgroundValidator(() -> validator);
+
+            var violations = backgroundValidator.validateRequestObject(createRequest(), null);
+
+            assertEquals(List.of(), violations);
+            verify(validator, never()).validateRequest(any());
+        }
+
+        @Test
+        @DisplayName("When building the validator fails then it should stay not ready")
+        public void testWhenBuildingTheValidatorFailsThenItShouldStayNotReady() {
+            var backgroundValidator = buildBackgroundValidator(() -> {
+                throw new IllegalStateException("spec could not be parsed");
+            });
+
+            initializationTasks.forEach(Runnable::run);
+
+            assertFalse(backgroundValidator.isReady());
+            verify(backgroundMetricsReporter).reportStartup(eq(false), anyDouble(), anyInt(), anyInt());
+        }
+
+        private OpenApiRequestValidator buildBackgroundValidator(
+            Supplier<OpenApiInteractionValidatorWrapper> validatorSupplier
+        ) {
+            return new OpenApiRequestValidator(
+                executor,
+                backgroundMetricsReporter,
+                validatorSupplier,
+                initializationTasks::add,
+                mapper,
+                internalViolationExclusions,
+                mock()
+            );
+        }
+    }
+
     @Nested
     @DisplayName("validateRequestObject")
     public class ValidateRequestObjectTests {
@@ -81,6 +186,39 @@ public class OpenApiRequestValidatorTest {
             verifyQueryParamValueEquals(simpleRequestArgumentCaptor, "spaces", "this is a sparta");
         }
 
+        @Test
+        @DisplayName("When body is passed as bytes then validation should happen with body as bytes")
+        public void testWhenBodyIsPassedAsBytesThenValidationShouldHappenWithBodyAsBytes() throws Exception {
+            var body = "{\"field\": \"\u00e9\"}".getBytes(StandardCharsets.UTF_8);
+
+            openApiRequestValidator.validateRequestObject(createRequest(), null, body, StandardCharsets.UTF_8);
+
+            var simpleRequestArgumentCaptor = ArgumentCaptor.forClass(SimpleRequest.class);
+            var streamedBodyArgumentCaptor = ArgumentCaptor.forClass(StreamedBody.class);
+            verify(validator)
+                .validateRequest(simpleRequestArgumentCaptor.capture(), streamedBodyArgumentCaptor.capture());
+            var requestBody = simpleRequestArgumentCaptor.getValue().getRequestBody().orElseThrow();
+            assertInstanceOf(ByteArrayBody.class, requestBody);
+            assertEquals("\u00e9", requestBody.toJsonNode().get("field").asText());
+            assertSame(body, streamedBodyArgumentCaptor.getValue().content());
+            assertEquals(StandardCharsets.UTF_8, streamedBodyArgumentCaptor.getValue().charset());
+        }
+
+        @Test
+        @DisplayName("When body bytes are passed then body is decoded for violations only")
+        public void testWhenBodyBytesArePassedThenBodyIsDecodedForViolationsOnly() {
+            var body = "{\"field\": 1}".getBytes(StandardCharsets.ISO_8859_1);
+            var validationReport = mock(ValidationReport.class);
+            when(validationReport.getMessages()).thenReturn(List.of(), List.of(mock(ValidationReport.Message.class)));
+            when(validator.validateRequest(any(), any())).thenReturn(validationReport);
+
+            openApiRequestValidator.validateRequestObject(createRequest(), null, body, StandardCharsets.ISO_8859_1);
+            openApiRequestValidator.validateRequestObject(createRequest(), null, body, StandardCharsets.ISO_8859_1);
+
+            verify(mapper).map(any(), any(), any(), eq(Direction.REQUEST), isNull());
+            verify(mapper).map(any(), any(), any(), eq(Direction.REQUEST), eq("{\"field\": 1}"));
+        }
+
         @Test
         @DisplayName("When violation is excluded then it should not be returned")
         public void testWhenViolationIsExcludedThenItShouldNotBeReturned() {
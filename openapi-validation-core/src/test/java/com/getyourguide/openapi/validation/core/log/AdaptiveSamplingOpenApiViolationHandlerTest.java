@@ -0,0 +1,52 @@
+package com.getyourguide.openapi.validation.core.log;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.getyourguide.openapi.validation.api.log.LogLevel;
+import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
+import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSampleRates;
+import java.net.URI;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveSamplingOpenApiViolationHandlerTest {
+    private static final RequestMetaData REQUEST =
+        new RequestMetaData("GET", URI.create("https://api.example.com/users/1"), Collections.emptyMap());
+
+    private final OpenApiViolationHandler delegate = mock();
+    private final AdaptiveSampleRates sampleRates = mock();
+    private final AdaptiveSamplingOpenApiViolationHandler handler =
+        new AdaptiveSamplingOpenApiViolationHandler(delegate, sampleRates);
+
+    @Test
+    public void testRecordsViolationAndPassesItOn() {
+        var violation = buildViolation(LogLevel.WARN);
+
+        handler.onOpenApiViolation(violation);
+
+        verify(sampleRates).recordViolation(REQUEST);
+        verify(delegate).onOpenApiViolation(violation);
+    }
+
+    @Test
+    public void testDoesNotRecordIgnoredViolation() {
+        var violation = buildViolation(LogLevel.IGNORE);
+
+        handler.onOpenApiViolation(violation);
+
+        verify(sampleRates, never()).recordViolation(any());
+        verify(delegate).onOpenApiViolation(violation);
+    }
+
+    private static OpenApiViolation buildViolation(LogLevel level) {
+        return OpenApiViolation.builder()
+            .level(level)
+            .requestMetaData(REQUEST)
+            .build();
+    }
+}
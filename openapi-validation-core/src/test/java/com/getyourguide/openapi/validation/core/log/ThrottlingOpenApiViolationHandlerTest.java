@@ -1,5 +1,7 @@
 package com.getyourguide.openapi.validation.core.log;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -12,19 +14,25 @@ import com.getyourguide.openapi.validation.api.model.Direction;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class ThrottlingOpenApiViolationHandlerTest {
     private static final Direction DIRECTION = Direction.REQUEST;
     private static final OpenApiViolationHandler delegate = mock();
 
+    private final AtomicLong nanoTime = new AtomicLong();
     private ThrottlingOpenApiViolationHandler handler;
 
     @BeforeEach
     public void beforeEach() {
-        handler = new ThrottlingOpenApiViolationHandler(delegate, 10);
+        clearInvocations(delegate);
+        handler = new ThrottlingOpenApiViolationHandler(delegate, 10, 16, nanoTime::get);
     }
 
     @Test
@@ -72,6 +80,110 @@ public class ThrottlingOpenApiViolationHandlerTest {
         );
     }
 
+    @Test
+    public void testNotThrottledAfterWaitTimeAndReportsSuppressedCount() {
+        var violation = buildViolation(DIRECTION, Request.Method.GET, "/path", 200);
+        handler.onOpenApiViolation(violation);
+        handler.onOpenApiViolation(violation);
+        handler.onOpenApiViolation(violation);
+        clearInvocations(delegate);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        handler.onOpenApiViolation(violation);
+
+        var captor = ArgumentCaptor.forClass(OpenApiViolation.class);
+        verify(delegate).onOpenApiViolation(captor.capture());
+        assertEquals(2, captor.getValue().getSuppressedViolations());
+        assertEquals(violation.getSchema(), captor.getValue().getSchema());
+    }
+
+    @Test
+    public void testCollidingKeysStayThrottled() {
+        // "Aa" and "BB" have the same hash code
+        var first = buildViolation(DIRECTION, Request.Method.GET, "/Aa", 200);
+        var second = buildViolation(DIRECTION, Request.Method.GET, "/BB", 200);
+        handler.onOpenApiViolation(first);
+        handler.onOpenApiViolation(second);
+
+        for (int i = 0; i < 10; i++) {
+            assertThrottled(true, first);
+            assertThrottled(true, second);
+        }
+    }
+
+    @Test
+    public void testAllKeysStayThrottledUpToMaxEntries() {
+        for (int i = 0; i < 16; i++) {
+            handler.onOpenApiViolation(buildViolation(DIRECTION, Request.Method.GET, "/path/" + i, 200));
+        }
+        clearInvocations(delegate);
+
+        for (int i = 0; i < 16; i++) {
+            handler.onOpenApiViolation(buildViolation(DIRECTION, Request.Method.GET, "/path/" + i, 200));
+        }
+        verify(delegate, never()).onOpenApiViolation(any());
+    }
+
+    @Test
+    public void testOldestKeyIsEvictedWhenFull() {
+        for (int i = 0; i < 16; i++) {
+            handler.onOpenApiViolation(buildViolation(DIRECTION, Request.Method.GET, "/path/" + i, 200));
+            nanoTime.incrementAndGet();
+        }
+
+        assertThrottled(false, buildViolation(DIRECTION, Request.Method.GET, "/path/16", 200));
+
+        assertThrottled(true, buildViolation(DIRECTION, Request.Method.GET, "/path/1", 200));
+        assertThrottled(true, buildViolation(DIRECTION, Request.Method.GET, "/path/15", 200));
+        assertThrottled(false, buildViolation(DIRECTION, Request.Method.GET, "/path/0", 200));
+    }
+
+    @Test
+    public void testExpiredKeysAreEvictedBeforeKeysWithSuppressedViolations() {
+        var throttled = buildViolation(DIRECTION, Request.Method.GET, "/throttled", 200);
+        handler.onOpenApiViolation(throttled);
+        handler.onOpenApiViolation(throttled);
+        for (int i = 0; i < 15; i++) {
+            nanoTime.incrementAndGet();
+            handler.onOpenApiViolation(buildViolation(DIRECTION, Request.Method.GET, "/path/" + i, 200));
+        }
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        handler.onOpenApiViolation(buildViolation(DIRECTION, Request.Method.GET, "/new", 200));
+        clearInvocations(delegate);
+        handler.onOpenApiViolation(throttled);
+
+        var captor = ArgumentCaptor.forClass(OpenApiViolation.class);
+        verify(delegate).onOpenApiViolation(captor.capture());
+        assertEquals(1, captor.getValue().getSuppressedViolations());
+    }
+
+    @Test
+    public void testSuppressedCountIsNotLostUnderConcurrency() throws InterruptedException {
+        var violation = buildViolation(DIRECTION, Request.Method.GET, "/path", 200);
+        handler.onOpenApiViolation(violation);
+
+        var threads = new ArrayList<Thread>();
+        for (int i = 0; i < 8; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    handler.onOpenApiViolation(violation);
+                }
+            }));
+        }
+        for (var thread : threads) {
+            thread.join();
+        }
+        clearInvocations(delegate);
+
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        handler.onOpenApiViolation(violation);
+
+        var captor = ArgumentCaptor.forClass(OpenApiViolation.class);
+        verify(delegate).onOpenApiViolation(captor.capture());
+        assertEquals(8000, captor.getValue().getSuppressedViolations());
+    }
+
     private void assertThrottled(boolean expectThrottled, OpenApiViolation violation) {
         clearInvocations(delegate);
         handler.onOpenApiViolation(violation);
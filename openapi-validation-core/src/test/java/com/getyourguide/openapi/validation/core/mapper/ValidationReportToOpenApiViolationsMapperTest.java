@@ -2,6 +2,9 @@ package com.getyourguide.openapi.validation.core.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.atlassian.oai.validator.report.ValidationReport;
@@ -44,6 +47,22 @@ class ValidationReportToOpenApiViolationsMapperTest {
             openApiViolation.getLogMessage());
     }
 
+    @Test
+    public void testLogMessageIsBuiltLazilyAndOnlyOnce() {
+        var request = mock(RequestMetaData.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getUri()).thenReturn(URI.create("https://api.example.com/index"));
+        when(request.getHeaders()).thenReturn(new HashMap<>());
+        var validationReport = mockValidationReport("parameterName");
+
+        var violations = mapper.map(validationReport, request, null, Direction.REQUEST, null);
+
+        verify(request, never()).getUri();
+        var openApiViolation = violations.get(0);
+        assertEquals(openApiViolation.getLogMessage(), openApiViolation.getLogMessage());
+        verify(request, times(1)).getUri();
+    }
+
     private static RequestMetaData mockRequestMetaData() {
         return new RequestMetaData("GET", URI.create("https://api.example.com/index"), new HashMap<>());
     }
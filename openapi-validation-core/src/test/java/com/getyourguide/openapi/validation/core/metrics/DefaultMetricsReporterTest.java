@@ -0,0 +1,126 @@
+package com.getyourguide.openapi.validation.core.metrics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.getyourguide.openapi.validation.api.metrics.MetricTag;
+import com.getyourguide.openapi.validation.api.metrics.NullMetricTagProvider;
+import com.getyourguide.openapi.validation.api.metrics.client.MetricsClient;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class DefaultMetricsReporterTest {
+    private static final MetricTag TAG = new MetricTag("service", "test");
+
+    private final MetricsClient metricsClient = mock();
+    private final DefaultMetricsReporter metricsReporter = new DefaultMetricsReporter(
+        metricsClient,
+        new NullMetricTagProvider(),
+        DefaultMetricsReporter.Configuration.builder()
+            .metricName("openapi")
+            .metricAdditionalTags(List.of(TAG))
+            .flushIntervalSeconds(0)
+            .build()
+    );
+
+    @Test
+    public void testCountsAreOnlySentOnFlush() {
+        for (int i = 0; i < 3; i++) {
+            metricsReporter.reportValidationTaskSubmitted();
+            metricsReporter.reportOperationCacheHit();
+            metricsReporter.reportRateLimitAdmitted();
+        }
+        metricsReporter.reportValidationTaskDropped();
+        metricsReporter.reportOperationCacheMiss();
+        metricsReporter.reportRateLimitDenied();
+
+        verifyNoInteractions(metricsClient);
+
+        metricsReporter.flush();
+
+        verify(metricsClient).count("openapi.executor.submitted", 3, TAG);
+        verify(metricsClient).count("openapi.executor.dropped", 1, TAG);
+        verify(metricsClient).count("openapi.operation_cache.hit", 3, TAG);
+        verify(metricsClient).count("openapi.operation_cache.miss", 1, TAG);
+        verify(metricsClient).count("openapi.rate_limit.admitted", 3, TAG);
+        verify(metricsClient).count("openapi.rate_limit.denied", 1, TAG);
+        verify(metricsClient, never()).count(eq("openapi.executor.executed"), anyLong(), any());
+    }
+
+    @Test
+    public void testCountsAreResetAfterFlush() {
+        metricsReporter.reportValidationTaskDropped();
+        metricsReporter.flush();
+        metricsReporter.flush();
+
+        verify(metricsClient).count("openapi.executor.dropped", 1, TAG);
+    }
+
+    @Test
+    public void testExecutorStateIsSampledOnFlush() {
+        metricsReporter.registerExecutor(() -> 5, () -> 2);
+
+        metricsReporter.flush();
+
+        verify(metricsClient).gauge("openapi.executor.queue_size", 5, TAG);
+        verify(metricsClient).gauge("openapi.executor.active", 2, TAG);
+    }
+
+    @Test
+    public void testCloseFlushesRemainingCounts() {
+        metricsReporter.reportValidationTaskSubmitted();
+
+        metricsReporter.close();
+
+        verify(metricsClient).count("openapi.executor.submitted", 1, TAG);
+        verify(metricsClient, never()).gauge(anyString(), anyDouble(), any());
+    }
+
+    @Test
+    public void testTaskTimingsAreAggregatedUntilFlush() {
+        metricsReporter.reportValidationTaskExecuted(2, 10);
+        metricsReporter.reportValidationTaskExecuted(4, 30);
+
+        verifyNoInteractions(metricsClient);
+
+        metricsReporter.flush();
+
+        verify(metricsClient).count("openapi.executor.executed", 2, TAG);
+        verify(metricsClient).recordExecutionTime("openapi.executor.queue_time", 3, TAG);
+        verify(metricsClient).gauge("openapi.executor.queue_time.max", 4, TAG);
+        verify(metricsClient).recordExecutionTime("openapi.executor.execution_time", 20, TAG);
+        verify(metricsClient).gauge("openapi.executor.execution_time.max", 30, TAG);
+
+        metricsReporter.flush();
+
+        verify(metricsClient, times(2)).recordExecutionTime(anyString(), anyLong(), any());
+    }
+
+    @Test
+    public void testClosedReporterIsNotFlushedByTheSharedScheduler() throws InterruptedException {
+        var scheduledMetricsClient = mock(MetricsClient.class);
+        var scheduledReporter = new DefaultMetricsReporter(
+            scheduledMetricsClient,
+            new NullMetricTagProvider(),
+            DefaultMetricsReporter.Configuration.builder().metricName("openapi").flushIntervalSeconds(1).build()
+        );
+        scheduledReporter.reportValidationTaskSubmitted();
+
+        verify(scheduledMetricsClient, timeout(5_000)).count("openapi.executor.submitted", 1);
+
+        scheduledReporter.close();
+        scheduledReporter.reportValidationTaskSubmitted();
+        Thread.sleep(1_500);
+
+        verify(scheduledMetricsClient, times(1)).count(eq("openapi.executor.submitted"), anyLong());
+    }
+}
@@ -0,0 +1,66 @@
+package com.getyourguide.openapi.validation.core.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class QueryStringParserTest {
+
+    @Test
+    public void testParsesParametersInOrder() {
+        assertEquals(
+            List.of(entry("a", "1"), entry("b", "2"), entry("a", "3")),
+            parse("a=1&b=2&a=3")
+        );
+    }
+
+    @Test
+    public void testDecodesOnce() {
+        assertEquals(
+            List.of(
+                entry("ids", "1,2,3"),
+                entry("text", "e=mc2 & more"),
+                entry("spaces", "this is a sparta"),
+                entry("percent", "%25")
+            ),
+            parse("ids=1%2C2%2C3&text=e%3Dmc2%20%26%20more&spaces=this+is+a+sparta&percent=%2525")
+        );
+    }
+
+    @Test
+    public void testDecodesMultiByteCharacters() {
+        assertEquals(List.of(entry("city", "Zürich €"), entry("na me", "x")), parse("city=Z%C3%BCrich+%E2%82%AC&na%20me=x"));
+    }
+
+    @Test
+    public void testKeepsMalformedEscapes() {
+        assertEquals(List.of(entry("a", "100%"), entry("b", "%zz"), entry("c", "%2")), parse("a=100%&b=%zz&c=%2"));
+    }
+
+    @Test
+    public void testHandlesMissingValuesAndEmptyParameters() {
+        assertEquals(
+            List.of(entry("flag", null), entry("empty", ""), entry("last", "x=y")),
+            parse("&flag&empty=&=value&&last=x=y")
+        );
+    }
+
+    @Test
+    public void testIgnoresMissingOrEmptyQuery() {
+        assertEquals(List.of(), parse(null));
+        assertEquals(List.of(), parse(""));
+    }
+
+    private static List<List<String>> parse(String rawQuery) {
+        var result = new ArrayList<List<String>>();
+        QueryStringParser.parse(rawQuery, (name, value) -> result.add(entry(name, value)));
+        return result;
+    }
+
+    private static List<String> entry(String name, String value) {
+        return Arrays.asList(name, value);
+    }
+}
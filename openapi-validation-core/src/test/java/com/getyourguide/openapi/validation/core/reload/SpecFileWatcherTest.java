@@ -0,0 +1,73 @@
+package com.getyourguide.openapi.validation.core.reload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class SpecFileWatcherTest {
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final SpecFileWatcher watcher = new SpecFileWatcher(DEBOUNCE_MILLIS);
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        watcher.close();
+    }
+
+    @Test
+    public void testNotifiesOnceForBurstOfChanges() throws Exception {
+        var file = Files.writeString(tempDir.resolve("openapi.yaml"), "v1");
+        var notifications = new AtomicInteger();
+        var notified = new CountDownLatch(1);
+        assertTrue(watcher.watch(file, () -> {
+            notifications.incrementAndGet();
+            notified.countDown();
+        }));
+
+        for (int i = 2; i <= 5; i++) {
+            Files.writeString(file, "v" + i);
+        }
+
+        assertTrue(notified.await(10, TimeUnit.SECONDS));
+        Thread.sleep(DEBOUNCE_MILLIS * 3);
+        assertEquals(1, notifications.get());
+    }
+
+    @Test
+    public void testIgnoresOtherFilesInDirectory() throws Exception {
+        var file = Files.writeString(tempDir.resolve("openapi.yaml"), "v1");
+        var notified = new CountDownLatch(1);
+        watcher.watch(file, notified::countDown);
+
+        Files.writeString(tempDir.resolve("other.yaml"), "other");
+
+        assertFalse(notified.await(DEBOUNCE_MILLIS * 3, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testKeepsNotifyingWhenListenerFails() throws Exception {
+        var file = Files.writeString(tempDir.resolve("openapi.yaml"), "v1");
+        var notified = new CountDownLatch(1);
+        watcher.watch(file, () -> {
+            throw new IllegalStateException("reload failed");
+        });
+        watcher.watch(file, notified::countDown);
+
+        Files.writeString(file, "v2");
+
+        assertTrue(notified.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,88 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.atlassian.oai.validator.model.Request;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+public class ApiOperationCacheTest {
+    private final Operation getUsers = new Operation().operationId("getUsers");
+    private final Operation postUsers = new Operation().operationId("postUsers");
+    private final Operation getUser = new Operation().operationId("getUser");
+    private final OpenAPI api = new OpenAPI().paths(new Paths()
+        .addPathItem("/users", new PathItem().get(getUsers).post(postUsers))
+        .addPathItem("/users/{id}", new PathItem().get(getUser))
+        .addPathItem("/a", new PathItem().get(new Operation()))
+        .addPathItem("/b", new PathItem().get(new Operation()))
+        .addPathItem("/c", new PathItem().get(new Operation()))
+    );
+    private final MetricsReporter metricsReporter = mock();
+
+    @Test
+    public void testTemplatedPathsShareOnePlan() {
+        var cache = new ApiOperationCache(api, metricsReporter);
+
+        for (int id = 0; id < 100; id++) {
+            var apiOperation = cache.findApiOperation("/users/" + id, Request.Method.GET).getApiOperation();
+            assertEquals("/users/{id}", apiOperation.getApiPath().original());
+            assertEquals("/users/" + id, apiOperation.getRequestPath().original());
+            assertSame(getUser, apiOperation.getOperation());
+            assertEquals(
+                Map.of("id", Optional.of(String.valueOf(id))),
+                apiOperation.getApiPath().paramValues(1, apiOperation.getRequestPath().part(1))
+            );
+        }
+
+        assertEquals(1, cache.size());
+        verify(metricsReporter, times(1)).reportOperationCacheMiss();
+        verify(metricsReporter, times(99)).reportOperationCacheHit();
+    }
+
+    @Test
+    public void testDistinguishesMethods() {
+        var cache = new ApiOperationCache(api, metricsReporter);
+
+        assertSame(getUsers, cache.findApiOperation("/users", Request.Method.GET).getApiOperation().getOperation());
+        assertSame(postUsers, cache.findApiOperation("/users", Request.Method.POST).getApiOperation().getOperation());
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testMissingPathsAndMethodsAreNotCached() {
+        var cache = new ApiOperationCache(api, metricsReporter);
+
+        assertFalse(cache.findApiOperation("/unknown", Request.Method.GET).isPathFound());
+        assertFalse(cache.findApiOperation("/users", Request.Method.DELETE).isOperationAllowed());
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedPlanWhenFull() {
+        var cache = new ApiOperationCache(api, metricsReporter, 2);
+
+        cache.findApiOperation("/a", Request.Method.GET);
+        cache.findApiOperation("/b", Request.Method.GET);
+        cache.findApiOperation("/a", Request.Method.GET);
+        cache.findApiOperation("/c", Request.Method.GET); // evicts /b
+        cache.findApiOperation("/a", Request.Method.GET);
+        cache.findApiOperation("/b", Request.Method.GET); // evicts /c
+
+        assertEquals(2, cache.size());
+        verify(metricsReporter, times(4)).reportOperationCacheMiss();
+        verify(metricsReporter, times(2)).reportOperationCacheHit();
+    }
+}
@@ -0,0 +1,75 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.Test;
+
+public class PathPatternRoutingTableTest {
+
+    @Test
+    public void testExtractLiteralPrefix() {
+        assertLiteralPrefix("/v1/.*", "/v1/", false);
+        assertLiteralPrefix("^/v1/users/.*", "/v1/users/", false);
+        assertLiteralPrefix("/v1/users", "/v1/users", true);
+        assertLiteralPrefix("/v1/users$", "/v1/users", true);
+        assertLiteralPrefix("/v1/users/?", "/v1/users", false);
+        assertLiteralPrefix("/v1/items+", "/v1/item", false);
+        assertLiteralPrefix("/v1\\.0/.*", "/v1.0/", false);
+        assertLiteralPrefix("/v1/\\d+", "/v1/", false);
+        assertLiteralPrefix("/(v1|v2)/.*", "", false);
+        assertLiteralPrefix(".*", "", false);
+    }
+
+    @Test
+    public void testCaseInsensitivePatternHasNoLiteralPrefix() {
+        var literalPrefix =
+            PathPatternRoutingTable.extractLiteralPrefix(Pattern.compile("/v1/.*", Pattern.CASE_INSENSITIVE));
+
+        assertEquals("", literalPrefix.prefix());
+    }
+
+    @Test
+    public void testFirstMatchingPatternWins() {
+        var table = new PathPatternRoutingTable<>(List.of(
+            Pair.of(Pattern.compile(".*/internal"), "internal"),
+            Pair.of(Pattern.compile("/v1/users/.*"), "users"),
+            Pair.of(Pattern.compile("/v1/.*"), "v1"),
+            Pair.of(Pattern.compile("/v1/users/me"), "me"),
+            Pair.of(Pattern.compile("/v2/.*", Pattern.CASE_INSENSITIVE), "v2"),
+            Pair.of(Pattern.compile("/.*"), "catch-all")
+        ));
+
+        assertEquals("internal", table.route("/v1/users/internal"));
+        assertEquals("users", table.route("/v1/users/me"));
+        assertEquals("users", table.route("/v1/users/123"));
+        assertEquals("v1", table.route("/v1/items"));
+        assertEquals("v2", table.route("/V2/items"));
+        assertEquals("catch-all", table.route("/v3/items"));
+        assertEquals("catch-all", table.route("/"));
+        assertNull(table.route("no-leading-slash"));
+    }
+
+    @Test
+    public void testPathsWithIdsAreRoutedByTheirPattern() {
+        var table = new PathPatternRoutingTable<>(List.of(
+            Pair.of(Pattern.compile("/v1/users/[0-9]+"), "user"),
+            Pair.of(Pattern.compile("/v1/.*"), "v1")
+        ));
+
+        for (int id = 0; id < 100; id++) {
+            assertEquals("user", table.route("/v1/users/" + id));
+            assertEquals("v1", table.route("/v1/users/" + id + "/items"));
+        }
+    }
+
+    private static void assertLiteralPrefix(String regex, String expectedPrefix, boolean expectedFullLiteral) {
+        var literalPrefix = PathPatternRoutingTable.extractLiteralPrefix(Pattern.compile(regex));
+
+        assertEquals(expectedPrefix, literalPrefix.prefix());
+        assertEquals(expectedFullLiteral, literalPrefix.isFullLiteral());
+    }
+}
@@ -0,0 +1,57 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.atlassian.oai.validator.model.Request;
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.ValidationReport;
+import org.junit.jupiter.api.Test;
+
+public class ReloadableOpenApiInteractionValidatorWrapperTest {
+    private static final SimpleRequest REQUEST = SimpleRequest.Builder.get("/items").build();
+    private static final SimpleResponse RESPONSE = SimpleResponse.Builder.ok().build();
+
+    private final OpenApiInteractionValidatorWrapper initialValidator = mock();
+    private final OpenApiInteractionValidatorWrapper reloadedValidator = mock();
+    private final ReloadableOpenApiInteractionValidatorWrapper validator =
+        new ReloadableOpenApiInteractionValidatorWrapper(initialValidator);
+
+    @Test
+    public void testDelegatesToReloadedValidator() {
+        var report = mock(ValidationReport.class);
+        when(reloadedValidator.validateRequest(REQUEST)).thenReturn(report);
+        when(reloadedValidator.validateResponse("/items", Request.Method.GET, RESPONSE)).thenReturn(report);
+
+        assertTrue(validator.reload(() -> reloadedValidator));
+
+        assertSame(report, validator.validateRequest(REQUEST));
+        assertSame(report, validator.validateResponse("/items", Request.Method.GET, RESPONSE));
+    }
+
+    @Test
+    public void testKeepsValidatorWhenReloadYieldsNull() {
+        var report = mock(ValidationReport.class);
+        when(initialValidator.validateRequest(REQUEST)).thenReturn(report);
+
+        assertFalse(validator.reload(() -> null));
+
+        assertSame(report, validator.validateRequest(REQUEST));
+    }
+
+    @Test
+    public void testKeepsValidatorWhenReloadFails() {
+        var report = mock(ValidationReport.class);
+        when(initialValidator.validateRequest(REQUEST)).thenReturn(report);
+
+        assertFalse(validator.reload(() -> {
+            throw new IllegalStateException("spec could not be parsed");
+        }));
+
+        assertSame(report, validator.validateRequest(REQUEST));
+    }
+}
@@ -0,0 +1,251 @@
+package com.getyourguide.openapi.validation.core.validator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.model.Request;
+import com.atlassian.oai.validator.model.SimpleRequest;
+import com.atlassian.oai.validator.model.SimpleResponse;
+import com.atlassian.oai.validator.report.MessageResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.atlassian.oai.validator.util.OpenApiLoader;
+import com.atlassian.oai.validator.whitelist.ValidationErrorsWhitelist;
+import com.atlassian.oai.validator.whitelist.rule.WhitelistRules;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pins the wrapper to the results of {@link OpenApiInteractionValidator}, whose operation resolution and whitelist
+ * handling it replicates.
+ */
+public class SingleSpecOpenApiInteractionValidatorWrapperTest {
+    private static final String SPEC = """
+        openapi: 3.0.1
+        info:
+          title: Test
+          version: 1.0.0
+        servers:
+          - url: https://{host}/{basePath}
+            variables:
+              host:
+                default: example.com
+              basePath:
+                default: api
+        paths:
+          /users:
+            get:
+              responses:
+                '200':
+                  description: OK
+            post:
+              responses:
+                '201':
+                  description: Created
+          /users/me:
+            get:
+              responses:
+                '200':
+                  description: OK
+          /users/{id}:
+            get:
+              parameters:
+                - name: id
+                  in: path
+                  required: true
+                  schema:
+                    type: integer
+              responses:
+                '200':
+                  description: OK
+          /users/{id}/friends/{friendId}:
+            get:
+              parameters:
+                - name: id
+                  in: path
+                  required: true
+                  schema:
+                    type: integer
+                - name: friendId
+                  in: path
+                  required: true
+                  schema:
+                    type: string
+                    maxLength: 3
+              responses:
+                '200':
+                  description: OK
+          /files/{name}.json:
+            get:
+              parameters:
+                - name: name
+                  in: path
+                  required: true
+                  schema:
+                    type: string
+              responses:
+                '200':
+                  description: OK
+          /{section}/latest:
+            get:
+              parameters:
+                - name: section
+                  in: path
+                  required: true
+                  schema:
+                    type: string
+                    enum: [news, sports]
+              responses:
+                '200':
+                  description: OK
+          /items/:
+            get:
+              responses:
+                '200':
+                  description: OK
+          /Orders/{orderId}:
+            delete:
+              parameters:
+                - name: orderId
+                  in: path
+                  required: true
+                  schema:
+                    type: integer
+              responses:
+                '204':
+                  description: Deleted
+        """;
+
+    private final ValidationErrorsWhitelist whitelist = ValidationErrorsWhitelist.create()
+        .withRule("ignore legacy", WhitelistRules.messageContainsSubstring("/legacy"))
+        .withRule("ignore friends", WhitelistRules.allOf(
+            WhitelistRules.pathContainsSubstring("/friends/"),
+            WhitelistRules.messageHasKey("validation.request.parameter.string.tooLong")
+        ));
+    private final OpenApiInteractionValidator expectedValidator = OpenApiInteractionValidator
+        .createForInlineApiSpecification(SPEC)
+        .withResolveRefs(true)
+        .withResolveCombinators(true)
+        .withStrictOperationPathMatching()
+        .withWhitelist(whitelist)
+        .build();
+    private final SingleSpecOpenApiInteractionValidatorWrapper validator = buildWrapper();
+
+    @Test
+    public void testRequestReportsMatchOpenApiInteractionValidator() {
+        var requests = List.of(
+            "GET /api/users",
+            "POST /api/users",
+            "PUT /api/users",
+            "GET /api/users/me",
+            "GET /api/USERS/ME",
+            "GET /api/users/12",
+            "GET /api/users/abc",
+            "GET /api/Users/12",
+            "GET /api/users/12/",
+            "GET /api/users/12/friends/bob",
+            "GET /api/users/12/friends/alice",
+            "GET /api/users/x/friends/alice",
+            "GET /api/files/report.json",
+            "GET /api/files/report.JSON",
+            "GET /api/files/report.xml",
+            "GET /api/news/latest",
+            "GET /api/weather/latest",
+            "GET /api/users/latest",
+            "GET /api/items/",
+            "GET /api/items",
+            "DELETE /api/orders/5",
+            "DELETE /api/orders/five",
+            "GET /api/orders/5",
+            "GET /users",
+            "GET /api/unknown",
+            "GET /api/legacy",
+            "GET /api"
+        );
+
+        for (var methodAndPath : requests) {
+            var parts = methodAndPath.split(" ");
+            var request = new SimpleRequest.Builder(parts[0], parts[1]).build();
+
+            var expected = expectedValidator.validateRequest(request);
+            var actual = validator.validateRequest(request);
+
+            assertEquals(describe(expected), describe(actual), methodAndPath);
+        }
+    }
+
+    @Test
+    public void testResponseReportsMatchOpenApiInteractionValidator() {
+        var responses = List.of(
+            "GET /api/users/12 200",
+            "GET /api/users/12 500",
+            "DELETE /api/orders/5 204",
+            "PATCH /api/users 200",
+            "GET /api/unknown 200",
+            "GET /api/legacy 200"
+        );
+
+        for (var methodPathAndStatus : responses) {
+            var parts = methodPathAndStatus.split(" ");
+            var method = Request.Method.valueOf(parts[0]);
+            var response = SimpleResponse.Builder.status(Integer.parseInt(parts[2])).build();
+
+            var expected = expectedValidator.validateResponse(parts[1], method, response);
+            var actual = validator.validateResponse(parts[1], method, response);
+
+            assertEquals(describe(expected), describe(actual), methodPathAndStatus);
+        }
+    }
+
+    @Test
+    public void testWhitelistRulesIgnoreMessages() {
+        var report = validator.validateRequest(new SimpleRequest.Builder("GET", "/api/legacy").build());
+
+        assertEquals(1, report.getMessages().size());
+        assertEquals(ValidationReport.Level.IGNORE, report.getMessages().getFirst().getLevel());
+        assertEquals(
+            "ignore legacy",
+            report.getMessages().getFirst().getContext().orElseThrow().getAppliedWhitelistRule().orElseThrow().getName()
+        );
+    }
+
+    private SingleSpecOpenApiInteractionValidatorWrapper buildWrapper() {
+        var parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(true);
+        var api = new OpenApiLoader()
+            .loadApi(OpenApiInteractionValidator.SpecSource.inline(SPEC), List.of(), parseOptions);
+        var messages = new MessageResolver();
+        return new SingleSpecOpenApiInteractionValidatorWrapper(
+            api,
+            messages,
+            new ApiOperationCache(api, mock(MetricsReporter.class)),
+            new SchemaValidator(api, messages),
+            whitelist
+        );
+    }
+
+    private static List<String> describe(ValidationReport report) {
+        return report.getMessages().stream()
+            .map(message -> String.join(
+                " | ",
+                message.getKey(),
+                message.getLevel().name(),
+                message.getMessage(),
+                message.getContext().flatMap(ValidationReport.MessageContext::getRequestPath).orElse(""),
+                message.getContext()
+                    .flatMap(ValidationReport.MessageContext::getApiOperation)
+                    .map(apiOperation -> apiOperation.getMethod() + " " + apiOperation.getApiPath().original())
+                    .orElse(""),
+                message.getContext()
+                    .flatMap(ValidationReport.MessageContext::getAppliedWhitelistRule)
+                    .map(Object::toString)
+                    .orElse("")
+            ))
+            .toList();
+    }
+}
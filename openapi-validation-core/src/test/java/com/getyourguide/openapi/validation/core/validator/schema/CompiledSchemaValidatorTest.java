@@ -0,0 +1,440 @@
+package com.getyourguide.openapi.validation.core.validator.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.report.LevelResolver;
+import com.atlassian.oai.validator.report.MessageResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import com.atlassian.oai.validator.schema.SchemaValidator;
+import com.atlassian.oai.validator.util.OpenApiLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.getyourguide.openapi.validation.core.validator.StreamedBody;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class CompiledSchemaValidatorTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String SPEC = """
+        openapi: 3.0.1
+        info:
+          title: Test
+          version: 1.0.0
+        paths:
+          /users:
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      $ref: '#/components/schemas/User'
+              responses:
+                '200':
+                  description: OK
+                  content:
+                    application/json:
+                      schema:
+                        $ref: '#/components/schemas/User'
+          /shapes:
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      $ref: '#/components/schemas/Shape'
+              responses:
+                '204':
+                  description: No content
+          /formats:
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      type: object
+                      properties:
+                        date:
+                          type: string
+                          format: date
+                        dateTime:
+                          type: string
+                          format: date-time
+                        email:
+                          type: string
+                          format: email
+                        ipv4:
+                          type: string
+                          format: ipv4
+                        uuid:
+                          type: string
+                          format: uuid
+              responses:
+                '204':
+                  description: No content
+          /negations:
+            post:
+              requestBody:
+                content:
+                  application/json:
+                    schema:
+                      not:
+                        type: string
+              responses:
+                '204':
+                  description: No content
+        components:
+          schemas:
+            User:
+              type: object
+              required: [id, name, email, password]
+              properties:
+                id:
+                  type: integer
+                  format: int64
+                  readOnly: true
+                name:
+                  type: string
+                  minLength: 2
+                  maxLength: 10
+                  pattern: '^[A-Z]'
+                email:
+                  type: string
+                password:
+                  type: string
+                  writeOnly: true
+                age:
+                  type: integer
+                  format: int32
+                  minimum: 0
+                  maximum: 150
+                score:
+                  type: number
+                  exclusiveMinimum: true
+                  minimum: 0
+                  multipleOf: 0.5
+                status:
+                  type: string
+                  enum: [active, inactive]
+                nickname:
+                  type: string
+                  nullable: true
+                birthday:
+                  type: string
+                  format: byte
+                tags:
+                  type: array
+                  minItems: 1
+                  maxItems: 3
+                  uniqueItems: true
+                  items:
+                    type: string
+                attributes:
+                  type: object
+                  additionalProperties:
+                    type: integer
+                friends:
+                  type: array
+                  items:
+                    $ref: '#/components/schemas/User'
+            Shape:
+              oneOf:
+                - type: object
+                  required: [radius]
+                  properties:
+                    radius:
+                      type: number
+                - type: object
+                  required: [width]
+                  properties:
+                    width:
+                      type: number
+        """;
+
+    private static final List<String> USER_BODIES = List.of(
+        "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\"}",
+        "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\",\"age\":30,"
+            + "\"score\":1.5,\"status\":\"active\",\"nickname\":null,\"birthday\":\"MjAwMC0wMS0zMQ==\","
+            + "\"tags\":[\"a\",\"b\"],\"attributes\":{\"x\":1},\"friends\":[{\"name\":\"Bob\","
+            + "\"email\":\"bob@example.com\",\"password\":\"pw\"}]}",
+        "{}",
+        "[]",
+        "{\"name\":\"a\",\"email\":\"invalid\",\"password\":1}",
+        "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\",\"age\":-1,"
+            + "\"score\":0,\"status\":\"unknown\",\"nickname\":5,\"birthday\":\"2000-02-31\","
+            + "\"tags\":[\"a\",\"a\",\"b\",\"c\"],\"attributes\":{\"x\":\"y\"}}",
+        "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\",\"age\":3000000000,"
+            + "\"score\":0.7,\"tags\":[],\"friends\":[{\"name\":\"b\"}]}"
+    );
+    private static final List<String> FORMAT_BODIES = List.of(
+        "{\"date\":\"2000-01-31\"}",
+        "{\"date\":\"2000-02-31\"}",
+        "{\"date\":\"2000-1-1\"}",
+        "{\"date\":\"+2000-01-31\"}",
+        "{\"date\":\"2000-01-31T10:00:00Z\"}",
+        "{\"dateTime\":\"2000-01-31T10:00:00Z\"}",
+        "{\"dateTime\":\"2000-01-31T10:00:00.123+02:00\"}",
+        "{\"dateTime\":\"2000-01-31T10:00:00.1234567890123Z\"}",
+        "{\"dateTime\":\"2000-01-31T10:00Z\"}",
+        "{\"dateTime\":\"2000-01-31t10:00:00z\"}",
+        "{\"dateTime\":\"2000-01-31 10:00:00Z\"}",
+        "{\"email\":\"alice@example.com\"}",
+        "{\"email\":\"invalid\"}",
+        "{\"email\":\"Alice <alice@example.com>\"}",
+        "{\"email\":\"alice@localhost\"}",
+        "{\"email\":\"a b@example.com\"}",
+        "{\"ipv4\":\"127.0.0.1\"}",
+        "{\"ipv4\":\"256.0.0.1\"}",
+        "{\"ipv4\":\"01.2.3.4\"}",
+        "{\"ipv4\":\"1.2.3\"}",
+        "{\"uuid\":\"123e4567-e89b-12d3-a456-426614174000\"}",
+        "{\"uuid\":\"123E4567-E89B-12D3-A456-426614174000\"}",
+        "{\"uuid\":\"1-1-1-1-1\"}",
+        "{\"uuid\":\"not-a-uuid\"}"
+    );
+    private static final List<String> SHAPE_BODIES =
+        List.of("{\"radius\":1}", "{\"radius\":1,\"width\":2}", "{}", "{\"radius\":\"large\"}");
+
+    @Test
+    public void testReportsSameViolationsAsDefaultEngine() {
+        var api = loadApi();
+        var messages = messagesIgnoringAdditionalProperties();
+        var schema = requestSchema(api, "/users");
+        var defaultValidator = new SchemaValidator(api, messages);
+        var compiledValidator = new CompiledSchemaValidator(api, messages);
+
+        for (var body : USER_BODIES) {
+            var expected = defaultValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+            var actual = compiledValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+
+            assertEquals(describe(expected), describe(actual), body);
+        }
+    }
+
+    @Test
+    public void testStreamingReportsSameViolationsWithoutParsingTree() {
+        var api = loadApi();
+        var messages = messagesIgnoringAdditionalProperties();
+        var defaultValidator = new SchemaValidator(api, messages);
+        var streamingValidator = new CompiledSchemaValidator(api, messages, true);
+        var treeParses = new AtomicInteger();
+
+        for (var path : List.of("/users", "/shapes")) {
+            var schema = requestSchema(api, path);
+            for (var body : "/users".equals(path) ? USER_BODIES : SHAPE_BODIES) {
+                var expected = defaultValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+                var actual = streamingValidator.withStreamedBody(
+                    new StreamedBody(body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+                    () -> streamingValidator.validate(() -> {
+                        treeParses.incrementAndGet();
+                        return MAPPER.readTree(body);
+                    }, schema, "request.body")
+                );
+
+                assertEquals(describe(expected), describe(actual), body);
+            }
+        }
+        assertEquals(0, treeParses.get());
+    }
+
+    @Test
+    public void testStreamingFallsBackToDefaultEngineForInvalidJson() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties(), true);
+        var body = "{\"name\":\"Alice\",";
+
+        var report = validator.withStreamedBody(
+            new StreamedBody(body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+            () -> validator.validate(() -> MAPPER.readTree(body), requestSchema(api, "/users"), "request.body")
+        );
+
+        assertEquals(List.of("validation.request.body.schema.invalidJson"), describeKeys(report));
+    }
+
+    @Test
+    public void testStreamingReportsContentAfterRootValueAsInvalidJson() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties(), true);
+        var body = "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\"} {}";
+
+        var report = validator.withStreamedBody(
+            new StreamedBody(body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8),
+            () -> validator.validate(() -> MAPPER.readTree(body), requestSchema(api, "/users"), "request.body")
+        );
+
+        assertEquals(List.of("validation.request.body.schema.invalidJson"), describeKeys(report));
+    }
+
+    @Test
+    public void testStreamingDecodesBodyWithItsCharset() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties(), true);
+        var body = "{\"name\":\"Ren\u00e9e\",\"email\":\"renee@example.com\",\"password\":\"secret\"}";
+        var treeParses = new AtomicInteger();
+
+        var report = validator.withStreamedBody(
+            new StreamedBody(body.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.ISO_8859_1),
+            () -> validator.validate(() -> {
+                treeParses.incrementAndGet();
+                return MAPPER.readTree(body);
+            }, requestSchema(api, "/users"), "request.body")
+        );
+
+        assertTrue(report.getMessages().isEmpty());
+        assertEquals(0, treeParses.get());
+    }
+
+    @Test
+    public void testRequiresReadOnlyPropertiesOnlyInResponses() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties());
+        var schema = api.getPaths().get("/users").getPost().getResponses().get("200").getContent()
+            .get("application/json").getSchema();
+
+        var report = validator.validate(
+            () -> MAPPER.readTree("{\"name\":\"Alice\",\"email\":\"alice@example.com\"}"), schema, "response.body");
+
+        assertEquals(
+            List.of("validation.response.body.schema.required |  | Object has missing required properties ([\"id\"])"),
+            describe(report)
+        );
+    }
+
+    @Test
+    public void testReportsAdditionalPropertiesUnlessIgnored() {
+        var api = loadApi();
+        var messages = new MessageResolver();
+        var schema = requestSchema(api, "/users");
+        var body = "{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\",\"unknown\":1}";
+
+        var expected = new SchemaValidator(api, messages).validate(() -> MAPPER.readTree(body), schema, "request.body");
+        var actual = new CompiledSchemaValidator(api, messages)
+            .validate(() -> MAPPER.readTree(body), schema, "request.body");
+
+        assertEquals(describe(expected), describe(actual));
+        assertEquals(1, actual.getMessages().size());
+    }
+
+    @Test
+    public void testReportsCompositionAsDefaultEngine() {
+        var api = loadApi();
+        var messages = messagesIgnoringAdditionalProperties();
+        var schema = requestSchema(api, "/shapes");
+        var defaultValidator = new SchemaValidator(api, messages);
+        var compiledValidator = new CompiledSchemaValidator(api, messages);
+
+        for (var body : SHAPE_BODIES) {
+            var expected = defaultValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+            var actual = compiledValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+
+            assertEquals(describeKeys(expected), describeKeys(actual), body);
+        }
+    }
+
+    @Test
+    public void testFallsBackToDefaultEngineForUnsupportedSchemas() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties());
+        var schema = requestSchema(api, "/negations");
+
+        var report = validator.validate(() -> MAPPER.readTree("\"text\""), schema, "request.body");
+
+        assertEquals(3, validator.getCompiledSchemaCount());
+        assertEquals(List.of("validation.request.body.schema.not"), describeKeys(report));
+    }
+
+    @Test
+    public void testFormatsDifferingFromDefaultEngineFallBackToIt() {
+        var api = loadApi();
+        var messages = messagesIgnoringAdditionalProperties();
+        var schema = requestSchema(api, "/formats");
+        var defaultValidator = new SchemaValidator(api, messages);
+        var compiledValidator = new CompiledSchemaValidator(api, messages);
+
+        for (var body : FORMAT_BODIES) {
+            var expected = defaultValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+            var actual = compiledValidator.validate(() -> MAPPER.readTree(body), schema, "request.body");
+
+            assertEquals(describe(expected), describe(actual), body);
+        }
+        assertEquals(3, compiledValidator.getCompiledSchemaCount());
+    }
+
+    @Test
+    public void testCompiledSchemasAreKeptAcrossBodies() {
+        var api = loadApi();
+        var compiler = new SchemaCompiler(api.getComponents().getSchemas(), true, false);
+        var user = api.getComponents().getSchemas().get("User");
+
+        var compiled = compiler.compile(requestSchema(api, "/users"));
+
+        assertSame(compiled, compiler.compile(requestSchema(api, "/users")));
+        assertNull(compiler.compile(requestSchema(api, "/formats")));
+        assertSame(compiler.compile(user), compiler.compile(user));
+    }
+
+    @Test
+    public void testFallsBackToDefaultEngineForInvalidJson() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties());
+
+        var report = validator.validate(() -> MAPPER.readTree("{"), requestSchema(api, "/users"), "request.body");
+
+        assertEquals(List.of("validation.request.body.schema.invalidJson"), describeKeys(report));
+    }
+
+    @Test
+    public void testValidBodyHasNoMessages() {
+        var api = loadApi();
+        var validator = new CompiledSchemaValidator(api, messagesIgnoringAdditionalProperties());
+
+        var report = validator.validate(
+            () -> MAPPER.readTree("{\"name\":\"Alice\",\"email\":\"alice@example.com\",\"password\":\"secret\"}"),
+            requestSchema(api, "/users"),
+            "request.body"
+        );
+
+        assertTrue(report.getMessages().isEmpty());
+    }
+
+    private static OpenAPI loadApi() {
+        var parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setResolveFully(true);
+        parseOptions.setResolveCombinators(true);
+        return new OpenApiLoader()
+            .loadApi(OpenApiInteractionValidator.SpecSource.inline(SPEC), List.of(), parseOptions);
+    }
+
+    private static MessageResolver messagesIgnoringAdditionalProperties() {
+        return new MessageResolver(LevelResolver.create()
+            .withLevel(SchemaValidator.ADDITIONAL_PROPERTIES_KEY, ValidationReport.Level.IGNORE)
+            .build());
+    }
+
+    private static Schema<?> requestSchema(OpenAPI api, String path) {
+        return api.getPaths().get(path).getPost().getRequestBody().getContent().get("application/json").getSchema();
+    }
+
+    private static List<String> describe(ValidationReport report) {
+        return report.getMessages().stream()
+            .map(message -> message.getKey() + " | "
+                + message.getContext().flatMap(ValidationReport.MessageContext::getPointers)
+                    .map(ValidationReport.MessageContext.Pointers::getInstance).map(p -> "/".equals(p) ? "" : p)
+                    .orElse("")
+                + " | " + message.getMessage())
+            .sorted()
+            .toList();
+    }
+
+    private static List<String> describeKeys(ValidationReport report) {
+        return report.getMessages().stream().map(ValidationReport.Message::getKey).sorted().toList();
+    }
+}
@@ -5,6 +5,8 @@ import static com.getyourguide.openapi.validation.OpenApiValidationApplicationPr
 import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeader;
 import com.getyourguide.openapi.validation.api.log.LogLevel;
 import com.getyourguide.openapi.validation.api.metrics.MetricTag;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
+import com.getyourguide.openapi.validation.api.selector.PathSampleRate;
 import com.getyourguide.openapi.validation.core.OpenApiRequestValidationConfiguration;
 import com.getyourguide.openapi.validation.util.CommaSeparatedStringsUtil;
 import java.util.Arrays;
@@ -27,6 +29,12 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public class OpenApiValidationApplicationProperties {
     public static final String PROPERTY_PREFIX = "openapi.validation";
     private static final double SAMPLE_RATE_DEFAULT = 1; // 1.0 = 100%
+    private static final int EXECUTOR_THREADS_DEFAULT = 2;
+    private static final int EXECUTOR_QUEUE_CAPACITY_DEFAULT = 10;
+    private static final int VALIDATIONS_PER_OPERATION_WINDOW_SECONDS_DEFAULT = 60;
+    private static final double LOAD_SHEDDING_THRESHOLD_DEFAULT = 1.0; // disabled
+    private static final int ADAPTIVE_SAMPLING_HALF_LIFE_SECONDS_DEFAULT = 3600;
+    private static final int SPEC_HOT_RELOAD_DEBOUNCE_MILLIS_DEFAULT = 500;
 
     private Double sampleRate;
     private String specificationFilePath;
@@ -39,11 +47,49 @@ public class OpenApiValidationApplicationProperties {
     private Boolean shouldFailOnRequestViolation;
     private Boolean shouldFailOnResponseViolation;
     private Boolean enableVirtualThreads;
+    private Integer executorCoreThreads;
+    private Integer executorMaxThreads;
+    private Integer executorQueueCapacity;
+    private Integer virtualThreadsMaxConcurrent;
+    private Integer maxRequestBodyBytes;
+    private Integer maxResponseBodyBytes;
+    private List<String> pathSampleRates;
+    private Integer validationsPerOperation;
+    private Integer validationsPerOperationWindowSeconds;
+    private Double maxValidationsPerSecond;
+    private Double loadSheddingThreshold;
+    private Double adaptiveSamplingMinSampleRate;
+    private Integer adaptiveSamplingHalfLifeSeconds;
+    private List<String> validatableMediaTypes;
+    private SchemaValidationEngine schemaValidationEngine;
+    private Boolean initializeInBackground;
+    private Boolean specHotReload;
+    private Integer specHotReloadDebounceMillis;
 
     public double getSampleRate() {
         return sampleRate != null ? sampleRate : SAMPLE_RATE_DEFAULT;
     }
 
+    public List<PathSampleRate> getPathSampleRates() {
+        if (pathSampleRates == null) {
+            return Collections.emptyList();
+        }
+
+        return pathSampleRates.stream()
+            .map(entry -> {
+                var separator = entry.lastIndexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Invalid path sample rate format: " + entry);
+                }
+                var route = entry.substring(0, separator).trim().split("\\s+", 2);
+                var sampleRate = Double.parseDouble(entry.substring(separator + 1).trim());
+                return route.length == 2
+                    ? new PathSampleRate(route[0], route[1], sampleRate)
+                    : new PathSampleRate(null, route[0], sampleRate);
+            })
+            .toList();
+    }
+
     public int getValidationReportThrottleWaitSeconds() {
         return validationReportThrottleWaitSeconds != null ? validationReportThrottleWaitSeconds : 0;
     }
@@ -89,10 +135,87 @@ public class OpenApiValidationApplicationProperties {
         return enableVirtualThreads != null ? enableVirtualThreads : false;
     }
 
+    public int getExecutorCoreThreads() {
+        return executorCoreThreads != null ? executorCoreThreads : EXECUTOR_THREADS_DEFAULT;
+    }
+
+    public int getExecutorMaxThreads() {
+        return executorMaxThreads != null ? executorMaxThreads : Math.max(getExecutorCoreThreads(), EXECUTOR_THREADS_DEFAULT);
+    }
+
+    public int getExecutorQueueCapacity() {
+        return executorQueueCapacity != null ? executorQueueCapacity : EXECUTOR_QUEUE_CAPACITY_DEFAULT;
+    }
+
+    public int getVirtualThreadsMaxConcurrent() {
+        return virtualThreadsMaxConcurrent != null ? virtualThreadsMaxConcurrent : EXECUTOR_THREADS_DEFAULT;
+    }
+
+    public int getMaxRequestBodyBytes() {
+        return maxRequestBodyBytes != null ? Math.max(maxRequestBodyBytes, 0) : 0;
+    }
+
+    public int getMaxResponseBodyBytes() {
+        return maxResponseBodyBytes != null ? Math.max(maxResponseBodyBytes, 0) : 0;
+    }
+
+    public int getValidationsPerOperation() {
+        return validationsPerOperation != null ? Math.max(validationsPerOperation, 0) : 0;
+    }
+
+    public int getValidationsPerOperationWindowSeconds() {
+        return validationsPerOperationWindowSeconds != null && validationsPerOperationWindowSeconds > 0
+            ? validationsPerOperationWindowSeconds
+            : VALIDATIONS_PER_OPERATION_WINDOW_SECONDS_DEFAULT;
+    }
+
+    public double getMaxValidationsPerSecond() {
+        return maxValidationsPerSecond != null ? Math.max(maxValidationsPerSecond, 0) : 0;
+    }
+
+    public double getLoadSheddingThreshold() {
+        return loadSheddingThreshold != null ? Math.max(loadSheddingThreshold, 0) : LOAD_SHEDDING_THRESHOLD_DEFAULT;
+    }
+
+    public double getAdaptiveSamplingMinSampleRate() {
+        return adaptiveSamplingMinSampleRate != null ? Math.min(Math.max(adaptiveSamplingMinSampleRate, 0), 1) : 1;
+    }
+
+    public boolean isAdaptiveSamplingEnabled() {
+        return getAdaptiveSamplingMinSampleRate() < 1;
+    }
+
+    public int getAdaptiveSamplingHalfLifeSeconds() {
+        return adaptiveSamplingHalfLifeSeconds != null && adaptiveSamplingHalfLifeSeconds > 0
+            ? adaptiveSamplingHalfLifeSeconds
+            : ADAPTIVE_SAMPLING_HALF_LIFE_SECONDS_DEFAULT;
+    }
+
+    public List<String> getValidatableMediaTypes() {
+        return validatableMediaTypes != null ? validatableMediaTypes : Collections.emptyList();
+    }
+
+    public SchemaValidationEngine getSchemaValidationEngine() {
+        return schemaValidationEngine != null ? schemaValidationEngine : SchemaValidationEngine.DEFAULT;
+    }
+
+    public boolean isInitializeInBackground() {
+        return initializeInBackground != null ? initializeInBackground : false;
+    }
+
+    public boolean isSpecHotReload() {
+        return specHotReload != null ? specHotReload : false;
+    }
+
+    public int getSpecHotReloadDebounceMillis() {
+        return specHotReloadDebounceMillis != null ? specHotReloadDebounceMillis : SPEC_HOT_RELOAD_DEBOUNCE_MILLIS_DEFAULT;
+    }
+
     public OpenApiRequestValidationConfiguration toOpenApiRequestValidationConfiguration() {
         return OpenApiRequestValidationConfiguration.builder()
             .sampleRate(getSampleRate())
             .validationReportThrottleWaitSeconds(getValidationReportThrottleWaitSeconds())
+            .pathSampleRateCount(getPathSampleRates().size())
             .build();
     }
 }
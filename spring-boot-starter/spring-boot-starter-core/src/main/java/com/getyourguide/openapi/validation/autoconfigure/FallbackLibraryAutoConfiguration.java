@@ -1,8 +1,16 @@
 package com.getyourguide.openapi.validation.autoconfigure;
 
 import com.getyourguide.openapi.validation.OpenApiValidationApplicationProperties;
+import com.getyourguide.openapi.validation.api.metrics.MetricsReporter;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSampleRates;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSamplingTrafficSelector;
 import com.getyourguide.openapi.validation.api.selector.DefaultTrafficSelector;
+import com.getyourguide.openapi.validation.api.selector.LoadSheddingTrafficSelector;
+import com.getyourguide.openapi.validation.api.selector.OperationQuotaTrafficSelector;
+import com.getyourguide.openapi.validation.api.selector.RateLimitingTrafficSelector;
 import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
+import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -20,14 +28,50 @@ public class FallbackLibraryAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    public TrafficSelector defaultTrafficSelector() {
-        return new DefaultTrafficSelector(
+    public TrafficSelector defaultTrafficSelector(
+        MetricsReporter metricsReporter,
+        OpenApiRequestValidator validator,
+        Optional<AdaptiveSampleRates> adaptiveSampleRates
+    ) {
+        TrafficSelector trafficSelector = new DefaultTrafficSelector(
             properties.getSampleRate(),
             properties.getExcludedPathsAsSet(),
             properties.getExcludedHeaders(),
             properties.getShouldFailOnRequestViolation(),
-            properties.getShouldFailOnResponseViolation()
+            properties.getShouldFailOnResponseViolation(),
+            properties.getPathSampleRates(),
+            properties.getValidatableMediaTypes()
         );
+
+        if (adaptiveSampleRates.isPresent()) {
+            trafficSelector = new AdaptiveSamplingTrafficSelector(trafficSelector, adaptiveSampleRates.get());
+        }
+
+        if (properties.getLoadSheddingThreshold() < 1) {
+            trafficSelector = new LoadSheddingTrafficSelector(
+                trafficSelector,
+                validator::getExecutorSaturation,
+                properties.getLoadSheddingThreshold()
+            );
+        }
+
+        if (properties.getValidationsPerOperation() > 0) {
+            trafficSelector = new OperationQuotaTrafficSelector(
+                trafficSelector,
+                properties.getValidationsPerOperation(),
+                properties.getValidationsPerOperationWindowSeconds()
+            );
+        }
+
+        if (properties.getMaxValidationsPerSecond() > 0) {
+            trafficSelector = new RateLimitingTrafficSelector(
+                trafficSelector,
+                properties.getMaxValidationsPerSecond(),
+                metricsReporter
+            );
+        }
+
+        return trafficSelector;
     }
 
 }
@@ -15,22 +15,27 @@ import com.getyourguide.openapi.validation.api.metrics.client.MetricsClient;
 import com.getyourguide.openapi.validation.api.metrics.client.NoOpMetricsClient;
 import com.getyourguide.openapi.validation.api.model.ValidatorConfiguration;
 import com.getyourguide.openapi.validation.api.model.ValidatorConfigurationBuilder;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSampleRates;
 import com.getyourguide.openapi.validation.core.DefaultViolationLogger;
 import com.getyourguide.openapi.validation.core.OpenApiInteractionValidatorFactory;
 import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
 import com.getyourguide.openapi.validation.core.exclusions.InternalViolationExclusions;
+import com.getyourguide.openapi.validation.core.executor.BoundedThreadPoolExecutor;
 import com.getyourguide.openapi.validation.core.executor.VirtualThreadLimitedExecutor;
+import com.getyourguide.openapi.validation.core.log.AdaptiveSamplingOpenApiViolationHandler;
 import com.getyourguide.openapi.validation.core.log.DefaultOpenApiViolationHandler;
 import com.getyourguide.openapi.validation.core.log.ThrottlingOpenApiViolationHandler;
 import com.getyourguide.openapi.validation.core.mapper.ValidationReportToOpenApiViolationsMapper;
 import com.getyourguide.openapi.validation.core.metrics.DefaultMetricsReporter;
+import com.getyourguide.openapi.validation.core.reload.SpecFileWatcher;
+import com.getyourguide.openapi.validation.core.validator.OpenApiInteractionValidatorWrapper;
 import java.util.Optional;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -74,10 +79,21 @@ public class LibraryAutoConfiguration {
         return new InternalViolationExclusions(violationExclusions.orElseGet(NoViolationExclusions::new));
     }
 
+    @Bean
+    @ConditionalOnExpression("${" + OpenApiValidationApplicationProperties.PROPERTY_PREFIX
+        + ".adaptive-sampling-min-sample-rate:1} < 1")
+    public AdaptiveSampleRates adaptiveSampleRates() {
+        return new AdaptiveSampleRates(
+            properties.getAdaptiveSamplingMinSampleRate(),
+            properties.getAdaptiveSamplingHalfLifeSeconds()
+        );
+    }
+
     @Bean
     public OpenApiViolationHandler openApiViolationHandler(
         ViolationLogger logger,
-        MetricsReporter metricsReporter
+        MetricsReporter metricsReporter,
+        Optional<AdaptiveSampleRates> adaptiveSampleRates
     ) {
         OpenApiViolationHandler handler = new DefaultOpenApiViolationHandler(logger, metricsReporter);
 
@@ -86,6 +102,10 @@ public class LibraryAutoConfiguration {
                 new ThrottlingOpenApiViolationHandler(handler, properties.getValidationReportThrottleWaitSeconds());
         }
 
+        if (adaptiveSampleRates.isPresent()) {
+            handler = new AdaptiveSamplingOpenApiViolationHandler(handler, adaptiveSampleRates.get());
+        }
+
         return handler;
     }
 
@@ -98,22 +118,45 @@ public class LibraryAutoConfiguration {
             .levelResolverDefaultLevel(
                 properties.getViolationLogLevel() != null ? properties.getViolationLogLevel() : LogLevel.INFO
             )
+            .schemaValidationEngine(properties.getSchemaValidationEngine())
             .build();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = OpenApiValidationApplicationProperties.PROPERTY_PREFIX, name = "spec-hot-reload",
+        havingValue = "true")
+    public SpecFileWatcher specFileWatcher() {
+        return new SpecFileWatcher(properties.getSpecHotReloadDebounceMillis());
+    }
+
     @Bean
     public OpenApiRequestValidator openApiRequestValidator(
         MetricsReporter metricsReporter,
         ValidatorConfiguration validatorConfiguration,
-        InternalViolationExclusions internalExclusions
+        InternalViolationExclusions internalExclusions,
+        Optional<SpecFileWatcher> specFileWatcher
     ) {
         var threadPoolExecutor = createThreadPoolExecutor();
+        Supplier<OpenApiInteractionValidatorWrapper> validatorSupplier =
+            () -> new OpenApiInteractionValidatorFactory(metricsReporter, specFileWatcher.orElse(null))
+                .build(properties.getSpecificationFilePath(), validatorConfiguration);
+
+        if (properties.isInitializeInBackground()) {
+            return new OpenApiRequestValidator(
+                threadPoolExecutor,
+                metricsReporter,
+                validatorSupplier,
+                command -> Thread.ofPlatform().name("openapi-validation-init").daemon().start(command),
+                new ValidationReportToOpenApiViolationsMapper(),
+                internalExclusions,
+                properties.toOpenApiRequestValidationConfiguration()
+            );
+        }
 
         return new OpenApiRequestValidator(
             threadPoolExecutor,
             metricsReporter,
-            new OpenApiInteractionValidatorFactory()
-                .build(properties.getSpecificationFilePath(), validatorConfiguration),
+            validatorSupplier.get(),
             new ValidationReportToOpenApiViolationsMapper(),
             internalExclusions,
             properties.toOpenApiRequestValidationConfiguration()
@@ -122,17 +165,14 @@ public class LibraryAutoConfiguration {
 
     private Executor createThreadPoolExecutor() {
         if (properties.isEnableVirtualThreads() && VirtualThreadLimitedExecutor.isSupported()) {
-            return new VirtualThreadLimitedExecutor();
+            return new VirtualThreadLimitedExecutor(properties.getVirtualThreadsMaxConcurrent());
         }
 
         // Fallback to ThreadPoolExecutor with regular threads
-        return new ThreadPoolExecutor(
-            2,
-            2,
-            1000L,
-            TimeUnit.MILLISECONDS,
-            new LinkedBlockingQueue<>(10),
-            new ThreadPoolExecutor.DiscardPolicy()
+        return new BoundedThreadPoolExecutor(
+            properties.getExecutorCoreThreads(),
+            properties.getExecutorMaxThreads(),
+            properties.getExecutorQueueCapacity()
         );
     }
 }
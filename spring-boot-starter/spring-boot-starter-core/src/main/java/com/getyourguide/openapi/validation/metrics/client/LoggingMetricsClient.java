@@ -11,4 +11,19 @@ public class LoggingMetricsClient implements MetricsClient {
     public void increment(String aspect, MetricTag... tags) {
         log.info("Incrementing metric {} with tags {}", aspect, tags);
     }
+
+    @Override
+    public void count(String aspect, long delta, MetricTag... tags) {
+        log.info("Counting metric {} by {} with tags {}", aspect, delta, tags);
+    }
+
+    @Override
+    public void gauge(String aspect, double value, MetricTag... tags) {
+        log.info("Gauge metric {} with value {} and tags {}", aspect, value, tags);
+    }
+
+    @Override
+    public void recordExecutionTime(String aspect, long timeInMs, MetricTag... tags) {
+        log.info("Execution time metric {} with {}ms and tags {}", aspect, timeInMs, tags);
+    }
 }
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.getyourguide.openapi.validation.api.exclusions.ExcludedHeader;
 import com.getyourguide.openapi.validation.api.log.LogLevel;
 import com.getyourguide.openapi.validation.api.metrics.MetricTag;
+import com.getyourguide.openapi.validation.api.model.SchemaValidationEngine;
+import com.getyourguide.openapi.validation.api.selector.PathSampleRate;
 import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,22 @@ class OpenApiValidationApplicationPropertiesTest {
     private static final String VALIDATION_REPORT_METRIC_ADDITONAL_TAGS_STRING = "service=payment,team=chk";
     private static final String EXCLUDED_PATHS = "/_readiness,/_liveness,/_metrics";
     private static final List<String> EXCLUDED_HEADERS = List.of("User-Agent: .*(bingbot|googlebot).*", "x-is-bot: true");
+    private static final Integer EXECUTOR_CORE_THREADS = 3;
+    private static final Integer EXECUTOR_MAX_THREADS = 5;
+    private static final Integer EXECUTOR_QUEUE_CAPACITY = 100;
+    private static final Integer VIRTUAL_THREADS_MAX_CONCURRENT = 8;
+    private static final Integer MAX_REQUEST_BODY_BYTES = 1024;
+    private static final Integer MAX_RESPONSE_BODY_BYTES = 2048;
+    private static final Integer VALIDATIONS_PER_OPERATION = 10;
+    private static final Integer VALIDATIONS_PER_OPERATION_WINDOW_SECONDS = 30;
+    private static final Double MAX_VALIDATIONS_PER_SECOND = 50.0;
+    private static final Double LOAD_SHEDDING_THRESHOLD = 0.9;
+    private static final Double ADAPTIVE_SAMPLING_MIN_SAMPLE_RATE = 0.05;
+    private static final Integer ADAPTIVE_SAMPLING_HALF_LIFE_SECONDS = 600;
+    private static final List<String> VALIDATABLE_MEDIA_TYPES = List.of("application/json", "*/*+json");
+    private static final SchemaValidationEngine SCHEMA_VALIDATION_ENGINE = SchemaValidationEngine.COMPILED;
+    private static final Integer SPEC_HOT_RELOAD_DEBOUNCE_MILLIS = 1000;
+    private static final List<String> PATH_SAMPLE_RATES = List.of("/search: 0.01", "post /users/{id}:0.5");
 
     @Test
     void getters() {
@@ -35,7 +53,25 @@ class OpenApiValidationApplicationPropertiesTest {
             EXCLUDED_HEADERS,
             true,
             false,
-            true
+            true,
+            EXECUTOR_CORE_THREADS,
+            EXECUTOR_MAX_THREADS,
+            EXECUTOR_QUEUE_CAPACITY,
+            VIRTUAL_THREADS_MAX_CONCURRENT,
+            MAX_REQUEST_BODY_BYTES,
+            MAX_RESPONSE_BODY_BYTES,
+            PATH_SAMPLE_RATES,
+            VALIDATIONS_PER_OPERATION,
+            VALIDATIONS_PER_OPERATION_WINDOW_SECONDS,
+            MAX_VALIDATIONS_PER_SECOND,
+            LOAD_SHEDDING_THRESHOLD,
+            ADAPTIVE_SAMPLING_MIN_SAMPLE_RATE,
+            ADAPTIVE_SAMPLING_HALF_LIFE_SECONDS,
+            VALIDATABLE_MEDIA_TYPES,
+            SCHEMA_VALIDATION_ENGINE,
+            true,
+            true,
+            SPEC_HOT_RELOAD_DEBOUNCE_MILLIS
         );
 
         assertEquals(SAMPLE_RATE, loggingConfiguration.getSampleRate());
@@ -53,6 +89,87 @@ class OpenApiValidationApplicationPropertiesTest {
         assertEquals(Set.of("/_readiness", "/_liveness", "/_metrics"), loggingConfiguration.getExcludedPathsAsSet());
         assertTrue(loggingConfiguration.getShouldFailOnRequestViolation());
         assertFalse(loggingConfiguration.getShouldFailOnResponseViolation());
+        assertEquals(EXECUTOR_CORE_THREADS, loggingConfiguration.getExecutorCoreThreads());
+        assertEquals(EXECUTOR_MAX_THREADS, loggingConfiguration.getExecutorMaxThreads());
+        assertEquals(EXECUTOR_QUEUE_CAPACITY, loggingConfiguration.getExecutorQueueCapacity());
+        assertEquals(VIRTUAL_THREADS_MAX_CONCURRENT, loggingConfiguration.getVirtualThreadsMaxConcurrent());
+        assertEquals(MAX_REQUEST_BODY_BYTES, loggingConfiguration.getMaxRequestBodyBytes());
+        assertEquals(MAX_RESPONSE_BODY_BYTES, loggingConfiguration.getMaxResponseBodyBytes());
+        assertEquals(
+            List.of(new PathSampleRate(null, "/search", 0.01), new PathSampleRate("post", "/users/{id}", 0.5)),
+            loggingConfiguration.getPathSampleRates()
+        );
+        assertEquals(2, loggingConfiguration.toOpenApiRequestValidationConfiguration().getPathSampleRateCount());
+        assertEquals(VALIDATIONS_PER_OPERATION, loggingConfiguration.getValidationsPerOperation());
+        assertEquals(VALIDATIONS_PER_OPERATION_WINDOW_SECONDS,
+            loggingConfiguration.getValidationsPerOperationWindowSeconds());
+        assertEquals(MAX_VALIDATIONS_PER_SECOND, loggingConfiguration.getMaxValidationsPerSecond());
+        assertEquals(LOAD_SHEDDING_THRESHOLD, loggingConfiguration.getLoadSheddingThreshold());
+        assertEquals(ADAPTIVE_SAMPLING_MIN_SAMPLE_RATE, loggingConfiguration.getAdaptiveSamplingMinSampleRate());
+        assertEquals(ADAPTIVE_SAMPLING_HALF_LIFE_SECONDS, loggingConfiguration.getAdaptiveSamplingHalfLifeSeconds());
+        assertTrue(loggingConfiguration.isAdaptiveSamplingEnabled());
+        assertEquals(VALIDATABLE_MEDIA_TYPES, loggingConfiguration.getValidatableMediaTypes());
+        assertEquals(SCHEMA_VALIDATION_ENGINE, loggingConfiguration.getSchemaValidationEngine());
+        assertTrue(loggingConfiguration.isInitializeInBackground());
+        assertTrue(loggingConfiguration.isSpecHotReload());
+        assertEquals(SPEC_HOT_RELOAD_DEBOUNCE_MILLIS, loggingConfiguration.getSpecHotReloadDebounceMillis());
+    }
+
+    @Test
+    void executorDefaults() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertEquals(2, properties.getExecutorCoreThreads());
+        assertEquals(2, properties.getExecutorMaxThreads());
+        assertEquals(10, properties.getExecutorQueueCapacity());
+        assertEquals(2, properties.getVirtualThreadsMaxConcurrent());
+    }
+
+    @Test
+    void validationsPerOperationDefaultsToNoLimit() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertEquals(0, properties.getValidationsPerOperation());
+        assertEquals(60, properties.getValidationsPerOperationWindowSeconds());
+        assertEquals(0, properties.getMaxValidationsPerSecond());
+    }
+
+    @Test
+    void loadSheddingIsDisabledByDefault() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertEquals(1.0, properties.getLoadSheddingThreshold());
+    }
+
+    @Test
+    void initializeInBackgroundDefaultsToDisabled() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertFalse(properties.isInitializeInBackground());
+    }
+
+    @Test
+    void specHotReloadDefaultsToDisabled() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertFalse(properties.isSpecHotReload());
+        assertEquals(500, properties.getSpecHotReloadDebounceMillis());
+    }
+
+    @Test
+    void adaptiveSamplingDefaultsToDisabled() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertFalse(properties.isAdaptiveSamplingEnabled());
+        assertEquals(3600, properties.getAdaptiveSamplingHalfLifeSeconds());
+    }
+
+    @Test
+    void maxBodyBytesDefaultsToNoLimit() {
+        var properties = new OpenApiValidationApplicationProperties();
+
+        assertEquals(0, properties.getMaxRequestBodyBytes());
+        assertEquals(0, properties.getMaxResponseBodyBytes());
     }
 
     private void assertExcludedHeaders(List<ExcludedHeader> excludedHeaders) {
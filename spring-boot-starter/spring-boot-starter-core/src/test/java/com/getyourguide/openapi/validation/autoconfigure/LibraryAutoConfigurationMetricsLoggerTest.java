@@ -3,6 +3,9 @@ package com.getyourguide.openapi.validation.autoconfigure;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.getyourguide.openapi.validation.api.metrics.client.MetricsClient;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSampleRates;
+import com.getyourguide.openapi.validation.api.selector.AdaptiveSamplingTrafficSelector;
+import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.logging.ConditionEvaluationReportLoggingListener;
@@ -30,4 +33,25 @@ class LibraryAutoConfigurationMetricsLoggerTest {
                     .doesNotHaveBean(MetricsClient.class);
             });
     }
+
+    @Test
+    void adaptiveSamplingIsNotConfiguredByDefault() {
+        contextRunner
+            .run(context -> {
+                assertThat(context).doesNotHaveBean(AdaptiveSampleRates.class);
+                assertThat(context.getBean(TrafficSelector.class))
+                    .isNotInstanceOf(AdaptiveSamplingTrafficSelector.class);
+            });
+    }
+
+    @Test
+    void adaptiveSamplingIsConfiguredWithMinSampleRateBelowOne() {
+        contextRunner
+            .withPropertyValues("openapi.validation.adaptive-sampling-min-sample-rate=0.1")
+            .run(context -> {
+                assertThat(context).hasSingleBean(AdaptiveSampleRates.class);
+                assertThat(context.getBean(TrafficSelector.class))
+                    .isInstanceOf(AdaptiveSamplingTrafficSelector.class);
+            });
+    }
 }
@@ -2,6 +2,7 @@ package com.getyourguide.openapi.validation.autoconfigure;
 
 import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 
+import com.getyourguide.openapi.validation.OpenApiValidationApplicationProperties;
 import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
 import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
 import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
@@ -19,6 +20,7 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 @AllArgsConstructor
 public class SpringWebLibraryAutoConfiguration {
+    private final OpenApiValidationApplicationProperties properties;
 
     @Bean
     @ConditionalOnWebApplication(type = Type.SERVLET)
@@ -29,7 +31,10 @@ public class SpringWebLibraryAutoConfiguration {
     @Bean
     @ConditionalOnWebApplication(type = Type.SERVLET)
     public ContentCachingWrapperFactory contentCachingWrapperFactory() {
-        return new ContentCachingWrapperFactory();
+        return new ContentCachingWrapperFactory(
+            properties.getMaxRequestBodyBytes(),
+            properties.getMaxResponseBodyBytes()
+        );
     }
 
     @Bean
@@ -1,19 +1,36 @@
 package com.getyourguide.openapi.validation.factory;
 
+import com.getyourguide.openapi.validation.filter.LimitedContentCachingResponseWrapper;
 import com.getyourguide.openapi.validation.filter.MultiReadContentCachingRequestWrapper;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import javax.annotation.Nullable;
+import lombok.AllArgsConstructor;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 import org.springframework.web.util.WebUtils;
 
+@AllArgsConstructor
 public class ContentCachingWrapperFactory {
+    /**
+     * Maximum request body size that is cached for validation, 0 for no limit.
+     */
+    private final int maxRequestBodyBytes;
+
+    /**
+     * Maximum response body size that is cached for validation, 0 for no limit.
+     */
+    private final int maxResponseBodyBytes;
+
+    public ContentCachingWrapperFactory() {
+        this(0, 0);
+    }
+
     public MultiReadContentCachingRequestWrapper buildContentCachingRequestWrapper(HttpServletRequest request) {
         if (request instanceof MultiReadContentCachingRequestWrapper) {
             return (MultiReadContentCachingRequestWrapper) request;
         }
 
-        return new MultiReadContentCachingRequestWrapper(request, 0 /* no limit */);
+        return new MultiReadContentCachingRequestWrapper(request, maxRequestBodyBytes);
     }
 
     public ContentCachingResponseWrapper buildContentCachingResponseWrapper(HttpServletResponse response) {
@@ -22,6 +39,9 @@ public class ContentCachingWrapperFactory {
             return cachingResponse;
         }
 
+        if (maxResponseBodyBytes > 0) {
+            return new LimitedContentCachingResponseWrapper(response, maxResponseBodyBytes);
+        }
         return new ContentCachingResponseWrapper(response);
     }
 
@@ -0,0 +1,81 @@
+package com.getyourguide.openapi.validation.factory;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.util.AbstractMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * {@link RequestMetaData} backed by the live request, used to decide whether a request gets validated at all.
+ *
+ * <p>Headers are read from the request on access and the URI is only built when first requested, so requests that are
+ * not sampled neither copy headers nor build a URI. The path is read from the request directly. As the request may be
+ * recycled once it completed, this must not be kept beyond the request. Use
+ * {@link ServletMetaDataFactory#buildRequestMetaData(HttpServletRequest)} for validation.</p>
+ */
+public class LazyServletRequestMetaData extends RequestMetaData {
+    private final HttpServletRequest request;
+    private final Map<String, String> headers;
+    private URI uri;
+
+    public LazyServletRequestMetaData(HttpServletRequest request) {
+        super(request.getMethod(), null, null);
+        this.request = request;
+        this.headers = new LiveHeaders(request);
+    }
+
+    @Override
+    public URI getUri() {
+        if (uri == null) {
+            uri = ServletUriComponentsBuilder.fromRequest(request).build().toUri();
+        }
+        return uri;
+    }
+
+    /**
+     * Returns the request URI of the servlet request, which is what the path of {@link #getUri()} is built from.
+     */
+    @Override
+    public String getPath() {
+        return request.getRequestURI();
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    private static class LiveHeaders extends AbstractMap<String, String> {
+        private final HttpServletRequest request;
+
+        public LiveHeaders(HttpServletRequest request) {
+            this.request = request;
+        }
+
+        @Override
+        public String get(Object key) {
+            // Header lookups of the servlet API are case-insensitive
+            return key instanceof String name ? request.getHeader(name) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            var headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+            var headerNames = request.getHeaderNames();
+            while (headerNames != null && headerNames.hasMoreElements()) {
+                var headerName = headerNames.nextElement();
+                headers.put(headerName, request.getHeader(headerName));
+            }
+            return headers.entrySet();
+        }
+    }
+}
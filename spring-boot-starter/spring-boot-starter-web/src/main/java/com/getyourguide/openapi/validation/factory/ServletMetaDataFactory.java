@@ -1,10 +1,10 @@
 package com.getyourguide.openapi.validation.factory;
 
+import com.getyourguide.openapi.validation.api.model.Headers;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import java.util.TreeMap;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 public class ServletMetaDataFactory {
@@ -16,6 +16,15 @@ public class ServletMetaDataFactory {
         return new RequestMetaData(request.getMethod(), uri, getHeaders(request));
     }
 
+    /**
+     * Builds request meta data that reads from the live request and only does work on access.
+     *
+     * <p>Meant for the sampling decision, requests that are validated need {@link #buildRequestMetaData}.</p>
+     */
+    public RequestMetaData buildLazyRequestMetaData(HttpServletRequest request) {
+        return new LazyServletRequestMetaData(request);
+    }
+
     public ResponseMetaData buildResponseMetaData(HttpServletResponse response) {
         return buildResponseMetaData(response, null);
     }
@@ -25,22 +34,27 @@ public class ServletMetaDataFactory {
         return new ResponseMetaData(status, response.getContentType(), getHeaders(response));
     }
 
-    private static TreeMap<String, String> getHeaders(HttpServletRequest request) {
-        var headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+    private static Headers getHeaders(HttpServletRequest request) {
+        var headers = Headers.builder();
         var headerNames = request.getHeaderNames();
         while (headerNames.hasMoreElements()) {
             var headerName = headerNames.nextElement();
-            headers.put(headerName, request.getHeader(headerName));
+            var values = request.getHeaders(headerName);
+            while (values.hasMoreElements()) {
+                headers.add(headerName, values.nextElement());
+            }
         }
-        return headers;
+        return headers.build();
     }
 
-    private static TreeMap<String, String> getHeaders(HttpServletResponse response) {
-        var headers = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
+    private static Headers getHeaders(HttpServletResponse response) {
+        var headers = Headers.builder();
         for (var headerName : response.getHeaderNames()) {
-            headers.put(headerName, response.getHeader(headerName));
+            for (var value : response.getHeaders(headerName)) {
+                headers.add(headerName, value);
+            }
         }
-        headers.put(HEADER_CONTENT_TYPE, response.getContentType()); // This one is not yet in the headers
-        return headers;
+        headers.set(HEADER_CONTENT_TYPE, response.getContentType()); // This one is not yet in the headers
+        return headers.build();
     }
 }
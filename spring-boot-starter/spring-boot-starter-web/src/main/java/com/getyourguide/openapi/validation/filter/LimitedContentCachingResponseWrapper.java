@@ -0,0 +1,134 @@
+package com.getyourguide.openapi.validation.filter;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import lombok.Getter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * {@link ContentCachingResponseWrapper} that stops caching once the body exceeds a limit.
+ *
+ * <p>On overflow the cached part is copied to the response and everything written afterwards goes straight to the
+ * underlying response, so large bodies are not held in memory.</p>
+ */
+public class LimitedContentCachingResponseWrapper extends ContentCachingResponseWrapper {
+    private final int contentCacheLimit;
+
+    @Getter
+    private boolean contentOverflow = false;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    public LimitedContentCachingResponseWrapper(HttpServletResponse response, int contentCacheLimit) {
+        super(response);
+        this.contentCacheLimit = contentCacheLimit;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new LimitedOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            var charset = Charset.forName(getCharacterEncoding());
+            writer = new FlushingPrintWriter(new OutputStreamWriter(getOutputStream(), charset));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (contentOverflow) {
+            getResponse().flushBuffer();
+        }
+    }
+
+    private void overflow() throws IOException {
+        contentOverflow = true;
+        copyBodyToResponse(false);
+    }
+
+    private class LimitedOutputStream extends ServletOutputStream {
+        private final ServletOutputStream cachingStream;
+
+        public LimitedOutputStream(ServletOutputStream cachingStream) {
+            this.cachingStream = cachingStream;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!contentOverflow && getContentSize() + 1 > contentCacheLimit) {
+                overflow();
+            }
+            if (contentOverflow) {
+                getResponse().getOutputStream().write(b);
+            } else {
+                cachingStream.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!contentOverflow && getContentSize() + len > contentCacheLimit) {
+                overflow();
+            }
+            if (contentOverflow) {
+                getResponse().getOutputStream().write(b, off, len);
+            } else {
+                cachingStream.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (contentOverflow) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            return cachingStream.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            cachingStream.setWriteListener(writeListener);
+        }
+    }
+
+    private static class FlushingPrintWriter extends PrintWriter {
+        public FlushingPrintWriter(OutputStreamWriter writer) {
+            super(writer);
+        }
+
+        @Override
+        public void write(char[] buf, int off, int len) {
+            super.write(buf, off, len);
+            super.flush();
+        }
+
+        @Override
+        public void write(String s, int off, int len) {
+            super.write(s, off, len);
+            super.flush();
+        }
+
+        @Override
+        public void write(int c) {
+            super.write(c);
+            super.flush();
+        }
+    }
+}
@@ -7,19 +7,48 @@ import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 
 public class MultiReadContentCachingRequestWrapper extends ContentCachingRequestWrapper {
+    private final int contentCacheLimit;
 
+    @Getter
+    private boolean contentOverflow = false;
+
+    /**
+     * Byte that was read beyond the cache limit to detect the overflow and that still needs to be replayed.
+     */
+    @Nullable
+    private byte[] overflowBytes;
+
+    /**
+     * Creates a wrapper that caches at most {@code contentCacheLimit} bytes of the body.
+     *
+     * @param contentCacheLimit maximum number of bytes to cache, 0 for no limit
+     */
     public MultiReadContentCachingRequestWrapper(HttpServletRequest request, int contentCacheLimit) {
         super(request, contentCacheLimit);
+        this.contentCacheLimit = contentCacheLimit;
     }
 
     @Override
     public ServletInputStream getInputStream() throws IOException {
+        if (contentOverflow) {
+            if (overflowBytes != null) {
+                // The body was read up to the limit for validation only, replay it before continuing with the rest
+                var replayBytes = concat(getContentAsByteArray(), overflowBytes);
+                overflowBytes = null;
+                return new CachedServletInputStream(replayBytes, super.getInputStream());
+            }
+            return super.getInputStream();
+        }
+
         var cachedContent = getContentAsByteArray();
         if (cachedContent.length > 0) {
-            return new CachedServletInputStream(cachedContent);
+            return new CachedServletInputStream(cachedContent, null);
         }
 
         return super.getInputStream();
@@ -30,21 +59,90 @@ public class MultiReadContentCachingRequestWrapper extends ContentCachingRequest
         return new BufferedReader(new InputStreamReader(getInputStream()));
     }
 
+    /**
+     * Returns the body if it does not exceed the content cache limit, reading it if nobody did so far.
+     *
+     * <p>If the body is read here, at most one byte more than the limit is consumed. Those bytes are replayed to
+     * later readers together with the rest of the body.</p>
+     *
+     * @return the body or null if it exceeds the content cache limit
+     */
+    @Nullable
+    public byte[] getContentWithinLimit() throws IOException {
+        if (contentOverflow) {
+            return null;
+        }
+
+        var cachedContent = getContentAsByteArray();
+        if (cachedContent.length > 0) {
+            return cachedContent;
+        }
+
+        if (contentCacheLimit <= 0) {
+            return StreamUtils.copyToByteArray(getInputStream());
+        }
+
+        if (getContentLengthLong() > contentCacheLimit) {
+            contentOverflow = true;
+            return null;
+        }
+
+        var inputStream = super.getInputStream();
+        var content = inputStream.readNBytes(contentCacheLimit);
+        if (content.length == contentCacheLimit) {
+            var nextByte = inputStream.read();
+            if (nextByte != -1) {
+                contentOverflow = true;
+                overflowBytes = new byte[] {(byte) nextByte};
+                return null;
+            }
+        }
+        return content;
+    }
+
+    @Override
+    protected void handleContentOverflow(int contentCacheLimit) {
+        contentOverflow = true;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        var result = new byte[first.length + second.length];
+        System.arraycopy(first, 0, result, 0, first.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
     private static class CachedServletInputStream extends ServletInputStream {
         private final ByteArrayInputStream buffer;
+        @Nullable
+        private final ServletInputStream remaining;
 
-        public CachedServletInputStream(byte[] contents) {
+        public CachedServletInputStream(byte[] contents, @Nullable ServletInputStream remaining) {
             this.buffer = new ByteArrayInputStream(contents);
+            this.remaining = remaining;
         }
 
         @Override
         public int read() throws IOException {
-            return buffer.read();
+            var result = buffer.read();
+            if (result == -1 && remaining != null) {
+                return remaining.read();
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            var result = buffer.read(b, off, len);
+            if (result == -1 && remaining != null) {
+                return remaining.read(b, off, len);
+            }
+            return result;
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return buffer.available() == 0 && (remaining == null || remaining.isFinished());
         }
 
         @Override
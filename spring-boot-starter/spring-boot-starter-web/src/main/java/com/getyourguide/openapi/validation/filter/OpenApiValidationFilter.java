@@ -27,14 +27,18 @@ public class OpenApiValidationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
-        var requestMetaData = metaDataFactory.buildRequestMetaData(request);
-        request.setAttribute(ATTRIBUTE_REQUEST_META_DATA, requestMetaData);
-        if (!validator.isReady() || !trafficSelector.shouldRequestBeValidated(requestMetaData)) {
+        // Decide on lazy meta data first, so requests that are not sampled don't copy headers or build the URI
+        var lazyRequestMetaData = metaDataFactory.buildLazyRequestMetaData(request);
+        if (!validator.isReady() || !trafficSelector.shouldRequestBeValidated(lazyRequestMetaData)) {
+            request.setAttribute(ATTRIBUTE_REQUEST_META_DATA, lazyRequestMetaData);
             request.setAttribute(ATTRIBUTE_SKIP_VALIDATION, true);
             filterChain.doFilter(request, response);
             return;
         }
 
+        // Validation may run after the request completed, so it gets a copy that does not depend on the live request
+        request.setAttribute(ATTRIBUTE_REQUEST_META_DATA, metaDataFactory.buildRequestMetaData(request));
+
         var requestToUse = contentCachingWrapperFactory.buildContentCachingRequestWrapper(request);
         var responseToUse = contentCachingWrapperFactory.buildContentCachingResponseWrapper(response);
         filterChain.doFilter(requestToUse, responseToUse);
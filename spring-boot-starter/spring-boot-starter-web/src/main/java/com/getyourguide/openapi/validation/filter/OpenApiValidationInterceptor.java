@@ -17,7 +17,6 @@ import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatusCode;
-import org.springframework.util.StreamUtils;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.AsyncHandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
@@ -144,19 +143,36 @@ public class OpenApiValidationInterceptor implements AsyncHandlerInterceptor {
         }
 
         var requestBody = request.getContentType() != null ? readBodyCatchingException(request) : null;
+        if (requestBody == null && request.isContentOverflow()) {
+            return validateRequestSkippingBody(requestMetaData, responseMetaData, runType);
+        }
+
+        if (runType == RunType.ASYNC) {
+            validator.validateRequestObjectAsync(
+                requestMetaData, responseMetaData, requestBody, StandardCharsets.UTF_8, openApiViolationHandler);
+            return List.of();
+        } else {
+            return validator.validateRequestObject(requestMetaData, responseMetaData, requestBody, StandardCharsets.UTF_8);
+        }
+    }
 
+    private List<OpenApiViolation> validateRequestSkippingBody(
+        RequestMetaData requestMetaData,
+        @Nullable ResponseMetaData responseMetaData,
+        RunType runType
+    ) {
         if (runType == RunType.ASYNC) {
-            validator
-                .validateRequestObjectAsync(requestMetaData, responseMetaData, requestBody, openApiViolationHandler);
+            validator.validateRequestObjectSkippingBodyAsync(requestMetaData, responseMetaData, openApiViolationHandler);
             return List.of();
         } else {
-            return validator.validateRequestObject(requestMetaData, requestBody);
+            return validator.validateRequestObjectSkippingBody(requestMetaData, responseMetaData);
         }
     }
 
-    private static String readBodyCatchingException(MultiReadContentCachingRequestWrapper request) {
+    @Nullable
+    private static byte[] readBodyCatchingException(MultiReadContentCachingRequestWrapper request) {
         try {
-            return StreamUtils.copyToString(request.getInputStream(), StandardCharsets.UTF_8);
+            return request.getContentWithinLimit();
         } catch (IOException e) {
             return null;
         }
@@ -176,16 +192,33 @@ public class OpenApiValidationInterceptor implements AsyncHandlerInterceptor {
             return List.of();
         }
 
-        var responseBody = response.getContentType() != null
-            ? new String(response.getContentAsByteArray(), StandardCharsets.UTF_8)
-            : null;
+        if (response instanceof LimitedContentCachingResponseWrapper limitedResponse
+            && limitedResponse.isContentOverflow()) {
+            return validateResponseSkippingBody(requestMetaData, responseMetaData, runType);
+        }
+
+        var responseBody = response.getContentType() != null ? response.getContentAsByteArray() : null;
+
+        if (runType == RunType.ASYNC) {
+            validator.validateResponseObjectAsync(
+                requestMetaData, responseMetaData, responseBody, StandardCharsets.UTF_8, openApiViolationHandler);
+            return List.of();
+        } else {
+            return validator
+                .validateResponseObject(requestMetaData, responseMetaData, responseBody, StandardCharsets.UTF_8);
+        }
+    }
 
+    private List<OpenApiViolation> validateResponseSkippingBody(
+        RequestMetaData requestMetaData,
+        ResponseMetaData responseMetaData,
+        RunType runType
+    ) {
         if (runType == RunType.ASYNC) {
-            validator
-                .validateResponseObjectAsync(requestMetaData, responseMetaData, responseBody, openApiViolationHandler);
+            validator.validateResponseObjectSkippingBodyAsync(requestMetaData, responseMetaData, openApiViolationHandler);
             return List.of();
         } else {
-            return validator.validateResponseObject(requestMetaData, responseMetaData, responseBody);
+            return validator.validateResponseObjectSkippingBody(requestMetaData, responseMetaData);
         }
     }
 
@@ -0,0 +1,68 @@
+package com.getyourguide.openapi.validation.factory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+import java.net.URI;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class LazyServletRequestMetaDataTest {
+
+    @Test
+    public void testDoesNotReadRequestUntilAccessed() {
+        var request = spy(buildRequest());
+
+        new LazyServletRequestMetaData(request);
+
+        verify(request, never()).getHeaderNames();
+        verify(request, never()).getRequestURL();
+    }
+
+    @Test
+    public void testHeadersAreCaseInsensitive() {
+        var metaData = new LazyServletRequestMetaData(buildRequest());
+
+        assertEquals("application/json", metaData.getContentType());
+        assertEquals("agent", metaData.getHeaders().get("user-agent"));
+        assertNull(metaData.getHeaders().get("X-Missing"));
+        assertFalse(metaData.getHeaders().containsKey("X-Missing"));
+        assertEquals(Map.of("Content-Type", "application/json", "User-Agent", "agent"), Map.copyOf(metaData.getHeaders()));
+    }
+
+    @Test
+    public void testUriIsBuiltOnceAndMatchesEagerMetaData() {
+        var request = buildRequest();
+        var metaData = new LazyServletRequestMetaData(request);
+
+        assertEquals(URI.create("http://localhost/test?date=2023-11-20"), metaData.getUri());
+        assertSame(metaData.getUri(), metaData.getUri());
+        assertEquals(new ServletMetaDataFactory().buildRequestMetaData(request).getUri(), metaData.getUri());
+        assertEquals("GET", metaData.getMethod());
+    }
+
+    @Test
+    public void testPathIsReadWithoutBuildingUri() {
+        var request = spy(buildRequest());
+        request.setRequestURI("/test/a%20b");
+        var metaData = new LazyServletRequestMetaData(request);
+
+        assertEquals("/test/a%20b", metaData.getPath());
+        verify(request, never()).getRequestURL();
+        assertEquals(metaData.getUri().getPath(), metaData.getPath());
+    }
+
+    private static MockHttpServletRequest buildRequest() {
+        var request = new MockHttpServletRequest("GET", "/test");
+        request.setQueryString("date=2023-11-20");
+        request.addHeader("Content-Type", "application/json");
+        request.addHeader("User-Agent", "agent");
+        return request;
+    }
+}
@@ -64,6 +64,7 @@ public class BaseFilterTest {
 
         var requestMetaData = mock(RequestMetaData.class);
         when(metaDataFactory.buildRequestMetaData(request)).thenReturn(requestMetaData);
+        when(metaDataFactory.buildLazyRequestMetaData(request)).thenReturn(requestMetaData);
         when(request.getAttribute(OpenApiValidationFilter.ATTRIBUTE_REQUEST_META_DATA)).thenReturn(requestMetaData);
 
         var responseMetaData = mock(ResponseMetaData.class);
@@ -105,7 +106,7 @@ public class BaseFilterTest {
     }
 
     private MultiReadContentCachingRequestWrapper mockContentCachingRequest(
-        HttpServletRequest request,
+        MultiReadContentCachingRequestWrapper request,
         MockConfiguration configuration
     ) {
         var cachingRequest = mock(MultiReadContentCachingRequestWrapper.class);
@@ -116,10 +117,14 @@ public class BaseFilterTest {
                 var sourceStream = new ByteArrayInputStream(configuration.requestBody.getBytes(StandardCharsets.UTF_8));
                 when(request.getContentType()).thenReturn("application/json");
                 when(request.getInputStream()).thenReturn(new DelegatingServletInputStream(sourceStream));
+                when(request.getContentWithinLimit())
+                    .thenReturn(configuration.requestBody.getBytes(StandardCharsets.UTF_8));
 
                 sourceStream = new ByteArrayInputStream(configuration.requestBody.getBytes(StandardCharsets.UTF_8));
                 when(cachingRequest.getContentType()).thenReturn("application/json");
                 when(cachingRequest.getInputStream()).thenReturn(new DelegatingServletInputStream(sourceStream));
+                when(cachingRequest.getContentWithinLimit())
+                    .thenReturn(configuration.requestBody.getBytes(StandardCharsets.UTF_8));
             } catch (IOException e) {
                 throw new IllegalStateException(e);
             }
@@ -0,0 +1,83 @@
+package com.getyourguide.openapi.validation.filter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+
+class ContentCachingWrapperLimitTest {
+    private static final String BODY = "{\"value\":\"0123456789\"}";
+
+    @Test
+    public void testRequestWithinLimitIsCached() throws Exception {
+        var request = new MultiReadContentCachingRequestWrapper(buildRequest(), BODY.length());
+
+        assertArrayEquals(BODY.getBytes(UTF_8), request.getContentWithinLimit());
+        assertFalse(request.isContentOverflow());
+        assertEquals(BODY, StreamUtils.copyToString(request.getInputStream(), UTF_8));
+    }
+
+    @Test
+    public void testRequestAboveLimitIsReplayedUntouched() throws Exception {
+        var servletRequest = new HttpServletRequestWrapper(buildRequest()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1; // e.g. chunked transfer encoding
+            }
+        };
+        var request = new MultiReadContentCachingRequestWrapper(servletRequest, 5);
+
+        assertNull(request.getContentWithinLimit());
+        assertTrue(request.isContentOverflow());
+        assertEquals(BODY, StreamUtils.copyToString(request.getInputStream(), UTF_8));
+    }
+
+    @Test
+    public void testRequestAboveLimitByContentLengthIsNotRead() throws Exception {
+        var request = new MultiReadContentCachingRequestWrapper(buildRequest(), 5);
+
+        assertNull(request.getContentWithinLimit());
+        assertTrue(request.isContentOverflow());
+        assertEquals(BODY, StreamUtils.copyToString(request.getInputStream(), UTF_8));
+    }
+
+    @Test
+    public void testResponseWithinLimitIsCached() throws Exception {
+        var servletResponse = new MockHttpServletResponse();
+        var response = new LimitedContentCachingResponseWrapper(servletResponse, BODY.length());
+
+        response.getOutputStream().write(BODY.getBytes(UTF_8));
+
+        assertFalse(response.isContentOverflow());
+        assertEquals(BODY, new String(response.getContentAsByteArray(), UTF_8));
+        assertEquals(0, servletResponse.getContentAsByteArray().length);
+    }
+
+    @Test
+    public void testResponseAboveLimitIsPassedThrough() throws Exception {
+        var servletResponse = new MockHttpServletResponse();
+        var response = new LimitedContentCachingResponseWrapper(servletResponse, 5);
+
+        response.getOutputStream().write("{\"v".getBytes(UTF_8));
+        response.getWriter().write(BODY.substring(3));
+        response.copyBodyToResponse();
+
+        assertTrue(response.isContentOverflow());
+        assertEquals(BODY, servletResponse.getContentAsString(UTF_8));
+    }
+
+    private static MockHttpServletRequest buildRequest() {
+        var request = new MockHttpServletRequest("POST", "/test");
+        request.setContentType("application/json");
+        request.setContent(BODY.getBytes(UTF_8));
+        return request;
+    }
+}
@@ -1,6 +1,8 @@
 package com.getyourguide.openapi.validation.filter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import jakarta.servlet.FilterChain;
@@ -33,6 +35,7 @@ class OpenApiValidationFilterTest extends BaseFilterTest {
 
         verifyChainCalled(mockData.filterChain(), mockData.request(), mockData.response());
         verifyValidationDisabledPerAttribute(mockData.request());
+        verify(metaDataFactory, never()).buildRequestMetaData(any());
     }
 
     @Test
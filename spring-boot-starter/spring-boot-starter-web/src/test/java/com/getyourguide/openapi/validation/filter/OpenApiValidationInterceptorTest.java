@@ -1,9 +1,10 @@
 package com.getyourguide.openapi.validation.filter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -94,7 +95,7 @@ class OpenApiValidationInterceptorTest extends BaseFilterTest {
     @Test
     public void testShouldFailOnRequestViolationWithViolation() {
         var mockData = mockSetup(MockConfiguration.builder().shouldFailOnRequestViolation(true).build());
-        when(validator.validateRequestObject(eq(mockData.requestMetaData()), eq(REQUEST_BODY)))
+        when(validator.validateRequestObject(eq(mockData.requestMetaData()), isNull(), eq(bytes(REQUEST_BODY)), eq(UTF_8)))
             .thenReturn(List.of(mock(OpenApiViolation.class)));
 
         assertThrows(ResponseStatusException.class,
@@ -106,6 +107,21 @@ class OpenApiValidationInterceptorTest extends BaseFilterTest {
         verifyNoResponseValidation();
     }
 
+    @Test
+    public void testSkipsBodyValidationIfRequestBodyTooLarge() throws Exception {
+        var mockData = mockSetup(MockConfiguration.builder().build());
+        var request = (MultiReadContentCachingRequestWrapper) mockData.request();
+        when(request.getContentWithinLimit()).thenReturn(null);
+        when(request.isContentOverflow()).thenReturn(true);
+
+        httpInterceptor.postHandle(mockData.request(), mockData.response(), new Object(), null);
+
+        verify(validator).validateRequestObjectSkippingBodyAsync(
+            eq(mockData.requestMetaData()), eq(mockData.responseMetaData()), eq(openApiViolationHandler));
+        verify(validator, never()).validateRequestObjectAsync(any(), any(), any(byte[].class), any(), any());
+        verifyResponseValidatedAsync(mockData);
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"GET", "POST", "PUT", "PATCH", "DELETE"})
     public void testShouldSupportBodyOnGetRequests(String requestMethod) {
@@ -125,7 +141,7 @@ class OpenApiValidationInterceptorTest extends BaseFilterTest {
         when(
             validator.validateResponseObject(
                 eq(mockData.requestMetaData()),
-                eq(mockData.responseMetaData()), eq(REQUEST_BODY)
+                eq(mockData.responseMetaData()), eq(bytes(REQUEST_BODY)), eq(UTF_8)
             )
         ).thenReturn(List.of(mock(OpenApiViolation.class)));
 
@@ -145,13 +161,13 @@ class OpenApiValidationInterceptorTest extends BaseFilterTest {
     }
 
     private void verifyNoRequestValidation() {
-        verify(validator, never()).validateRequestObjectAsync(any(), any(), anyString(), eq(openApiViolationHandler));
-        verify(validator, never()).validateRequestObject(any(), anyString());
+        verify(validator, never()).validateRequestObjectAsync(any(), any(), any(byte[].class), any(), eq(openApiViolationHandler));
+        verify(validator, never()).validateRequestObject(any(), any(), any(byte[].class), any());
     }
 
     private void verifyNoResponseValidation() {
-        verify(validator, never()).validateResponseObjectAsync(any(), any(), anyString(), eq(openApiViolationHandler));
-        verify(validator, never()).validateResponseObject(any(), any(), anyString());
+        verify(validator, never()).validateResponseObjectAsync(any(), any(), any(byte[].class), any(), eq(openApiViolationHandler));
+        verify(validator, never()).validateResponseObject(any(), any(), any(byte[].class), any());
     }
 
     private void verifyRequestValidatedAsync(MockSetupData mockData) {
@@ -162,26 +178,37 @@ class OpenApiValidationInterceptorTest extends BaseFilterTest {
         verify(validator).validateRequestObjectAsync(
             eq(mockData.requestMetaData()),
             eq(mockData.responseMetaData()),
-            eq(requestBody),
+            eq(bytes(requestBody)),
+            eq(UTF_8),
             eq(openApiViolationHandler)
         );
     }
 
     private void verifyRequestValidatedSync(MockSetupData mockData) {
-        verify(validator).validateRequestObject(eq(mockData.requestMetaData()), eq(REQUEST_BODY));
+        verify(validator)
+            .validateRequestObject(eq(mockData.requestMetaData()), isNull(), eq(bytes(REQUEST_BODY)), eq(UTF_8));
     }
 
     private void verifyResponseValidatedAsync(MockSetupData mockData) {
         verify(validator).validateResponseObjectAsync(
             eq(mockData.requestMetaData()),
             eq(mockData.responseMetaData()),
-            eq(RESPONSE_BODY),
+            eq(bytes(RESPONSE_BODY)),
+            eq(UTF_8),
             eq(openApiViolationHandler)
         );
     }
 
     private void verifyResponseValidatedSync(MockSetupData mockData) {
-        verify(validator)
-            .validateResponseObject(eq(mockData.requestMetaData()), eq(mockData.responseMetaData()), eq(RESPONSE_BODY));
+        verify(validator).validateResponseObject(
+            eq(mockData.requestMetaData()),
+            eq(mockData.responseMetaData()),
+            eq(bytes(RESPONSE_BODY)),
+            eq(UTF_8)
+        );
+    }
+
+    private static byte[] bytes(String body) {
+        return body.getBytes(UTF_8);
     }
 }
@@ -47,7 +47,7 @@ public class ExceptionsNoExceptionHandlerTest {
                 status().is4xxClientError(),
                 content().string(Matchers.blankOrNullString())
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         // No body as this one is not handled by an exception handler and therefore default body is added by spring boot
         assertEquals(1, openApiViolationLogger.getViolations().size());
@@ -66,7 +66,7 @@ public class ExceptionsNoExceptionHandlerTest {
                 content().string(Matchers.blankOrNullString()),
                 result -> assertEquals(WithResponseStatusException.class, result.getResolvedException().getClass())
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         // No body as this one is not handled by an exception handler and therefore default body is added by spring boot
         assertEquals(1, openApiViolationLogger.getViolations().size());
@@ -85,7 +85,7 @@ public class ExceptionsNoExceptionHandlerTest {
                 .perform(get("/test").queryParam("testCase", "throwExceptionWithoutResponseStatus"))
                 .andExpect(status().is5xxServerError());
         });
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         var cause = exception.getCause();
         assertEquals(WithoutResponseStatusException.class, cause.getClass());
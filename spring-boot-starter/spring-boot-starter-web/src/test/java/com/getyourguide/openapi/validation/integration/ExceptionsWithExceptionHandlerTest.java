@@ -85,7 +85,7 @@ public class ExceptionsWithExceptionHandlerTest {
                 status().is5xxServerError(),
                 content().string(Matchers.blankOrNullString())
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         // No body as this one is not handled by an exception handler and therefore default body is added by spring boot
         assertEquals(1, openApiViolationLogger.getViolations().size());
@@ -82,7 +82,7 @@ public class FailOnViolationIntegrationTest {
                 status().is5xxServerError(),
                 content().string(Matchers.blankOrNullString())
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -60,7 +60,7 @@ public class OpenApiValidationIntegrationTest {
                 status().isOk(),
                 jsonPath("$.value").value("invalid-response-value!")
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -76,7 +76,7 @@ public class OpenApiValidationIntegrationTest {
                 status().isNoContent(),
                 content().string(Matchers.blankOrNullString())
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -96,7 +96,7 @@ public class OpenApiValidationIntegrationTest {
                 status().isOk(),
                 jsonPath("$.value").value("1")
             );
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(2);
 
         var violations = openApiViolationLogger.getViolations();
         assertEquals(2, violations.size());
@@ -2,6 +2,7 @@ package com.getyourguide.openapi.validation.autoconfigure;
 
 import static org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 
+import com.getyourguide.openapi.validation.OpenApiValidationApplicationProperties;
 import com.getyourguide.openapi.validation.api.log.OpenApiViolationHandler;
 import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
 import com.getyourguide.openapi.validation.core.OpenApiRequestValidator;
@@ -16,10 +17,17 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @AllArgsConstructor
 public class SpringWebFluxLibraryAutoConfiguration {
+    private final OpenApiValidationApplicationProperties properties;
+
     @Bean
     @ConditionalOnWebApplication(type = Type.REACTIVE)
     public DecoratorBuilder decoratorBuilder(TrafficSelector trafficSelector, ReactiveMetaDataFactory metaDataFactory) {
-        return new DecoratorBuilder(trafficSelector, metaDataFactory);
+        return new DecoratorBuilder(
+            trafficSelector,
+            metaDataFactory,
+            properties.getMaxRequestBodyBytes(),
+            properties.getMaxResponseBodyBytes()
+        );
     }
 
     @Bean
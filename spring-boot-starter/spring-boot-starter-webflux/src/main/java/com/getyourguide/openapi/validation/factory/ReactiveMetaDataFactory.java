@@ -1,9 +1,8 @@
 package com.getyourguide.openapi.validation.factory;
 
+import com.getyourguide.openapi.validation.api.model.Headers;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.model.ResponseMetaData;
-import java.util.Map;
-import java.util.TreeMap;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -28,9 +27,9 @@ public class ReactiveMetaDataFactory {
         );
     }
 
-    private Map<String, String> buildCaseInsensitiveHeaders(HttpHeaders headers) {
-        var map = new TreeMap<String, String>(String.CASE_INSENSITIVE_ORDER);
-        headers.forEach((key, values) -> values.stream().findFirst().ifPresent(value -> map.put(key, value)));
-        return map;
+    private Headers buildCaseInsensitiveHeaders(HttpHeaders headers) {
+        var builder = Headers.builder();
+        headers.forEach((key, values) -> values.forEach(value -> builder.add(key, value)));
+        return builder.build();
     }
 }
@@ -10,6 +10,7 @@ import com.getyourguide.openapi.validation.factory.ReactiveMetaDataFactory;
 import com.getyourguide.openapi.validation.filter.decorator.BodyCachingServerHttpRequestDecorator;
 import com.getyourguide.openapi.validation.filter.decorator.BodyCachingServerHttpResponseDecorator;
 import com.getyourguide.openapi.validation.filter.decorator.DecoratorBuilder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.AllArgsConstructor;
@@ -69,9 +70,10 @@ public class OpenApiValidationWebFilter implements WebFilter {
                             validateRequest(requestDecorated, requestMetaData, responseMetaData, RunType.ASYNC);
                         violations.forEach(openApiViolationHandler::onOpenApiViolation);
                     }
-                    if (!alreadyDidValidation.response) {
-                        var violations = validateResponse(
-                            requestMetaData, responseMetaData, responseDecorated.getCachedBody(), RunType.ASYNC);
+                    // A body written before the fail-on-violation listener could run is only reported
+                    if (!alreadyDidValidation.response || responseDecorated.isBodyPassedThrough()) {
+                        var violations =
+                            validateResponse(requestMetaData, responseMetaData, responseDecorated, RunType.ASYNC);
                         violations.forEach(openApiViolationHandler::onOpenApiViolation);
                     }
                 }
@@ -83,8 +85,19 @@ public class OpenApiValidationWebFilter implements WebFilter {
         BodyCachingServerHttpRequestDecorator request,
         AlreadyDidValidation alreadyDidValidation
     ) {
-        if (!trafficSelector.shouldFailOnRequestViolation(requestMetaData)
-            || !request.getHeaders().containsHeader("Content-Type")
+        if (!trafficSelector.shouldFailOnRequestViolation(requestMetaData)) {
+            return Mono.just(alreadyDidValidation);
+        }
+
+        if (request.isBodyTooLarge()) {
+            // Body is known to exceed the limit upfront, so there is nothing to pre-read for validation
+            var violations = validateRequest(request, requestMetaData, null, RunType.SYNC);
+            throwStatusExceptionOnViolation(violations, 400, "Request validation failed");
+            alreadyDidValidation.request = true;
+            return Mono.just(alreadyDidValidation);
+        }
+
+        if (!request.getHeaders().containsHeader("Content-Type")
             || !request.getHeaders().containsHeader("Content-Length")) {
             return Mono.just(alreadyDidValidation);
         }
@@ -121,7 +134,7 @@ public class OpenApiValidationWebFilter implements WebFilter {
             var violations = validateResponse(
                 requestMetaData,
                 metaDataFactory.buildResponseMetaData(responseDecorated),
-                responseDecorated.getCachedBody(),
+                responseDecorated,
                 RunType.SYNC
             );
             violations.forEach(openApiViolationHandler::onOpenApiViolation);
@@ -140,11 +153,29 @@ public class OpenApiValidationWebFilter implements WebFilter {
             return List.of();
         }
 
+        if (request.isBodyTooLarge()) {
+            return validateRequestSkippingBody(requestMetaData, responseMetaData, runType);
+        }
+
         if (runType == RunType.SYNC) {
-            return validator.validateRequestObject(requestMetaData, responseMetaData, request.getCachedBody());
+            return validator.validateRequestObject(
+                requestMetaData, responseMetaData, request.getCachedBody(), StandardCharsets.UTF_8);
         } else {
             validator.validateRequestObjectAsync(
-                requestMetaData, responseMetaData, request.getCachedBody(), openApiViolationHandler);
+                requestMetaData, responseMetaData, request.getCachedBody(), StandardCharsets.UTF_8, openApiViolationHandler);
+            return List.of();
+        }
+    }
+
+    private List<OpenApiViolation> validateRequestSkippingBody(
+        RequestMetaData requestMetaData,
+        @Nullable ResponseMetaData responseMetaData,
+        RunType runType
+    ) {
+        if (runType == RunType.SYNC) {
+            return validator.validateRequestObjectSkippingBody(requestMetaData, responseMetaData);
+        } else {
+            validator.validateRequestObjectSkippingBodyAsync(requestMetaData, responseMetaData, openApiViolationHandler);
             return List.of();
         }
     }
@@ -152,18 +183,30 @@ public class OpenApiValidationWebFilter implements WebFilter {
     private List<OpenApiViolation> validateResponse(
         RequestMetaData requestMetaData,
         @Nullable ResponseMetaData responseMetaData,
-        @Nullable String responseBody,
+        BodyCachingServerHttpResponseDecorator response,
         RunType runType
     ) {
         if (!trafficSelector.canResponseBeValidated(requestMetaData, responseMetaData)) {
             return List.of();
         }
 
+        if (response.isBodyTooLarge()) {
+            if (runType == RunType.SYNC) {
+                return validator.validateResponseObjectSkippingBody(requestMetaData, responseMetaData);
+            } else {
+                validator.validateResponseObjectSkippingBodyAsync(requestMetaData, responseMetaData, openApiViolationHandler);
+                return List.of();
+            }
+        }
+
+        var responseBody = response.getCachedBody();
+
         if (runType == RunType.SYNC) {
-            return validator.validateResponseObject(requestMetaData, responseMetaData, responseBody);
+            return validator
+                .validateResponseObject(requestMetaData, responseMetaData, responseBody, StandardCharsets.UTF_8);
         } else {
-            validator
-                .validateResponseObjectAsync(requestMetaData, responseMetaData, responseBody, openApiViolationHandler);
+            validator.validateResponseObjectAsync(
+                requestMetaData, responseMetaData, responseBody, StandardCharsets.UTF_8, openApiViolationHandler);
             return List.of();
         }
     }
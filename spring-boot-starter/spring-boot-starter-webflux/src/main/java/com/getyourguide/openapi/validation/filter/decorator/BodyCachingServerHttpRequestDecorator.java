@@ -2,69 +2,106 @@ package com.getyourguide.openapi.validation.filter.decorator;
 
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
-import java.nio.charset.StandardCharsets;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
 import org.springframework.lang.NonNull;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.SignalType;
 
 public class BodyCachingServerHttpRequestDecorator extends ServerHttpRequestDecorator {
+    private static final byte[] EMPTY_BODY = new byte[0];
+
     private final TrafficSelector trafficSelector;
     private final RequestMetaData requestMetaData;
+    private final LimitedBodyCollector bodyCollector;
 
-    @Getter
-    private String cachedBody;
+    @Nullable
+    private byte[] cachedBody;
     private boolean bodyCached = false;
 
+    /**
+     * True if the body exceeds {@code maxBodyBytes}. The body is then passed through without being cached.
+     */
+    @Getter
+    private boolean bodyTooLarge;
+
     public BodyCachingServerHttpRequestDecorator(
         ServerHttpRequest delegate,
         TrafficSelector trafficSelector,
         RequestMetaData requestMetaData
+    ) {
+        this(delegate, trafficSelector, requestMetaData, 0);
+    }
+
+    /**
+     * Creates a decorator that caches at most {@code maxBodyBytes} of the body.
+     *
+     * @param maxBodyBytes maximum number of body bytes to cache, 0 for no limit
+     */
+    public BodyCachingServerHttpRequestDecorator(
+        ServerHttpRequest delegate,
+        TrafficSelector trafficSelector,
+        RequestMetaData requestMetaData,
+        int maxBodyBytes
     ) {
         super(delegate);
         this.trafficSelector = trafficSelector;
         this.requestMetaData = requestMetaData;
+        var contentLength = delegate.getHeaders().getContentLength();
+        this.bodyCollector = new LimitedBodyCollector(maxBodyBytes, contentLength);
+        this.bodyTooLarge = bodyCollector.exceedsLimit(contentLength);
+    }
+
+    /**
+     * Reads the whole body so that it is cached for validation and can be replayed to the handler afterwards.
+     *
+     * @return the cached body, empty if there is no body or it is not cached
+     */
+    public Mono<byte[]> consumeRequestBody() {
+        return getBody()
+            .doOnNext(DataBufferUtils::release)
+            .then(Mono.fromSupplier(() -> cachedBody != null ? cachedBody : EMPTY_BODY));
     }
 
-    public Mono<String> consumeRequestBody() {
-        return Mono.from(getBody().collectList())
-            .map(dataBuffers ->
-                dataBuffers.stream()
-                    .map(dataBuffer -> dataBuffer.toString(StandardCharsets.UTF_8))
-                    .collect(Collectors.joining(""))
-            );
+    /**
+     * Returns the cached body once it has been read completely.
+     *
+     * @return the raw body bytes or null if the body was not (completely) read or is not cached
+     */
+    @Nullable
+    public byte[] getCachedBody() {
+        return cachedBody;
     }
 
     @Override
     @NonNull
     public Flux<DataBuffer> getBody() {
         if (bodyCached) {
-            var bufferFactory = new DefaultDataBufferFactory();
-            var bytes = cachedBody.getBytes(StandardCharsets.UTF_8);
-            var buffer = bufferFactory.allocateBuffer(bytes.length);
-            buffer.write(bytes);
-            return Flux.just(buffer);
+            // Wrapping does not copy; a new buffer per subscription keeps read positions independent
+            return cachedBody != null
+                ? Flux.defer(() -> Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(cachedBody)))
+                : Flux.empty();
         }
 
-        if (!trafficSelector.canRequestBeValidated(requestMetaData)) {
+        if (bodyTooLarge || !trafficSelector.canRequestBeValidated(requestMetaData)) {
             return super.getBody();
         }
 
         return super.getBody()
             .doOnNext(dataBuffer -> {
-                if (cachedBody == null) {
-                    cachedBody = "";
+                if (!bodyCollector.collect(dataBuffer)) {
+                    bodyTooLarge = true;
                 }
-                cachedBody += dataBuffer.toString(StandardCharsets.UTF_8);
             })
-            .doFinally(signalType -> {
-                if (signalType == SignalType.ON_COMPLETE) {
+            // Completion is handled before it is propagated, so subscribers can access the cached body right away
+            .doOnComplete(() -> {
+                if (!bodyTooLarge) {
+                    cachedBody = bodyCollector.toByteArray();
                     bodyCached = true;
                 }
             });
@@ -3,54 +3,228 @@ package com.getyourguide.openapi.validation.filter.decorator;
 import com.getyourguide.openapi.validation.api.model.RequestMetaData;
 import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
 import com.getyourguide.openapi.validation.factory.ReactiveMetaDataFactory;
-import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.annotation.Nullable;
 import lombok.Getter;
 import lombok.Setter;
 import org.reactivestreams.Publisher;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class BodyCachingServerHttpResponseDecorator extends ServerHttpResponseDecorator {
+    /**
+     * Maximum number of body bytes held back for {@link #setOnBodyCachedListener(Runnable)} if
+     * {@code maxBodyBytes} is unlimited.
+     */
+    public static final int DEFAULT_MAX_HELD_BODY_BYTES = 1024 * 1024;
 
     private final TrafficSelector trafficSelector;
     private final ReactiveMetaDataFactory metaDataFactory;
     private final RequestMetaData requestMetaData;
+    private final int maxBodyBytes;
+    @Nullable
+    private LimitedBodyCollector bodyCollector;
 
+    /**
+     * Called once the complete body is cached, or once it is known that the body exceeds {@code maxBodyBytes}.
+     *
+     * <p>When set, the body passed to {@link #writeWith(Publisher)} is held back until the listener ran, so it can
+     * still fail the response. At most {@code maxBodyBytes} (or {@link #DEFAULT_MAX_HELD_BODY_BYTES} without a limit)
+     * are held back. The listener is not called for bodies that were written before it could run, see
+     * {@link #isBodyPassedThrough()}.</p>
+     */
     @Setter
     private Runnable onBodyCachedListener;
 
+    @Nullable
+    private byte[] cachedBody;
+    private boolean bodyCached = false;
+
+    /**
+     * True if the body exceeds {@code maxBodyBytes}. The body is then passed through without being cached.
+     */
+    @Getter
+    private boolean bodyTooLarge = false;
+
+    /**
+     * True if the body was written before {@code onBodyCachedListener} could run, because it was streamed with
+     * {@link #writeAndFlushWith(Publisher)} or exceeded the bytes that are held back. The response is committed
+     * then, so violations can only be reported.
+     */
     @Getter
-    private String cachedBody;
+    private boolean bodyPassedThrough = false;
+    private long heldBodyBytes = 0;
 
     public BodyCachingServerHttpResponseDecorator(
         ServerHttpResponse delegate,
         TrafficSelector trafficSelector,
         ReactiveMetaDataFactory metaDataFactory,
         RequestMetaData requestMetaData
+    ) {
+        this(delegate, trafficSelector, metaDataFactory, requestMetaData, 0);
+    }
+
+    /**
+     * Creates a decorator that caches at most {@code maxBodyBytes} of the body.
+     *
+     * @param maxBodyBytes maximum number of body bytes to cache, 0 for no limit
+     */
+    public BodyCachingServerHttpResponseDecorator(
+        ServerHttpResponse delegate,
+        TrafficSelector trafficSelector,
+        ReactiveMetaDataFactory metaDataFactory,
+        RequestMetaData requestMetaData,
+        int maxBodyBytes
     ) {
         super(delegate);
         this.trafficSelector = trafficSelector;
         this.metaDataFactory = metaDataFactory;
         this.requestMetaData = requestMetaData;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    /**
+     * Returns the cached body once it has been written completely.
+     *
+     * @return the raw body bytes or null if the body was not (completely) written or is not cached
+     */
+    @Nullable
+    public byte[] getCachedBody() {
+        return cachedBody;
     }
 
     @Override
     @NonNull
     public Mono<Void> writeWith(@NonNull Publisher<? extends DataBuffer> body) {
+        return Mono.defer(() -> writeWithCaching(body));
+    }
+
+    private Mono<Void> writeWithCaching(Publisher<? extends DataBuffer> body) {
+        if (!shouldCacheBody()) {
+            return super.writeWith(body);
+        }
+
+        if (body instanceof Mono<? extends DataBuffer> mono) {
+            // A single buffer is the complete body, keeping the Mono lets the delegate resolve it before committing
+            return super.writeWith(mono.doOnSuccess(dataBuffer -> {
+                if (dataBuffer != null) {
+                    collect(dataBuffer);
+                }
+                completeCaching();
+            }));
+        }
+
+        if (onBodyCachedListener == null) {
+            return super.writeWith(Flux.from(body).doOnNext(this::collect).doOnComplete(this::completeCaching));
+        }
+
+        // Hold the chunks back until the whole body is cached (or turns out to be too large to hold back), so that the
+        // listener runs before anything is written
+        var maxHeldBodyBytes = maxBodyBytes > 0 ? maxBodyBytes : DEFAULT_MAX_HELD_BODY_BYTES;
+        var heldBody = Flux.from(body)
+            .bufferUntil(dataBuffer -> {
+                collect(dataBuffer);
+                holdBack(dataBuffer, maxHeldBodyBytes);
+                return bodyTooLarge || bodyPassedThrough;
+            })
+            .concatMap(dataBuffers -> bodyTooLarge || bodyPassedThrough
+                ? Flux.fromIterable(dataBuffers)
+                : completeCachingBeforeWriting(dataBuffers))
+            .doOnComplete(() -> {
+                if (!bodyCached && !bodyTooLarge) {
+                    completeCaching();
+                }
+            });
+        return super.writeWith(heldBody);
+    }
+
+    @Override
+    @NonNull
+    public Mono<Void> writeAndFlushWith(@NonNull Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        return Mono.defer(() -> writeAndFlushWithCaching(body));
+    }
+
+    private Mono<Void> writeAndFlushWithCaching(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        // Streamed bodies are flushed chunk by chunk and can't be held back, they are only observed
+        bodyPassedThrough = true;
+        if (!shouldCacheBody()) {
+            return super.writeAndFlushWith(body);
+        }
+
+        var observedBody = Flux.from(body)
+            .map(chunks -> Flux.from(chunks).doOnNext(this::collect))
+            .doOnComplete(this::completeCaching);
+        return super.writeAndFlushWith(observedBody);
+    }
+
+    private boolean shouldCacheBody() {
         var responseMetaData = metaDataFactory.buildResponseMetaData(this);
         if (!trafficSelector.canResponseBeValidated(requestMetaData, responseMetaData)) {
-            return super.writeWith(body);
+            return false;
+        }
+
+        var contentLength = getHeaders().getContentLength();
+        bodyCollector = new LimitedBodyCollector(maxBodyBytes, contentLength);
+        if (bodyCollector.exceedsLimit(contentLength)) {
+            markBodyTooLarge();
+            return false;
+        }
+        return true;
+    }
+
+    private Flux<DataBuffer> completeCachingBeforeWriting(List<? extends DataBuffer> dataBuffers) {
+        try {
+            completeCaching();
+        } catch (RuntimeException e) {
+            dataBuffers.forEach(DataBufferUtils::release);
+            throw e;
+        }
+        return Flux.fromIterable(dataBuffers);
+    }
+
+    private void holdBack(DataBuffer dataBuffer, int maxHeldBodyBytes) {
+        if (bodyTooLarge || bodyPassedThrough) {
+            return;
+        }
+        heldBodyBytes += dataBuffer.readableByteCount();
+        if (heldBodyBytes > maxHeldBodyBytes) {
+            bodyPassedThrough = true;
         }
+    }
 
-        var buffer = Mono.from(body).doOnNext(dataBuffer -> {
-            cachedBody = dataBuffer.toString(StandardCharsets.UTF_8);
-            if (onBodyCachedListener != null) {
-                onBodyCachedListener.run();
-            }
-        });
-        return super.writeWith(buffer);
+    private void collect(DataBuffer dataBuffer) {
+        if (bodyCollector != null && !bodyCollector.collect(dataBuffer)) {
+            markBodyTooLarge();
+        }
+    }
+
+    private void completeCaching() {
+        if (bodyTooLarge) {
+            return;
+        }
+        cachedBody = bodyCollector != null ? bodyCollector.toByteArray() : null;
+        bodyCollector = null;
+        bodyCached = true;
+        notifyBodyCached();
+    }
+
+    private void markBodyTooLarge() {
+        if (bodyTooLarge) {
+            return;
+        }
+        bodyTooLarge = true;
+        bodyCollector = null;
+        notifyBodyCached();
+    }
+
+    private void notifyBodyCached() {
+        if (onBodyCachedListener != null && !bodyPassedThrough) {
+            onBodyCachedListener.run();
+        }
     }
 }
@@ -11,12 +11,19 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 public class DecoratorBuilder {
     private final TrafficSelector trafficSelector;
     private final ReactiveMetaDataFactory metaDataFactory;
+    private final int maxRequestBodyBytes;
+    private final int maxResponseBodyBytes;
+
+    public DecoratorBuilder(TrafficSelector trafficSelector, ReactiveMetaDataFactory metaDataFactory) {
+        this(trafficSelector, metaDataFactory, 0, 0);
+    }
 
     public BodyCachingServerHttpRequestDecorator buildBodyCachingServerHttpRequestDecorator(ServerHttpRequest request, RequestMetaData requestMetaData) {
-        return new BodyCachingServerHttpRequestDecorator(request, trafficSelector, requestMetaData);
+        return new BodyCachingServerHttpRequestDecorator(request, trafficSelector, requestMetaData, maxRequestBodyBytes);
     }
 
     public BodyCachingServerHttpResponseDecorator buildBodyCachingServerHttpResponseDecorator(ServerHttpResponse response, RequestMetaData requestMetaData) {
-        return new BodyCachingServerHttpResponseDecorator(response, trafficSelector, metaDataFactory, requestMetaData);
+        return new BodyCachingServerHttpResponseDecorator(
+            response, trafficSelector, metaDataFactory, requestMetaData, maxResponseBodyBytes);
     }
 }
@@ -0,0 +1,86 @@
+package com.getyourguide.openapi.validation.filter.decorator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.FastByteArrayOutputStream;
+
+/**
+ * Copies the readable bytes of {@link DataBuffer}s passing through, up to a size limit.
+ *
+ * <p>Bytes are appended as blocks, so collecting a body of many chunks does not copy already collected bytes again.
+ * The buffers themselves are neither retained nor consumed.</p>
+ */
+public class LimitedBodyCollector {
+    private static final int DEFAULT_INITIAL_SIZE = 256;
+
+    private final int maxBytes;
+    private final FastByteArrayOutputStream collected;
+
+    @Getter
+    private boolean limitExceeded = false;
+
+    /**
+     * Creates a collector that stops collecting once more than {@code maxBytes} are passed in.
+     *
+     * @param maxBytes maximum number of bytes to collect, 0 for no limit
+     * @param expectedSize expected body size (e.g. from the Content-Length header), -1 if unknown
+     */
+    public LimitedBodyCollector(int maxBytes, long expectedSize) {
+        this.maxBytes = maxBytes;
+        var initialSize = expectedSize > 0 && !exceedsLimit(expectedSize) && expectedSize <= Integer.MAX_VALUE
+            ? (int) expectedSize
+            : DEFAULT_INITIAL_SIZE;
+        this.collected = new FastByteArrayOutputStream(initialSize);
+    }
+
+    /**
+     * Copies the readable bytes of the buffer without changing its read position.
+     *
+     * @return false if the limit is exceeded, collected bytes are discarded in that case
+     */
+    public boolean collect(DataBuffer dataBuffer) {
+        if (limitExceeded) {
+            return false;
+        }
+
+        if (exceedsLimit((long) collected.size() + dataBuffer.readableByteCount())) {
+            limitExceeded = true;
+            collected.reset();
+            return false;
+        }
+
+        try (var iterator = dataBuffer.readableByteBuffers()) {
+            while (iterator.hasNext()) {
+                var byteBuffer = iterator.next();
+                if (byteBuffer.hasArray()) {
+                    collected.write(
+                        byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+                } else {
+                    var bytes = new byte[byteBuffer.remaining()];
+                    byteBuffer.get(bytes);
+                    collected.write(bytes, 0, bytes.length);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the collected bytes, resizing the internal storage to a single block if needed.
+     *
+     * @return the collected bytes or null if nothing was collected
+     */
+    @Nullable
+    public byte[] toByteArray() {
+        return collected.size() > 0 ? collected.toByteArrayUnsafe() : null;
+    }
+
+    public boolean exceedsLimit(long size) {
+        return maxBytes > 0 && size > maxBytes;
+    }
+}
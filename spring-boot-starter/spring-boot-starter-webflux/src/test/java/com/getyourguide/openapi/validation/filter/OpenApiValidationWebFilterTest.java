@@ -1,8 +1,8 @@
 package com.getyourguide.openapi.validation.filter;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
@@ -133,10 +133,24 @@ class OpenApiValidationWebFilterTest {
         verifyResponseValidatedSync(mockData);
     }
 
+    @Test
+    public void testShouldFailOnResponseViolationOnlyReportsPassedThroughBody() {
+        var mockData = mockSetup(
+            MockConfiguration.builder().shouldFailOnResponseViolation(true).responseBodyPassedThrough(true).build());
+
+        var mono = webFilter.filter(mockData.exchange, mockData.chain);
+
+        StepVerifier.create(mono).expectComplete().verify();
+        verifyChainCalled(mockData.chain, mockData.mutatedExchange);
+        verifyRequestValidatedAsync(mockData);
+        verifyResponseValidatedAsync(mockData);
+        verify(validator, never()).validateResponseObject(any(), any(), any(byte[].class), any());
+    }
+
     @Test
     public void testShouldFailOnRequestViolationWithViolation() {
         var mockData = mockSetup(MockConfiguration.builder().shouldFailOnRequestViolation(true).build());
-        when(validator.validateRequestObject(eq(mockData.requestMetaData), any(), eq(REQUEST_BODY)))
+        when(validator.validateRequestObject(eq(mockData.requestMetaData), any(), eq(bytes(REQUEST_BODY)), eq(UTF_8)))
             .thenReturn(List.of(mock(OpenApiViolation.class)));
 
         StepVerifier.create(webFilter.filter(mockData.exchange, mockData.chain))
@@ -154,7 +168,9 @@ class OpenApiValidationWebFilterTest {
         when(
             validator.validateResponseObject(
                 eq(mockData.requestMetaData),
-                eq(mockData.responseMetaData), eq(REQUEST_BODY)
+                eq(mockData.responseMetaData),
+                eq(bytes(RESPONSE_BODY)),
+                eq(UTF_8)
             )
         ).thenReturn(List.of(mock(OpenApiViolation.class)));
 
@@ -171,40 +187,49 @@ class OpenApiValidationWebFilterTest {
     }
 
     private void verifyNoRequestValidation() {
-        verify(validator, never()).validateRequestObjectAsync(any(), any(), anyString(), eq(openApiViolationHandler));
-        verify(validator, never()).validateRequestObject(any(), anyString());
+        verify(validator, never())
+            .validateRequestObjectAsync(any(), any(), any(byte[].class), any(), eq(openApiViolationHandler));
+        verify(validator, never()).validateRequestObject(any(), any(), any(byte[].class), any());
     }
 
     private void verifyNoResponseValidation() {
-        verify(validator, never()).validateResponseObjectAsync(any(), any(), anyString(), eq(openApiViolationHandler));
-        verify(validator, never()).validateResponseObject(any(), any(), anyString());
+        verify(validator, never())
+            .validateResponseObjectAsync(any(), any(), any(byte[].class), any(), eq(openApiViolationHandler));
+        verify(validator, never()).validateResponseObject(any(), any(), any(byte[].class), any());
     }
 
     private void verifyRequestValidatedAsync(MockSetupData mockData) {
         verify(validator).validateRequestObjectAsync(
             eq(mockData.requestMetaData),
             any(),
-            eq(REQUEST_BODY),
+            eq(bytes(REQUEST_BODY)),
+            eq(UTF_8),
             eq(openApiViolationHandler)
         );
     }
 
     private void verifyRequestValidatedSync(MockSetupData mockData) {
-        verify(validator).validateRequestObject(eq(mockData.requestMetaData), any(), eq(REQUEST_BODY));
+        verify(validator)
+            .validateRequestObject(eq(mockData.requestMetaData), any(), eq(bytes(REQUEST_BODY)), eq(UTF_8));
     }
 
     private void verifyResponseValidatedAsync(MockSetupData mockData) {
         verify(validator).validateResponseObjectAsync(
             eq(mockData.requestMetaData),
             eq(mockData.responseMetaData),
-            eq(RESPONSE_BODY),
+            eq(bytes(RESPONSE_BODY)),
+            eq(UTF_8),
             eq(openApiViolationHandler)
         );
     }
 
     private void verifyResponseValidatedSync(MockSetupData mockData) {
-        verify(validator)
-            .validateResponseObject(eq(mockData.requestMetaData), eq(mockData.responseMetaData), eq(RESPONSE_BODY));
+        verify(validator).validateResponseObject(
+            eq(mockData.requestMetaData),
+            eq(mockData.responseMetaData),
+            eq(bytes(RESPONSE_BODY)),
+            eq(UTF_8)
+        );
     }
 
     private void mockTrafficSelectorMethods(
@@ -240,15 +265,16 @@ class OpenApiValidationWebFilterTest {
         when(decoratorBuilder.buildBodyCachingServerHttpRequestDecorator(request, requestMetaData))
             .thenReturn(decoratedRequest);
         when(decoratedRequest.getHeaders()).thenReturn(buildHeadersForBody(configuration.requestBody));
-        when(decoratedRequest.getCachedBody()).thenReturn(configuration.requestBody);
-        when(decoratedRequest.consumeRequestBody()).thenReturn(Mono.just(configuration.requestBody));
+        when(decoratedRequest.getCachedBody()).thenReturn(bytes(configuration.requestBody));
+        when(decoratedRequest.consumeRequestBody()).thenReturn(Mono.just(bytes(configuration.requestBody)));
 
         var decoratedResponse = mock(BodyCachingServerHttpResponseDecorator.class);
         when(decoratorBuilder.buildBodyCachingServerHttpResponseDecorator(response, requestMetaData))
             .thenReturn(decoratedResponse);
         when(decoratedResponse.getHeaders()).thenReturn(buildHeadersForBody(configuration.responseBody));
-        when(decoratedResponse.getCachedBody()).thenReturn(configuration.responseBody);
-        if (configuration.responseBody != null) {
+        when(decoratedResponse.getCachedBody()).thenReturn(bytes(configuration.responseBody));
+        when(decoratedResponse.isBodyPassedThrough()).thenReturn(configuration.responseBodyPassedThrough);
+        if (configuration.responseBody != null && !configuration.responseBodyPassedThrough) {
             doAnswer(invocation -> {
                 invocation.getArgument(0, Runnable.class).run();
                 return null;
@@ -335,6 +361,8 @@ class OpenApiValidationWebFilterTest {
         private String requestBody = REQUEST_BODY;
         @Builder.Default
         private String responseBody = RESPONSE_BODY;
+        @Builder.Default
+        private boolean responseBodyPassedThrough = false;
     }
 
     @Builder
@@ -346,4 +374,8 @@ class OpenApiValidationWebFilterTest {
         ResponseMetaData responseMetaData
     ) {
     }
+
+    private static byte[] bytes(String body) {
+        return body != null ? body.getBytes(UTF_8) : null;
+    }
 }
@@ -0,0 +1,92 @@
+package com.getyourguide.openapi.validation.filter.decorator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import reactor.core.publisher.Flux;
+
+class BodyCachingServerHttpRequestDecoratorTest {
+    // "ü" is two bytes in UTF-8 and gets split across chunks below
+    private static final byte[] BODY = "{\"name\":\"Müller\"}".getBytes(UTF_8);
+
+    private final TrafficSelector trafficSelector = mock();
+
+    @BeforeEach
+    public void setup() {
+        when(trafficSelector.canRequestBeValidated(any())).thenReturn(true);
+    }
+
+    @Test
+    public void testCachesChunkedBodyAndReplaysIt() {
+        var decorator = new BodyCachingServerHttpRequestDecorator(
+            buildChunkedRequest(11), trafficSelector, mock(RequestMetaData.class));
+
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+        assertArrayEquals(BODY, decorator.getCachedBody());
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+    }
+
+    @Test
+    public void testConsumeRequestBodyCachesForLaterReaders() {
+        var decorator = new BodyCachingServerHttpRequestDecorator(
+            buildChunkedRequest(11), trafficSelector, mock(RequestMetaData.class));
+
+        assertArrayEquals(BODY, decorator.consumeRequestBody().block());
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+    }
+
+    @Test
+    public void testDoesNotCacheBodyAboveLimit() {
+        var decorator = new BodyCachingServerHttpRequestDecorator(
+            buildChunkedRequest(11), trafficSelector, mock(RequestMetaData.class), 10);
+
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+        assertTrue(decorator.isBodyTooLarge());
+        assertNull(decorator.getCachedBody());
+    }
+
+    @Test
+    public void testCachesBodyWithinLimit() {
+        var decorator = new BodyCachingServerHttpRequestDecorator(
+            buildChunkedRequest(5), trafficSelector, mock(RequestMetaData.class), BODY.length);
+
+        assertArrayEquals(BODY, readBody(decorator.getBody()));
+        assertFalse(decorator.isBodyTooLarge());
+        assertEquals(BODY.length, decorator.getCachedBody().length);
+    }
+
+    private static MockServerHttpRequest buildChunkedRequest(int chunkSize) {
+        var chunks = Flux.<DataBuffer>create(sink -> {
+            for (int offset = 0; offset < BODY.length; offset += chunkSize) {
+                var chunk = Arrays.copyOfRange(BODY, offset, Math.min(offset + chunkSize, BODY.length));
+                sink.next(DefaultDataBufferFactory.sharedInstance.wrap(chunk));
+            }
+            sink.complete();
+        });
+        return MockServerHttpRequest.post("/test").header("Content-Type", "application/json").body(chunks);
+    }
+
+    private static byte[] readBody(Flux<DataBuffer> body) {
+        var joined = DataBufferUtils.join(body).block();
+        var bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+}
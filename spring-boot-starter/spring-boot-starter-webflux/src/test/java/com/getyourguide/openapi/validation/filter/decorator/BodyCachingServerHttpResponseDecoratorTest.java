@@ -0,0 +1,153 @@
+package com.getyourguide.openapi.validation.filter.decorator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.getyourguide.openapi.validation.api.model.RequestMetaData;
+import com.getyourguide.openapi.validation.api.selector.TrafficSelector;
+import com.getyourguide.openapi.validation.factory.ReactiveMetaDataFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class BodyCachingServerHttpResponseDecoratorTest {
+    private static final byte[] BODY = "{\"name\":\"Müller\",\"items\":[1,2,3]}".getBytes(UTF_8);
+
+    private final TrafficSelector trafficSelector = mock();
+    private final ReactiveMetaDataFactory metaDataFactory = mock();
+    private final MockServerHttpResponse response = new MockServerHttpResponse();
+
+    @BeforeEach
+    public void setup() {
+        when(trafficSelector.canResponseBeValidated(any(), any())).thenReturn(true);
+    }
+
+    @Test
+    public void testCachesAllChunks() {
+        var decorator = buildDecorator(0);
+
+        StepVerifier.create(decorator.writeWith(chunks(7))).verifyComplete();
+
+        assertArrayEquals(BODY, decorator.getCachedBody());
+        assertArrayEquals(BODY, writtenBody());
+    }
+
+    @Test
+    public void testListenerRunsOnceWithFullBodyBeforeWriting() {
+        var decorator = buildDecorator(0);
+        var cachedBodies = new ArrayList<byte[]>();
+        decorator.setOnBodyCachedListener(() -> {
+            assertFalse(response.isCommitted());
+            cachedBodies.add(decorator.getCachedBody());
+        });
+
+        StepVerifier.create(decorator.writeWith(chunks(7))).verifyComplete();
+
+        assertEquals(1, cachedBodies.size());
+        assertArrayEquals(BODY, cachedBodies.getFirst());
+        assertArrayEquals(BODY, writtenBody());
+    }
+
+    @Test
+    public void testListenerFailureFailsWriteWithoutWriting() {
+        var decorator = buildDecorator(0);
+        decorator.setOnBodyCachedListener(() -> {
+            throw new IllegalStateException("violation");
+        });
+
+        StepVerifier.create(decorator.writeWith(chunks(7))).verifyError(IllegalStateException.class);
+
+        assertFalse(response.isCommitted());
+    }
+
+    @Test
+    public void testCachesStreamedChunks() {
+        var decorator = buildDecorator(0);
+        var listenerCalls = new AtomicInteger();
+        decorator.setOnBodyCachedListener(listenerCalls::incrementAndGet);
+
+        StepVerifier.create(decorator.writeAndFlushWith(chunks(7).window(2))).verifyComplete();
+
+        assertEquals(0, listenerCalls.get());
+        assertTrue(decorator.isBodyPassedThrough());
+        assertArrayEquals(BODY, decorator.getCachedBody());
+    }
+
+    @Test
+    public void testPassesThroughBodyAboveHeldBackLimitWithoutListener() {
+        var decorator = buildDecorator(0);
+        var listenerCalls = new AtomicInteger();
+        decorator.setOnBodyCachedListener(listenerCalls::incrementAndGet);
+        var chunkSize = BodyCachingServerHttpResponseDecorator.DEFAULT_MAX_HELD_BODY_BYTES / 2;
+        var largeBody = Flux.range(0, 3).map(i -> DefaultDataBufferFactory.sharedInstance.wrap(new byte[chunkSize]));
+
+        StepVerifier.create(decorator.writeWith(largeBody)).verifyComplete();
+
+        assertEquals(0, listenerCalls.get());
+        assertTrue(decorator.isBodyPassedThrough());
+        assertFalse(decorator.isBodyTooLarge());
+        assertEquals(3 * chunkSize, decorator.getCachedBody().length);
+        assertEquals(3 * chunkSize, writtenBody().length);
+    }
+
+    @Test
+    public void testPassesThroughBodyAboveLimit() {
+        var decorator = buildDecorator(10);
+        var listenerCalls = new AtomicInteger();
+        decorator.setOnBodyCachedListener(listenerCalls::incrementAndGet);
+
+        StepVerifier.create(decorator.writeWith(chunks(7))).verifyComplete();
+
+        assertTrue(decorator.isBodyTooLarge());
+        assertNull(decorator.getCachedBody());
+        assertEquals(1, listenerCalls.get());
+        assertFalse(decorator.isBodyPassedThrough());
+        assertArrayEquals(BODY, writtenBody());
+    }
+
+    private BodyCachingServerHttpResponseDecorator buildDecorator(int maxBodyBytes) {
+        return new BodyCachingServerHttpResponseDecorator(
+            response, trafficSelector, metaDataFactory, mock(RequestMetaData.class), maxBodyBytes);
+    }
+
+    private static Flux<DataBuffer> chunks(int chunkSize) {
+        var chunks = new ArrayList<byte[]>();
+        for (int offset = 0; offset < BODY.length; offset += chunkSize) {
+            chunks.add(Arrays.copyOfRange(BODY, offset, Math.min(offset + chunkSize, BODY.length)));
+        }
+        return Flux.fromIterable(chunks).map(DefaultDataBufferFactory.sharedInstance::wrap);
+    }
+
+    private byte[] writtenBody() {
+        List<byte[]> written = response.getBody()
+            .map(dataBuffer -> {
+                var bytes = new byte[dataBuffer.readableByteCount()];
+                dataBuffer.read(bytes);
+                return bytes;
+            })
+            .collectList()
+            .block();
+        var result = new byte[written.stream().mapToInt(bytes -> bytes.length).sum()];
+        var offset = 0;
+        for (var bytes : written) {
+            System.arraycopy(bytes, 0, result, offset, bytes.length);
+            offset += bytes.length;
+        }
+        return result;
+    }
+}
@@ -77,7 +77,7 @@ public class ExceptionsWithExceptionHandlerTest {
             .exchange()
             .expectStatus().is5xxServerError()
             .expectBody().isEmpty();
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         // Note: We return no body on purpose in the exception handler below to test this violation appears.
         assertEquals(1, openApiViolationLogger.getViolations().size());
@@ -89,7 +89,7 @@ public class FailOnViolationIntegrationTest {
             .jsonPath("$.status").isEqualTo(500)
             .jsonPath("$.path").isEqualTo("/test")
             .jsonPath("$.error").isEqualTo("Internal Server Error");
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -63,7 +63,7 @@ public class OpenApiValidationIntegrationTest {
                 assertNotNull(serverResponse.getResponseBody());
                 assertEquals("invalid-response-value!", serverResponse.getResponseBody().getValue());
             });
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -82,7 +82,7 @@ public class OpenApiValidationIntegrationTest {
             .exchange()
             .expectStatus().isNoContent()
             .expectBody().isEmpty();
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(1);
 
         assertEquals(1, openApiViolationLogger.getViolations().size());
         var violation = openApiViolationLogger.getViolations().get(0);
@@ -106,7 +106,7 @@ public class OpenApiValidationIntegrationTest {
                 assertNotNull(serverResponse.getResponseBody());
                 assertEquals("1", serverResponse.getResponseBody().getValue());
             });
-        Thread.sleep(100);
+        openApiViolationLogger.waitForViolations(2);
 
         var violations = openApiViolationLogger.getViolations();
         assertEquals(2, violations.size());
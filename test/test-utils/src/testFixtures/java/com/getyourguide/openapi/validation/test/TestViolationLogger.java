@@ -2,13 +2,17 @@ package com.getyourguide.openapi.validation.test;
 
 import com.getyourguide.openapi.validation.api.log.ViolationLogger;
 import com.getyourguide.openapi.validation.api.model.OpenApiViolation;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import lombok.Getter;
 
 @Getter
 public class TestViolationLogger implements ViolationLogger {
-    private final List<OpenApiViolation> violations = new ArrayList<>();
+    private static final long WAIT_TIMEOUT_MILLIS = 5_000;
+    private static final long WAIT_INTERVAL_MILLIS = 10;
+
+    // Violations are logged from the async validation threads
+    private final List<OpenApiViolation> violations = new CopyOnWriteArrayList<>();
 
     @Override
     public void log(OpenApiViolation violation) {
@@ -18,4 +22,15 @@ public class TestViolationLogger implements ViolationLogger {
     public void clearViolations() {
         violations.clear();
     }
+
+    /**
+     * Waits until at least the given number of violations got logged, as async validation can take a while on a cold
+     * JVM. Returns after a timeout so that the assertions afterwards report the mismatch.
+     */
+    public void waitForViolations(int count) throws InterruptedException {
+        var deadline = System.currentTimeMillis() + WAIT_TIMEOUT_MILLIS;
+        while (violations.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(WAIT_INTERVAL_MILLIS);
+        }
+    }
 }